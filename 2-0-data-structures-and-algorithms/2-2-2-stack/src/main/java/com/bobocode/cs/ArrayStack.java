@@ -0,0 +1,139 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. Unlike {@link LinkedStack}, it does not
+ * create a new node on every push. It stores elements in an {@code Object[]} from the bottom to the top, so the top of
+ * the stack is the element at index {@code size - 1}, and both push and pop work with the end of the array.
+ * <p>
+ * When the array is full, push creates a new array twice as big and copies the elements there. Since the array size
+ * grows exponentially, each element is copied only a constant number of times on average, so push takes amortized
+ * O(1) time.
+ * <p>
+ * A stack can also be created as shrinkable. In this case, when pop leaves the array only a quarter full, the array is
+ * shrunk in half (but never below the initial capacity). It is shrunk at a quarter and not at a half, so that a series
+ * of push and pop calls around the boundary does not resize the array every time.
+ * <p>
+ * Pop always clears the cell of the popped element, so the stack does not keep references to the objects that are not
+ * on it anymore.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+
+    /**
+     * This method creates a stack of provided elements. The last element is on top of the stack.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> ArrayStack<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a stack with a default initial capacity 10, that never shrinks.
+     */
+    public ArrayStack() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a stack with a given initial capacity, that never shrinks.
+     *
+     * @param initialCapacity the length of the initial array
+     * @throws IllegalArgumentException if initial capacity is not positive
+     */
+    public ArrayStack(int initialCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a stack with a given initial capacity.
+     *
+     * @param initialCapacity the length of the initial array
+     * @param shrinkable      whether the array should be shrunk when the stack is a quarter full
+     * @throws IllegalArgumentException if initial capacity is not positive
+     */
+    public ArrayStack(int initialCapacity, boolean shrinkable) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. If the array is full, it grows twice.
+     *
+     * @param element elements to add
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method removes the object at the top of this stack and returns that object as the value of this function.
+     * It clears the array cell, and shrinks the array if the stack is shrinkable.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the stack elements from the top to the bottom (in the same order as pop() returns them),
+     * so it goes through the array from index {@code size - 1} down to 0. The iterator is fail-fast: its method next()
+     * throws {@link ConcurrentModificationException} if the stack was modified by push() or pop() after the iterator
+     * was created.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process stack elements in parallel. Since elements are stored in
+     * an array, it splits the remaining range of indexes in half without copying them. It goes from the top to the
+     * bottom, the same as the iterator.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
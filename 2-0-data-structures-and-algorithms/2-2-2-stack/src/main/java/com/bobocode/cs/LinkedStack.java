@@ -3,6 +3,10 @@ package com.bobocode.cs;
 import com.bobocode.cs.exception.EmptyStackException;
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
  * {@link LinkedStack} is a stack implementation that is based on singly linked generic nodes.
  * A node is implemented as inner static class {@link Node<T>}.
@@ -70,4 +74,30 @@ public class LinkedStack<T> implements Stack<T> {
         throw new ExerciseNotCompletedException(); // todo: implement this method;
     }
 
+    /**
+     * Returns an iterator over the stack elements from the top to the bottom (in the same order as pop() returns them).
+     * It simply follows the next references of the nodes, so the whole iteration takes O(n). The iterator is fail-fast.
+     * The stack keeps a counter of structural modifications (modCount) that is incremented by push() and pop(). The
+     * iterator remembers its value when it's created, and its method next() throws
+     * {@link ConcurrentModificationException} if the stack was modified after that.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process stack elements in parallel. Linked nodes cannot be split
+     * in half without walking through them, so it should be based on the stack iterator and its size, e.g. created via
+     * {@link java.util.Spliterators#spliterator(Iterator, long, int)}. Such spliterator reports its exact size, and
+     * splits itself by copying batches of elements into arrays that are processed by other threads.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
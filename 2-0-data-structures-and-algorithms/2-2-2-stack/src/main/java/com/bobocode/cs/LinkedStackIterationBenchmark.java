@@ -0,0 +1,46 @@
+package com.bobocode.cs;
+
+import java.util.function.Supplier;
+
+/**
+ * This demo sums up ten million elements of {@link LinkedStack} in three ways: using a for-each loop (which is based on
+ * {@link LinkedStack#iterator()}), using {@link LinkedStack#stream()} and using {@link LinkedStack#parallelStream()}.
+ * <p>
+ * Run it once you've implemented the iterator and the spliterator. A spliterator of linked nodes can only split by
+ * copying batches of elements into arrays, so a parallel stream helps less than for an array-based list, and the gain
+ * depends on how much work is done per element.
+ */
+public class LinkedStackIterationBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        var stack = new LinkedStack<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            stack.push(i);
+        }
+
+        System.out.println("for-each");
+        performNTimes(N, () -> {
+            long sum = 0;
+            for (var element : stack) {
+                sum += element;
+            }
+            return sum;
+        });
+
+        System.out.println("\nstream()");
+        performNTimes(N, () -> stack.stream().mapToLong(Integer::longValue).sum());
+
+        System.out.println("\nparallelStream(), available processors: " + Runtime.getRuntime().availableProcessors());
+        performNTimes(N, () -> stack.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+}
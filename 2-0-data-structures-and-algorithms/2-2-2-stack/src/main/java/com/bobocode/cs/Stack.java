@@ -1,5 +1,8 @@
 package com.bobocode.cs;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * {@link Stack} is a fundamental data structure that follows last-in-first-out (LIFO) principle. This interface
  * represents a simple contact, that can be implemented in various ways (e.g. using existing collections, arrays or
@@ -9,7 +12,7 @@ package com.bobocode.cs;
  * @author Taras Boychuk
  * @author Serhii Hryhus
  */
-public interface Stack<T> {
+public interface Stack<T> extends Iterable<T> {
 
     void push(T element);
 
@@ -18,4 +21,23 @@ public interface Stack<T> {
     int size();
 
     boolean isEmpty();
+
+    /**
+     * Returns a sequential {@link Stream} with the elements of this stack. It is based on {@link #spliterator()}.
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} with the elements of this stack. It is based on {@link #spliterator()}, so
+     * the work is split across the threads only if the spliterator can split itself.
+     *
+     * @return a parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,92 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares the stack implementations. First, one thread does fifty million push/pop pairs on a stack that
+ * stays about a thousand elements deep, the way an explicit stack is used instead of recursion. It runs on
+ * {@link LinkedStack} and {@link ArrayStack}. Then four threads do the same pairs concurrently on {@link LinkedStack}
+ * guarded by {@code synchronized}, on {@link TreiberStack} without the elimination backoff and on {@link TreiberStack}
+ * with it.
+ * <p>
+ * Run it once you've implemented the stacks. {@link ArrayStack} does not allocate anything once its array is big
+ * enough, while {@link LinkedStack} allocates a node on every push. Under contention {@link TreiberStack} threads never
+ * wait for a lock, and the elimination backoff lets a push and a pop complete without touching the top at all. The
+ * difference is bigger on a machine with many cores.
+ */
+public class StackBenchmark {
+    static final int DEPTH = 1_000;
+    static final int PAIRS = 50_000_000;
+    static final int THREADS = 4;
+    static final int N = 3;
+
+    public static void main(String[] args) {
+        System.out.println("LinkedStack, 1 thread");
+        performNTimes(N, 1, LinkedStack::new);
+
+        System.out.println("\nArrayStack, 1 thread");
+        performNTimes(N, 1, ArrayStack::new);
+
+        System.out.println("\navailable processors: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("synchronized LinkedStack, " + THREADS + " threads");
+        performNTimes(N, THREADS, SynchronizedStack::new);
+
+        System.out.println("\nTreiberStack without elimination, " + THREADS + " threads");
+        performNTimes(N, THREADS, () -> new TreiberStack<>(0));
+
+        System.out.println("\nTreiberStack with elimination, " + THREADS + " threads");
+        performNTimes(N, THREADS, TreiberStack::new);
+    }
+
+    static void performNTimes(int n, int threads, Supplier<Stack<Integer>> stackSupplier) {
+        for (int i = 0; i < n; i++) {
+            var stack = stackSupplier.get();
+            for (int j = 0; j < DEPTH; j++) {
+                stack.push(j);
+            }
+            long start = System.nanoTime();
+            long sum = pushAndPop(stack, threads);
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+
+    static long pushAndPop(Stack<Integer> stack, int threads) {
+        var done = new CountDownLatch(threads);
+        var sums = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < PAIRS / threads; i++) {
+                    stack.push(i & 127);
+                    sum += stack.pop();
+                }
+                sums[thread] = sum;
+                done.countDown();
+            }).start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long sum = 0;
+        for (long threadSum : sums) {
+            sum += threadSum;
+        }
+        return sum;
+    }
+
+    static class SynchronizedStack<T> extends LinkedStack<T> {
+        @Override
+        public synchronized void push(T element) {
+            super.push(element);
+        }
+
+        @Override
+        public synchronized T pop() {
+            return super.pop();
+        }
+    }
+}
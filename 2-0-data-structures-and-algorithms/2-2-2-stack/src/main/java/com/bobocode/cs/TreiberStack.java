@@ -0,0 +1,131 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link TreiberStack} is a lock-free stack implementation that is safe to use from many threads (R. Kent Treiber's
+ * algorithm). It is based on immutable singly linked nodes, and the only mutable state is a reference to the top node.
+ * <ul>
+ * <li>push creates a new node that points to the current top, and replaces the top with a CAS. If another thread has
+ * changed the top in the meantime, the CAS fails, and it tries again with a new top</li>
+ * <li>pop reads the top, and replaces it with its next node with a CAS, retrying the same way</li>
+ * </ul>
+ * The top is accessed via a static {@link java.lang.invoke.VarHandle}. Every node also stores the size of the stack
+ * below and including it, so {@link TreiberStack#size()} takes a constant time and is always consistent with the top.
+ * <p>
+ * When many threads work with the same top, most CAS attempts fail. To reduce the contention the stack uses an
+ * <strong>elimination backoff</strong>: after a failed CAS a thread goes to a random slot of a small elimination array
+ * instead of retrying right away. A pushing thread puts its element into an empty slot and waits for a short time.
+ * If a popping thread comes to the same slot, it takes the element with a CAS, and both operations complete without
+ * touching the top at all (a push followed by a pop leaves the stack unchanged). If nobody comes, the pushing thread
+ * takes its element back with a CAS and retries on the top.
+ * <p>
+ * This implementation does not support null elements.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> generic type parameter
+ */
+public class TreiberStack<T> implements Stack<T> {
+
+    /**
+     * This method creates a stack of provided elements. The last element is on top of the stack.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> TreiberStack<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a stack with an elimination array of the size that equals the number of available processors.
+     */
+    public TreiberStack() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a stack with an elimination array of a given size.
+     *
+     * @param eliminationArraySize the number of elimination slots; 0 disables the elimination backoff
+     * @throws IllegalArgumentException if elimination array size is negative
+     */
+    public TreiberStack(int eliminationArraySize) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. It is safe to call it from many threads.
+     *
+     * @param element elements to add
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void push(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * This method removes the object at the top of this stack and returns that object as the value of this function.
+     * It is safe to call it from many threads.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the size stored in the top node.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the stack elements from the top to the bottom. Nodes are immutable, so the iterator
+     * simply reads the top once and follows the next references. It never throws
+     * {@link java.util.ConcurrentModificationException}, and returns a snapshot of the stack at the moment it was
+     * created, no matter what other threads do.
+     *
+     * @return a snapshot iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the same snapshot as the iterator. Its size is taken from the snapshot top
+     * node, so it should be created via {@link java.util.Spliterators#spliterator(Iterator, long, int)} and report
+     * {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL} characteristics.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,320 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A reflection-based test class for {@link ArrayStack}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+    private static final Predicate<Field> ARRAY_FIELD_PREDICATE = field -> field.getType().equals(Object[].class);
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("ArrayStack class has a field that stores elements in an array")
+    void checkArrayField() {
+        boolean hasArrayField = Arrays.stream(ArrayStack.class.getDeclaredFields())
+                .anyMatch(ARRAY_FIELD_PREDICATE);
+
+        assertThat(hasArrayField).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Default constructor creates an array of length 10")
+    void defaultCapacity() {
+        assertThat(getInternalArray(intStack).length).isEqualTo(10);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor creates an array of a given capacity")
+    void initialCapacity() {
+        assertThat(getInternalArray(new ArrayStack<Integer>(3)).length).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Constructor throws exception when capacity is not positive")
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayStack<Integer>(-1, true));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method of() creates a new ArrayStack with the last element on top")
+    void of() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method push() stores elements in the array from the bottom to the top")
+    void pushStoresElementsInArray() {
+        fillTestStack(10, 15, 20);
+
+        assertThat(Arrays.copyOf(getInternalArray(intStack), 3)).containsExactly(10, 15, 20);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method pop() returns elements in LIFO order")
+    void popReturnsElementsInLifoOrder() {
+        fillTestStack(10, 15, 20);
+
+        assertThat(intStack.pop()).isEqualTo(20);
+        assertThat(intStack.pop()).isEqualTo(15);
+        assertThat(intStack.pop()).isEqualTo(10);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Method pop() throws exception when stack is empty")
+    void popElementWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Method pop() clears the array cell of the popped element")
+    void popClearsArrayCell() {
+        fillTestStack(10, 15, 20);
+
+        intStack.pop();
+
+        assertThat(getInternalArray(intStack)[2]).isNull();
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method push() grows the array twice when it is full")
+    void pushGrowsArrayWhenItIsFull() {
+        intStack = new ArrayStack<>(4);
+        fillTestStack(1, 2, 3, 4, 5);
+
+        assertThat(getInternalArray(intStack).length).isEqualTo(8);
+        assertThat(Arrays.copyOf(getInternalArray(intStack), 5)).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Method push() keeps all elements after the array grows many times")
+    void pushKeepsElementsAfterGrowing() {
+        intStack = new ArrayStack<>(1);
+        fillTestStack(IntStream.range(0, 1000).toArray());
+
+        for (int i = 999; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Method pop() does not shrink the array by default")
+    void popDoesNotShrinkArrayByDefault() {
+        intStack = new ArrayStack<>(4);
+        fillTestStack(IntStream.range(0, 64).toArray());
+
+        IntStream.range(0, 63).forEach(i -> intStack.pop());
+
+        assertThat(getInternalArray(intStack).length).isEqualTo(64);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Method pop() shrinks the array in half when a shrinkable stack is a quarter full")
+    void popShrinksArrayWhenStackIsQuarterFull() {
+        intStack = new ArrayStack<>(4, true);
+        fillTestStack(IntStream.range(0, 64).toArray());
+
+        IntStream.range(0, 47).forEach(i -> intStack.pop());
+        assertThat(getInternalArray(intStack).length).isEqualTo(64);
+
+        intStack.pop();
+        assertThat(getInternalArray(intStack).length).isEqualTo(32);
+        assertThat(Arrays.copyOf(getInternalArray(intStack), 16))
+                .containsExactly(IntStream.range(0, 16).boxed().toArray());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Method pop() never shrinks the array below the initial capacity")
+    void popDoesNotShrinkArrayBelowInitialCapacity() {
+        intStack = new ArrayStack<>(8, true);
+        fillTestStack(IntStream.range(0, 64).toArray());
+
+        IntStream.range(0, 64).forEach(i -> intStack.pop());
+
+        assertThat(getInternalArray(intStack).length).isEqualTo(8);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Method size() returns correct value when elements were pushed and popped")
+    void size() {
+        fillTestStack(1, 2, 3, 4, 5);
+        intStack.pop();
+
+        assertThat(intStack.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Method isEmpty() returns correct value")
+    void isEmpty() {
+        assertThat(intStack.isEmpty()).isTrue();
+
+        intStack.push(1);
+        assertThat(intStack.isEmpty()).isFalse();
+
+        intStack.pop();
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Iterator returns all elements from the top to the bottom")
+    void iteratorReturnsAllElements() {
+        fillTestStack(1, 2, 3);
+
+        assertThat(iterate(intStack)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Iterator throws exception when there are no elements left")
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        fillTestStack(1);
+        Iterator<Integer> iterator = intStack.iterator();
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Iterator throws exception when the stack was modified by push()")
+    void iteratorIsFailFastWhenElementIsPushed() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+        iterator.next();
+
+        intStack.push(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Iterator throws exception when the stack was modified by pop()")
+    void iteratorIsFailFastWhenElementIsPopped() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+        iterator.next();
+
+        intStack.pop();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Spliterator splits the elements in half keeping their order")
+    void spliteratorSplitsElements() {
+        fillTestStack(IntStream.range(0, 2000).toArray());
+        Spliterator<Integer> spliterator = intStack.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize()).isEqualTo(1000L);
+        assertThat(spliterator.estimateSize()).isEqualTo(1000L);
+        assertThat(traverse(prefix)[0]).isEqualTo(1999);
+        assertThat(traverse(spliterator)[0]).isEqualTo(999);
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Method stream() returns all elements in the proper order")
+    void streamReturnsAllElements() {
+        fillTestStack(1, 2, 3);
+
+        assertThat(intStack.stream().toArray()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Method parallelStream() returns a parallel stream of all elements")
+    void parallelStreamProcessesAllElements() {
+        fillTestStack(IntStream.range(0, 2000).toArray());
+
+        assertThat(intStack.parallelStream().isParallel()).isTrue();
+        assertThat(intStack.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray(ArrayStack<?> stack) {
+        Field field = Arrays.stream(ArrayStack.class.getDeclaredFields())
+                .filter(ARRAY_FIELD_PREDICATE)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return (Object[]) field.get(stack);
+    }
+
+    private void fillTestStack(int... elements) {
+        for (int element : elements) {
+            intStack.push(element);
+        }
+    }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
+}
@@ -7,7 +7,13 @@ import org.junit.jupiter.api.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -292,9 +298,120 @@ class LinkedStackTest {
         assertThat(stackEmpty).isEqualTo(true);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Iterator returns all elements in the proper order")
+    void iteratorReturnsAllElements() {
+        fillTestStack(1, 2, 3);
+
+        assertThat(iterate(intStack)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Iterator of an empty stack has no elements")
+    void iteratorOfEmptyStack() {
+        Iterator<Integer> iterator = intStack.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Iterator throws exception when there are no elements left")
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Iterator throws exception when the stack was modified by push()")
+    void iteratorIsFailFastWhenElementIsPushed() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+        iterator.next();
+
+        intStack.push(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(28)
+    @DisplayName("Iterator throws exception when the stack was modified by pop()")
+    void iteratorIsFailFastWhenElementIsPopped() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+        iterator.next();
+
+        intStack.pop();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(29)
+    @DisplayName("Spliterator knows the exact number of elements")
+    void spliteratorIsSized() {
+        fillTestStack(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intStack.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(30)
+    @DisplayName("Spliterator splits the elements keeping their order")
+    void spliteratorSplitsElements() {
+        fillTestStack(IntStream.range(0, 2000).map(i -> 1999 - i).toArray());
+        Spliterator<Integer> spliterator = intStack.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(2000L);
+        Object[] prefixElements = traverse(prefix);
+        Object[] suffixElements = traverse(spliterator);
+        assertThat(prefixElements.length + suffixElements.length).isEqualTo(2000);
+        assertThat(prefixElements[0]).isEqualTo(0);
+        assertThat(suffixElements[0]).isEqualTo(prefixElements.length);
+    }
+
+    @Test
+    @Order(31)
+    @DisplayName("Method stream() returns all elements in the proper order")
+    void streamReturnsAllElements() {
+        fillTestStack(1, 2, 3);
+
+        assertThat(intStack.stream().toArray()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @Order(32)
+    @DisplayName("Method parallelStream() returns a parallel stream of all elements")
+    void parallelStreamProcessesAllElements() {
+        fillTestStack(IntStream.range(0, 2000).map(i -> 1999 - i).toArray());
+
+        assertThat(intStack.parallelStream().isParallel()).isTrue();
+        assertThat(intStack.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
     private Class<?> getInnerClass() {
         return Arrays.stream(LinkedStack.class.getDeclaredClasses())
                 .filter(Class::isMemberClass)
+                .filter(aClass -> !Iterator.class.isAssignableFrom(aClass))
+                .filter(aClass -> !Spliterator.class.isAssignableFrom(aClass))
                 .findAny().orElseThrow();
     }
 
@@ -411,4 +528,18 @@ class LinkedStackTest {
     private int getInnerSize() {
         return (int) getInnerSizeField().get(intStack);
     }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
 }
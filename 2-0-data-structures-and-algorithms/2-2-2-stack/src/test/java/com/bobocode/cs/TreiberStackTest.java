@@ -0,0 +1,224 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A test class for {@link TreiberStack}. Besides the single-threaded behaviour it runs a simple stress harness: threads
+ * push and pop elements concurrently, and the test checks that no element is lost or popped twice.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TreiberStackTest {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    private Stack<Integer> intStack = new TreiberStack<>();
+
+    @Test
+    @Order(1)
+    @DisplayName("TreiberStack class uses a VarHandle to update the top")
+    void stackUsesVarHandle() {
+        boolean hasVarHandle = Arrays.stream(TreiberStack.class.getDeclaredFields())
+                .anyMatch(field -> field.getType().equals(VarHandle.class) && Modifier.isStatic(field.getModifiers()));
+
+        assertThat(hasVarHandle).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("TreiberStack class does not use locks")
+    void stackDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(TreiberStack.class.getDeclaredMethods())
+                .map(Method::getModifiers)
+                .anyMatch(Modifier::isSynchronized);
+        boolean hasLockFields = Arrays.stream(TreiberStack.class.getDeclaredFields())
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Constructor throws exception when elimination array size is negative")
+    void constructorThrowsExceptionWhenEliminationArraySizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new TreiberStack<Integer>(-1));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Method of() creates a new TreiberStack with the last element on top")
+    void of() {
+        intStack = TreiberStack.of(1, 2, 3);
+
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Method push() throws exception when element is null")
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Method pop() throws exception when stack is empty")
+    void popElementWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Method size() returns correct value when elements were pushed and popped")
+    void size() {
+        fillTestStack(1, 2, 3, 4, 5);
+        intStack.pop();
+
+        assertThat(intStack.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Method isEmpty() returns correct value")
+    void isEmpty() {
+        assertThat(intStack.isEmpty()).isTrue();
+
+        intStack.push(1);
+        assertThat(intStack.isEmpty()).isFalse();
+
+        intStack.pop();
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Iterator returns a snapshot of elements from the top to the bottom")
+    void iteratorReturnsSnapshot() {
+        fillTestStack(1, 2, 3);
+        Iterator<Integer> iterator = intStack.iterator();
+
+        intStack.pop();
+        intStack.push(4);
+
+        assertThat(Stream.generate(iterator::next).limit(3)).containsExactly(3, 2, 1);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Spliterator is sized and immutable")
+    void spliteratorIsSizedAndImmutable() {
+        fillTestStack(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intStack.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.IMMUTABLE)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Method stream() returns all elements in the proper order")
+    void streamReturnsAllElements() {
+        fillTestStack(1, 2, 3);
+
+        assertThat(intStack.stream().toArray()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Concurrent push() does not lose elements")
+    void concurrentPushDoesNotLoseElements() {
+        runConcurrently(IntStream.range(0, THREADS)
+                .mapToObj(thread -> (Runnable) () -> pushThreadElements(intStack, thread))
+                .toArray(Runnable[]::new));
+
+        assertThat(intStack.size()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(intStack.stream().distinct().count()).isEqualTo(THREADS * ELEMENTS_PER_THREAD);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    @Order(13)
+    @DisplayName("Concurrent push() and pop() return every element exactly once")
+    void concurrentPushAndPopReturnEveryElementOnce(int eliminationArraySize) {
+        var stack = new TreiberStack<Integer>(eliminationArraySize);
+        var popped = new AtomicIntegerArray(THREADS * ELEMENTS_PER_THREAD);
+
+        runConcurrently(IntStream.range(0, THREADS)
+                .mapToObj(thread -> (Runnable) () -> {
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        stack.push(thread * ELEMENTS_PER_THREAD + i);
+                        popped.incrementAndGet(stack.pop());
+                    }
+                })
+                .toArray(Runnable[]::new));
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(IntStream.range(0, popped.length()).map(popped::get)).containsOnly(1);
+    }
+
+    private void pushThreadElements(Stack<Integer> stack, int thread) {
+        for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+            stack.push(thread * ELEMENTS_PER_THREAD + i);
+        }
+    }
+
+    @SneakyThrows
+    private void runConcurrently(Runnable... tasks) {
+        var executor = Executors.newFixedThreadPool(tasks.length);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (var task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void fillTestStack(int... elements) {
+        for (int element : elements) {
+            intStack.push(element);
+        }
+    }
+}
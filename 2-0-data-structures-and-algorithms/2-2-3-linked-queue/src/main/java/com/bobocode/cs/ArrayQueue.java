@@ -0,0 +1,142 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link ArrayQueue} implements FIFO {@link Queue} on top of a circular buffer (a ring buffer). Unlike
+ * {@link LinkedQueue}, it does not create a new node for every element. It stores elements in a single array, and keeps
+ * the index of the {@code head} (the next element to poll) and the number of elements ({@code size}). When an index
+ * reaches the end of the array, it wraps around to the beginning.
+ * <p>
+ * The length of the array is always a power of two. So instead of a slow remainder operation
+ * {@code index % elements.length}, an index is wrapped around with a bit mask {@code index & (elements.length - 1)}.
+ * A polled cell is set to null, so the queue does not keep references to the elements that were already polled.
+ * <p>
+ * What happens when the array is full depends on the {@link OverflowPolicy}:
+ * <ul>
+ * <li>{@link OverflowPolicy#GROW} (default) – the queue creates a new array twice as big, and copies the elements
+ * there starting from the head, so they are not wrapped around anymore</li>
+ * <li>{@link OverflowPolicy#REJECT} – the queue is bounded, and add throws {@link IllegalStateException}</li>
+ * <li>{@link OverflowPolicy#BLOCK} – the queue is bounded, and add waits until some element is polled. In this mode
+ * the queue is used by different threads, so all methods are guarded by the queue monitor ({@code synchronized}),
+ * and a waiting producer is woken up with {@link Object#notifyAll()} by poll</li>
+ * </ul>
+ * In modes GROW and REJECT the queue is not thread-safe. This implementation does not support null elements.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayQueue<T> implements Queue<T> {
+
+    /**
+     * Defines what {@link ArrayQueue#add(Object)} does when there is no free space in the array.
+     */
+    public enum OverflowPolicy {
+        GROW, REJECT, BLOCK
+    }
+
+    /**
+     * Creates a growing queue with a default initial capacity 16.
+     */
+    public ArrayQueue() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a growing queue with a given initial capacity. The length of the array is rounded up to the closest
+     * power of two.
+     *
+     * @param initialCapacity the initial number of elements the queue can hold without growing
+     * @throws IllegalArgumentException if initial capacity is not positive
+     */
+    public ArrayQueue(int initialCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates a queue with a given capacity and overflow policy. The length of the array is rounded up to the closest
+     * power of two, but a bounded queue (REJECT or BLOCK) never holds more elements than the given capacity.
+     *
+     * @param capacity the initial capacity of a growing queue, or the max number of elements of a bounded one
+     * @param policy   what to do when the queue is full
+     * @throws IllegalArgumentException if capacity is not positive
+     * @throws NullPointerException     if policy is null
+     */
+    public ArrayQueue(int capacity, OverflowPolicy policy) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the queue. If the queue is full, it grows the array, throws an exception or waits
+     * depending on the {@link OverflowPolicy}.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if element is null
+     * @throws IllegalStateException if the queue is full and the policy is {@link OverflowPolicy#REJECT}
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head, and clears its cell in the array.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the queue elements from the head to the tail. It goes through {@code size} cells
+     * starting from the head, and wraps the index around using the bit mask. The iterator is fail-fast: it throws
+     * {@link ConcurrentModificationException} if the queue was modified by add() or poll() after the iterator was
+     * created.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process queue elements in parallel. Since elements are stored in
+     * an array, it can split the remaining range of positions in half without copying them, the same as the
+     * spliterator of {@link java.util.ArrayDeque}.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
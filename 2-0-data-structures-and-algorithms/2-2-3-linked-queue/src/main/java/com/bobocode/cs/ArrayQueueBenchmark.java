@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares {@link ArrayQueue} and {@link LinkedQueue}. For each queue it adds ten million elements and polls
+ * them back, and then it keeps a short queue of 64 elements (adding and polling one element at a time) for ten million
+ * operations. It prints the time and the number of bytes allocated by the current thread, measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * Run it once you've implemented both queues. Elements are taken from the {@link Integer} cache, so the allocations
+ * come from the queues themselves. {@link LinkedQueue} allocates a new node for every element, while {@link ArrayQueue}
+ * allocates only when it grows, and nothing at all in the steady state.
+ */
+public class ArrayQueueBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int STEADY_SIZE = 64;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        System.out.println("LinkedQueue: add all, then poll all");
+        performNTimes(N, () -> addAllThenPollAll(new LinkedQueue<>()));
+
+        System.out.println("\nArrayQueue: add all, then poll all");
+        performNTimes(N, () -> addAllThenPollAll(new ArrayQueue<>()));
+
+        System.out.println("\nLinkedQueue: steady state");
+        performNTimes(N, () -> addAndPoll(new LinkedQueue<>()));
+
+        System.out.println("\nArrayQueue: steady state");
+        performNTimes(N, () -> addAndPoll(new ArrayQueue<>()));
+    }
+
+    static long addAllThenPollAll(Queue<Integer> queue) {
+        for (int i = 0; i < SIZE; i++) {
+            queue.add(i & 127);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    static long addAndPoll(Queue<Integer> queue) {
+        for (int i = 0; i < STEADY_SIZE; i++) {
+            queue.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            queue.add(i & 127);
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < n; i++) {
+            long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            long allocatedMb = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / (1024 * 1024);
+            System.out.println(millis + " ms, " + allocatedMb + " MB allocated (sum " + sum + ")");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * This demo passes ten million elements from producer threads to a single consumer thread through three queues:
+ * {@link LinkedQueue} guarded by {@code synchronized}, {@link MpscLinkedQueue} and {@link MpmcArrayQueue}. It repeats
+ * the run with 1, 2, 4 and 8 producers to show how every queue behaves under contention.
+ * <p>
+ * Run it once you've implemented both lock-free queues. Producers of the synchronized queue wait for each other on the
+ * same monitor. {@link MpscLinkedQueue} producers never wait, and {@link MpmcArrayQueue} producers only retry a CAS
+ * when they lose a race, and do not allocate nodes at all. The difference is bigger on a machine with many cores.
+ */
+public class ConcurrentQueueBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int[] PRODUCERS = {1, 2, 4, 8};
+    static final int N = 3;
+
+    public static void main(String[] args) {
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+        for (int producers : PRODUCERS) {
+            System.out.println("\n" + producers + " producer(s)");
+            System.out.println("synchronized LinkedQueue");
+            performNTimes(N, producers, SynchronizedQueue::new);
+            System.out.println("MpscLinkedQueue");
+            performNTimes(N, producers, MpscLinkedQueue::new);
+            System.out.println("MpmcArrayQueue");
+            performNTimes(N, producers, () -> new MpmcArrayQueue<>(1024));
+        }
+    }
+
+    static void performNTimes(int n, int producers, Supplier<Queue<Integer>> queueSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = transfer(producers, queueSupplier.get());
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+
+    static long transfer(int producers, Queue<Integer> queue) {
+        var startLatch = new CountDownLatch(1);
+        int elementsPerProducer = SIZE / producers;
+        for (int p = 0; p < producers; p++) {
+            new Thread(() -> {
+                awaitStart(startLatch);
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    add(queue, i & 127);
+                }
+            }).start();
+        }
+        startLatch.countDown();
+        long sum = 0;
+        for (int received = 0; received < elementsPerProducer * producers; ) {
+            Integer element = queue.poll();
+            if (element != null) {
+                sum += element;
+                received++;
+            } else {
+                Thread.yield();
+            }
+        }
+        return sum;
+    }
+
+    static void add(Queue<Integer> queue, Integer element) {
+        if (queue instanceof MpmcArrayQueue<Integer> arrayQueue) {
+            while (!arrayQueue.offer(element)) {
+                Thread.yield();
+            }
+        } else {
+            queue.add(element);
+        }
+    }
+
+    static void awaitStart(CountDownLatch startLatch) {
+        try {
+            startLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class SynchronizedQueue<T> extends LinkedQueue<T> {
+        @Override
+        public synchronized void add(T element) {
+            super.add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return super.poll();
+        }
+    }
+}
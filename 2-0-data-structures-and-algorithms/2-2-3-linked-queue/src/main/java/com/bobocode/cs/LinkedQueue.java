@@ -2,6 +2,10 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
@@ -51,4 +55,31 @@ public class LinkedQueue<T> implements Queue<T> {
     public boolean isEmpty() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Returns an iterator over the queue elements from the head to the tail (in the same order as poll() returns them).
+     * It simply follows the next references of the nodes, so the whole iteration takes O(n). The iterator is fail-fast.
+     * The queue keeps a counter of structural modifications (modCount) that is incremented by add() and poll(). The
+     * iterator remembers its value when it's created, and its method next() throws
+     * {@link ConcurrentModificationException} if the queue was modified after that.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process queue elements in parallel. Linked nodes cannot be split
+     * in half without walking through them, so it should be based on the queue iterator and its size, e.g. created via
+     * {@link java.util.Spliterators#spliterator(Iterator, long, int)}. Such spliterator reports its exact size, and
+     * splits itself by copying batches of elements into arrays that are processed by other threads.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
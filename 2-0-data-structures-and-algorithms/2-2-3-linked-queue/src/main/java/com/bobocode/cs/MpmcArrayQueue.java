@@ -0,0 +1,137 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link MpmcArrayQueue} is a bounded lock-free multi-producer multi-consumer implementation of {@link Queue} (Dmitry
+ * Vyukov's bounded MPMC queue). Any number of threads can add and poll elements at the same time. It does not use
+ * {@code synchronized} or locks.
+ * <p>
+ * Elements are stored in a circular array, whose length is a power of two, so an index is wrapped with a bit mask.
+ * Besides the element, every cell has a {@code sequence} number (e.g. in a parallel {@code long[]}), that is initially
+ * equal to the cell index. The queue keeps two ever-growing counters: {@code enqueuePosition} and
+ * {@code dequeuePosition}.
+ * <ul>
+ * <li>add reads the enqueue position {@code pos} and the sequence of its cell. If {@code sequence == pos}, the cell is
+ * free, and the producer tries to claim it with a CAS of the enqueue position to {@code pos + 1}. When it wins, it
+ * writes the element and publishes it with a release write of {@code sequence = pos + 1}. If
+ * {@code sequence < pos}, the cell still holds an element from the previous lap, so the queue is full. Otherwise,
+ * another producer got ahead, and it retries with a new position</li>
+ * <li>poll does the same with the dequeue position: the cell is ready when {@code sequence == pos + 1}. After a
+ * successful CAS it takes and clears the element, and releases the cell for the next lap with
+ * {@code sequence = pos + capacity}</li>
+ * </ul>
+ * The counters and the cells are accessed via {@link java.lang.invoke.VarHandle}s (use
+ * {@link java.lang.invoke.MethodHandles#arrayElementVarHandle} for the arrays). The enqueue position is written by
+ * producers and the dequeue position by consumers, so they are separated with padding fields to avoid false sharing
+ * (the same way as in {@link MpscLinkedQueue}).
+ * <p>
+ * This implementation does not support null elements.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> a generic parameter
+ */
+public class MpmcArrayQueue<T> implements Queue<T> {
+
+    /**
+     * Creates a queue that can hold up to capacity elements. The capacity is rounded up to the closest power of two.
+     *
+     * @param capacity the max number of elements in the queue
+     * @throws IllegalArgumentException if capacity is less than 2
+     */
+    public MpmcArrayQueue(int capacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the max number of elements in the queue, which is a power of two.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Tries to add an element to the end of the queue without blocking.
+     *
+     * @param element the element to add
+     * @return true if the element was added, or false if the queue is full
+     * @throws NullPointerException if element is null
+     */
+    public boolean offer(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head. It is safe to call this method from many threads at the same time.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Calculates the size as a difference between the enqueue and dequeue positions. While other threads are adding
+     * or polling elements the result is only an estimate, but it is always between 0 and capacity.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a weakly consistent iterator that goes from the dequeue position to the enqueue position, and returns
+     * elements of the cells that are ready to be polled. It stops at the first cell that is not ready, and never
+     * throws {@link java.util.ConcurrentModificationException}.
+     *
+     * @return a weakly consistent iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} based on the weakly consistent iterator, created with
+     * {@link java.util.Spliterators#spliteratorUnknownSize}. It reports {@link Spliterator#CONCURRENT},
+     * {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL} characteristics.
+     *
+     * @return a concurrent spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
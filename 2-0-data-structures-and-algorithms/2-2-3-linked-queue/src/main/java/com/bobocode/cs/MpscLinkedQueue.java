@@ -0,0 +1,108 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link MpscLinkedQueue} is a lock-free multi-producer single-consumer implementation of {@link Queue} based on linked
+ * nodes (Dmitry Vyukov's MPSC queue). Many threads can add elements at the same time, but only one thread is allowed
+ * to poll them. It does not use {@code synchronized} or locks, so producers never block each other.
+ * <p>
+ * The queue always has a stub node at the head, whose element is null. The {@code head} is written only by the
+ * consumer, and the {@code tail} is shared between producers:
+ * <ul>
+ * <li>add creates a new node, atomically swaps it with the tail ({@link java.lang.invoke.VarHandle#getAndSet}), and
+ * then links the previous tail to it with a release write of its {@code next} field. There is no retry loop, so every
+ * producer finishes in a constant number of steps</li>
+ * <li>poll reads the {@code next} of the head with an acquire read. If it is null, the queue is empty. Otherwise, the
+ * next node becomes a new stub head, and its element is returned and cleared. There is a short window when a producer
+ * has already swapped the tail, but has not linked it yet. If poll sees that the head is not the tail, it spins until
+ * the link becomes visible, so it never returns null for a non-empty queue</li>
+ * </ul>
+ * Fields are accessed via static {@link java.lang.invoke.VarHandle}s created with
+ * {@link java.lang.invoke.MethodHandles#lookup()}, instead of wrapping every node into an atomic reference. The
+ * {@code head} and the {@code tail} are written by different threads, so they must not share a cache line (false
+ * sharing). They are separated by padding with 7 unused long fields, which guards only this boundary, not the fields
+ * of other objects that happen to lie next to the queue. The JVM may reorder fields of one class, but it lays out
+ * superclass fields first, so the queue extends a chain of package-private abstract classes:
+ * {@link MpscLinkedQueueHead} with the head, {@link MpscLinkedQueuePad} with the padding, and
+ * {@link MpscLinkedQueueTail} with the tail.
+ * <p>
+ * This implementation does not support null elements.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> a generic parameter
+ */
+public class MpscLinkedQueue<T> extends MpscLinkedQueueTail<T> implements Queue<T> {
+
+    /**
+     * Adds an element to the end of the queue. It is safe to call this method from many threads at the same time.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves and removes queue head. Only one consumer thread is allowed to call this method.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Counts the nodes from the head to the tail. It takes O(n) time, and while producers are adding elements the
+     * result is only an estimate.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if the queue is empty by comparing the head and the tail, which takes a constant time.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a weakly consistent iterator that goes through the nodes starting from the one after the head. It never
+     * throws {@link java.util.ConcurrentModificationException}: it may or may not see elements that were added after
+     * it was created. Poll clears the element of a node it removes, so the iterator skips nodes whose element is
+     * already null, and never returns null. It may still return an element that was read just before it was polled.
+     *
+     * @return a weakly consistent iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} based on the weakly consistent iterator. The size of the queue is not known in
+     * advance, so it should be created with {@link java.util.Spliterators#spliteratorUnknownSize} and report
+     * {@link Spliterator#CONCURRENT}, {@link Spliterator#ORDERED} and {@link Spliterator#NONNULL} characteristics.
+     *
+     * @return a concurrent spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
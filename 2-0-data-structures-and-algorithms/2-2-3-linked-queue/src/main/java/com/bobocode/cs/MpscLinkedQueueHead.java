@@ -0,0 +1,11 @@
+package com.bobocode.cs;
+
+/**
+ * The first class in the field layout of {@link MpscLinkedQueue}. It holds the {@code head} node, that is written only
+ * by the consumer thread. It is still read from any thread by isEmpty, size and the iterator, so it must be volatile.
+ *
+ * @param <T> a generic parameter
+ */
+abstract class MpscLinkedQueueHead<T> {
+    // todo: add a volatile head field for the stub node of MpscLinkedQueue
+}
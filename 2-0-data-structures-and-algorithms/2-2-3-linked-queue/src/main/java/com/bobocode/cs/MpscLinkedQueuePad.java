@@ -0,0 +1,13 @@
+package com.bobocode.cs;
+
+/**
+ * The second class in the field layout of {@link MpscLinkedQueue}. Its fields are never used: 7 longs take 56 bytes,
+ * so they push the {@code tail} to another cache line than the {@code head}. It guards only the boundary between
+ * the head and the tail: there is no padding after the tail, so it may still share a cache line with the fields of
+ * a neighbour object in the heap.
+ *
+ * @param <T> a generic parameter
+ */
+abstract class MpscLinkedQueuePad<T> extends MpscLinkedQueueHead<T> {
+    long p1, p2, p3, p4, p5, p6, p7;
+}
@@ -0,0 +1,11 @@
+package com.bobocode.cs;
+
+/**
+ * The third class in the field layout of {@link MpscLinkedQueue}. It holds the {@code tail} node, that is swapped by
+ * producer threads.
+ *
+ * @param <T> a generic parameter
+ */
+abstract class MpscLinkedQueueTail<T> extends MpscLinkedQueuePad<T> {
+    // todo: add a volatile tail field, and a VarHandle for it created with the lookup of this class
+}
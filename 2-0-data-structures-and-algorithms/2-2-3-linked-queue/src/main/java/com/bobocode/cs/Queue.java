@@ -1,10 +1,13 @@
 package com.bobocode.cs;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Queue is a data structure that follows "first in, first out" rule (FIFO). Operations {@link Queue#add(Object)} and
  * {@link Queue#poll()} are performed in constant time O(1)
  */
-public interface Queue<T> {
+public interface Queue<T> extends Iterable<T> {
     /**
      * Adds an element to the end of the queue.
      *
@@ -32,4 +35,23 @@ public interface Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     boolean isEmpty();
+
+    /**
+     * Returns a sequential {@link Stream} with the elements of this queue. It is based on {@link #spliterator()}.
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} with the elements of this queue. It is based on {@link #spliterator()}, so
+     * the work is split across the threads only if the spliterator can split itself.
+     *
+     * @return a parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,359 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.ArrayQueue.OverflowPolicy;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * A reflection-based test class for {@link ArrayQueue}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ArrayQueueTest {
+    private static final Predicate<Field> ELEMENTS_FIELD = field -> field.getType().equals(Object[].class);
+
+    private ArrayQueue<Integer> integerQueue = new ArrayQueue<>();
+
+    @Test
+    @Order(1)
+    void queueIsBasedOnArray() {
+        boolean hasArrayField = Arrays.stream(ArrayQueue.class.getDeclaredFields()).anyMatch(ELEMENTS_FIELD);
+
+        assertThat(hasArrayField).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void defaultCapacity() {
+        assertThat(getInternalArray(integerQueue).length).isEqualTo(16);
+    }
+
+    @Test
+    @Order(3)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(getInternalArray(new ArrayQueue<Integer>(10)).length).isEqualTo(16);
+        assertThat(getInternalArray(new ArrayQueue<Integer>(16)).length).isEqualTo(16);
+        assertThat(getInternalArray(new ArrayQueue<Integer>(17)).length).isEqualTo(32);
+        assertThat(getInternalArray(new ArrayQueue<Integer>(1)).length).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayQueue<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayQueue<Integer>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayQueue<Integer>(0, OverflowPolicy.REJECT));
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionWhenPolicyIsNull() {
+        assertThrows(NullPointerException.class, () -> new ArrayQueue<Integer>(4, null));
+    }
+
+    @Test
+    @Order(6)
+    void addAndPollKeepFifoOrder() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(7)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(8)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(9)
+    void size() {
+        addIntElementsToQueue(1, 2, 3);
+        integerQueue.poll();
+
+        assertThat(integerQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(10)
+    void isEmpty() {
+        assertThat(integerQueue.isEmpty()).isTrue();
+
+        integerQueue.add(1);
+        assertThat(integerQueue.isEmpty()).isFalse();
+
+        integerQueue.poll();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(11)
+    void pollClearsArrayCell() {
+        addIntElementsToQueue(1, 2, 3);
+
+        integerQueue.poll();
+
+        assertThat(getInternalArray(integerQueue)).containsOnlyOnce(2, 3).doesNotContain(1);
+    }
+
+    @Test
+    @Order(12)
+    void indexWrapsAroundWithoutGrowing() {
+        var queue = new ArrayQueue<Integer>(4);
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(i + 1000);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 1000);
+        }
+
+        assertThat(getInternalArray(queue).length).isEqualTo(4);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(13)
+    void addGrowsArrayWhenQueueIsFull() {
+        var queue = new ArrayQueue<Integer>(4);
+        IntStream.range(0, 5).forEach(queue::add);
+
+        assertThat(getInternalArray(queue).length).isEqualTo(8);
+        assertThat(queue.size()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(14)
+    void growingKeepsOrderOfWrappedElements() {
+        var queue = new ArrayQueue<Integer>(4);
+        addIntElementsToQueue(queue, 0, 1, 2);
+        queue.poll();
+        queue.poll();
+        addIntElementsToQueue(queue, 3, 4, 5, 6, 7, 8);
+
+        assertThat(pollAll(queue)).containsExactly(2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    @Order(15)
+    void boundedQueueWithRejectPolicyThrowsExceptionWhenFull() {
+        var queue = new ArrayQueue<Integer>(3, OverflowPolicy.REJECT);
+        addIntElementsToQueue(queue, 1, 2, 3);
+
+        assertThrows(IllegalStateException.class, () -> queue.add(4));
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(getInternalArray(queue).length).isEqualTo(4);
+    }
+
+    @Test
+    @Order(16)
+    void boundedQueueWithRejectPolicyAcceptsElementAfterPoll() {
+        var queue = new ArrayQueue<Integer>(3, OverflowPolicy.REJECT);
+        addIntElementsToQueue(queue, 1, 2, 3);
+
+        queue.poll();
+        queue.add(4);
+
+        assertThat(pollAll(queue)).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @Order(17)
+    @SneakyThrows
+    void boundedQueueWithBlockPolicyWaitsUntilElementIsPolled() {
+        var queue = new ArrayQueue<Integer>(2, OverflowPolicy.BLOCK);
+        addIntElementsToQueue(queue, 1, 2);
+        Thread producer = new Thread(() -> queue.add(3));
+        producer.setDaemon(true);
+
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+        assertThat(queue.size()).isEqualTo(2);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        producer.join(5_000);
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(pollAll(queue)).containsExactly(2, 3);
+    }
+
+    @Test
+    @Order(18)
+    @SneakyThrows
+    void boundedQueueWithBlockPolicyTransfersAllElementsBetweenThreads() {
+        var queue = new ArrayQueue<Integer>(8, OverflowPolicy.BLOCK);
+        Thread producer = new Thread(() -> IntStream.range(0, 10_000).forEach(queue::add));
+        producer.setDaemon(true);
+
+        producer.start();
+        long sum = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            long received = 0;
+            long total = 0;
+            while (received < 10_000) {
+                Integer element = queue.poll();
+                if (element != null) {
+                    total += element;
+                    received++;
+                }
+            }
+            return total;
+        });
+        producer.join(5_000);
+
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(sum).isEqualTo(9_999L * 10_000 / 2);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(19)
+    void iteratorReturnsWrappedElementsInOrder() {
+        var queue = new ArrayQueue<Integer>(4);
+        addIntElementsToQueue(queue, 0, 1, 2);
+        queue.poll();
+        queue.poll();
+        addIntElementsToQueue(queue, 3, 4);
+
+        assertThat(iterate(queue)).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @Order(20)
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        integerQueue.add(1);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(21)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        addIntElementsToQueue(1, 2, 3);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        iterator.next();
+
+        integerQueue.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(22)
+    void iteratorIsFailFastWhenElementIsPolled() {
+        addIntElementsToQueue(1, 2, 3);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        iterator.next();
+
+        integerQueue.poll();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(23)
+    void spliteratorSplitsWrappedElements() {
+        var queue = new ArrayQueue<Integer>(2048);
+        IntStream.range(0, 1500).forEach(queue::add);
+        IntStream.range(0, 1000).forEach(i -> queue.poll());
+        IntStream.range(1500, 3000).forEach(queue::add);
+        Spliterator<Integer> spliterator = queue.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(2000L);
+        Object[] prefixElements = traverse(prefix);
+        Object[] suffixElements = traverse(spliterator);
+        assertThat(prefixElements[0]).isEqualTo(1000);
+        assertThat(suffixElements[0]).isEqualTo(1000 + prefixElements.length);
+        assertThat(suffixElements[suffixElements.length - 1]).isEqualTo(2999);
+    }
+
+    @Test
+    @Order(24)
+    void streamReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(25)
+    void parallelStreamProcessesAllElements() {
+        addIntElementsToQueue(IntStream.range(0, 2000).toArray());
+
+        assertThat(integerQueue.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
+    @SneakyThrows
+    private Object[] getInternalArray(ArrayQueue<?> queue) {
+        Field field = Arrays.stream(ArrayQueue.class.getDeclaredFields())
+                .filter(ELEMENTS_FIELD)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return (Object[]) field.get(queue);
+    }
+
+    private Object[] pollAll(Queue<?> queue) {
+        Stream.Builder<Object> elements = Stream.builder();
+        while (!queue.isEmpty()) {
+            elements.add(queue.poll());
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
+
+    private void addIntElementsToQueue(int... elements) {
+        addIntElementsToQueue(integerQueue, elements);
+    }
+
+    private void addIntElementsToQueue(Queue<Integer> queue, int... elements) {
+        for (int element : elements) {
+            queue.add(element);
+        }
+    }
+}
@@ -10,9 +10,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * A reflection-based test class for {@link LinkedQueue}.
@@ -224,9 +231,111 @@ public class LinkedQueueTest {
     }
 
 
+    @Test
+    @Order(16)
+    void iteratorReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(iterate(integerQueue)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(17)
+    void iteratorOfEmptyQueue() {
+        Iterator<Integer> iterator = integerQueue.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(18)
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        addIntElementsToQueue(1, 2, 3);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(19)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        addIntElementsToQueue(1, 2, 3);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        iterator.next();
+
+        integerQueue.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(20)
+    void iteratorIsFailFastWhenElementIsPolled() {
+        addIntElementsToQueue(1, 2, 3);
+        Iterator<Integer> iterator = integerQueue.iterator();
+        iterator.next();
+
+        integerQueue.poll();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(21)
+    void spliteratorIsSized() {
+        addIntElementsToQueue(1, 2, 3);
+
+        Spliterator<Integer> spliterator = integerQueue.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(22)
+    void spliteratorSplitsElements() {
+        addIntElementsToQueue(IntStream.range(0, 2000).toArray());
+        Spliterator<Integer> spliterator = integerQueue.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(2000L);
+        Object[] prefixElements = traverse(prefix);
+        Object[] suffixElements = traverse(spliterator);
+        assertThat(prefixElements.length + suffixElements.length).isEqualTo(2000);
+        assertThat(prefixElements[0]).isEqualTo(0);
+        assertThat(suffixElements[0]).isEqualTo(prefixElements.length);
+    }
+
+    @Test
+    @Order(23)
+    void streamReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(24)
+    void parallelStreamProcessesAllElements() {
+        addIntElementsToQueue(IntStream.range(0, 2000).toArray());
+
+        assertThat(integerQueue.parallelStream().isParallel()).isTrue();
+        assertThat(integerQueue.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
                 .filter(aClass -> Modifier.isStatic(aClass.getModifiers()))
+                .filter(aClass -> !Iterator.class.isAssignableFrom(aClass))
+                .filter(aClass -> !Spliterator.class.isAssignableFrom(aClass))
                 .findAny()
                 .orElseThrow();
     }
@@ -374,4 +483,24 @@ public class LinkedQueueTest {
         value.setAccessible(true);
         return value.get(field);
     }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
+
+    private void addIntElementsToQueue(int... elements) {
+        for (int element : elements) {
+            addIntElementToQueue(element);
+        }
+    }
 }
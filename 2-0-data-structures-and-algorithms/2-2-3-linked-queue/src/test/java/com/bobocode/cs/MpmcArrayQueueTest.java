@@ -0,0 +1,275 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A test class for {@link MpmcArrayQueue}. Besides the single-threaded behaviour it runs a simple stress harness:
+ * producers and consumers work with a small queue concurrently, so the cells are reused many times, and the test checks
+ * that every element is received exactly once, and that every consumer receives elements of a producer in the order
+ * they were added.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MpmcArrayQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+
+    private MpmcArrayQueue<Integer> integerQueue = new MpmcArrayQueue<>(16);
+
+    @Test
+    @Order(1)
+    void queueUsesVarHandles() {
+        boolean hasVarHandle = getAllDeclaredFields(MpmcArrayQueue.class)
+                .anyMatch(field -> field.getType().equals(VarHandle.class) && Modifier.isStatic(field.getModifiers()));
+
+        assertThat(hasVarHandle).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void queueDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(MpmcArrayQueue.class.getDeclaredMethods())
+                .map(Method::getModifiers)
+                .anyMatch(Modifier::isSynchronized);
+        boolean hasLockFields = getAllDeclaredFields(MpmcArrayQueue.class)
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new MpmcArrayQueue<Integer>(2).capacity()).isEqualTo(2);
+        assertThat(new MpmcArrayQueue<Integer>(10).capacity()).isEqualTo(16);
+        assertThat(new MpmcArrayQueue<Integer>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @Order(4)
+    void constructorThrowsExceptionWhenCapacityIsTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcArrayQueue<Integer>(1));
+        assertThrows(IllegalArgumentException.class, () -> new MpmcArrayQueue<Integer>(0));
+    }
+
+    @Test
+    @Order(5)
+    void addAndPollKeepFifoOrder() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(7)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+        assertThrows(NullPointerException.class, () -> integerQueue.offer(null));
+    }
+
+    @Test
+    @Order(8)
+    void offerReturnsFalseWhenQueueIsFull() {
+        IntStream.range(0, 16).forEach(i -> assertThat(integerQueue.offer(i)).isTrue());
+
+        assertThat(integerQueue.offer(16)).isFalse();
+        assertThat(integerQueue.size()).isEqualTo(16);
+    }
+
+    @Test
+    @Order(9)
+    void addThrowsExceptionWhenQueueIsFull() {
+        IntStream.range(0, 16).forEach(integerQueue::add);
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.add(16));
+    }
+
+    @Test
+    @Order(10)
+    void cellsAreReusedAfterPoll() {
+        for (int i = 0; i < 1000; i++) {
+            integerQueue.add(i);
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+        IntStream.range(0, 16).forEach(integerQueue::add);
+
+        assertThat(integerQueue.size()).isEqualTo(16);
+        assertThat(integerQueue.poll()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(11)
+    void isEmpty() {
+        assertThat(integerQueue.isEmpty()).isTrue();
+
+        integerQueue.add(1);
+        assertThat(integerQueue.isEmpty()).isFalse();
+
+        integerQueue.poll();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(12)
+    void iteratorReturnsAllElements() {
+        for (int i = 0; i < 14; i++) {
+            integerQueue.add(i);
+            integerQueue.poll();
+        }
+        addIntElementsToQueue(1, 2, 3, 4);
+
+        assertThat(iterate(integerQueue)).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @Order(13)
+    void spliteratorIsConcurrent() {
+        Spliterator<Integer> spliterator = integerQueue.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+    }
+
+    @Test
+    @Order(14)
+    void streamReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(15)
+    void everyElementIsReceivedOnceInProducerOrder() {
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        var received = new AtomicIntegerArray(total);
+        var receivedCount = new CountDownLatch(total);
+        var queue = new MpmcArrayQueue<Integer>(256);
+        Runnable consumer = () -> {
+            int[] lastSequence = new int[PRODUCERS];
+            Arrays.fill(lastSequence, -1);
+            while (receivedCount.getCount() > 0) {
+                Integer element = queue.poll();
+                if (element != null) {
+                    int producer = element / ELEMENTS_PER_PRODUCER;
+                    int sequence = element % ELEMENTS_PER_PRODUCER;
+                    assertThat(sequence).isGreaterThan(lastSequence[producer]);
+                    lastSequence[producer] = sequence;
+                    received.incrementAndGet(element);
+                    receivedCount.countDown();
+                } else {
+                    Thread.yield();
+                }
+            }
+        };
+        Stream<Runnable> producers = IntStream.range(0, PRODUCERS)
+                .mapToObj(producer -> () -> {
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        while (!queue.offer(producer * ELEMENTS_PER_PRODUCER + i)) {
+                            Thread.yield();
+                        }
+                    }
+                });
+
+        runConcurrently(Stream.concat(producers, Stream.generate(() -> consumer).limit(CONSUMERS))
+                .toArray(Runnable[]::new));
+
+        assertThat(IntStream.range(0, total).map(received::get)).containsOnly(1);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(16)
+    void sizeStaysWithinBoundsUnderContention() {
+        var polls = (Runnable) () -> {
+            for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                integerQueue.offer(i);
+                integerQueue.poll();
+            }
+        };
+        var sizes = (Runnable) () -> {
+            for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                assertThat(integerQueue.size()).isBetween(0, 16);
+            }
+        };
+
+        runConcurrently(polls, polls, sizes);
+    }
+
+    @SneakyThrows
+    private void runConcurrently(Runnable... tasks) {
+        var executor = Executors.newFixedThreadPool(tasks.length);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (var task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Stream<Field> getAllDeclaredFields(Class<?> aClass) {
+        return Stream.<Class<?>>iterate(aClass, c -> c != null && c != Object.class, Class::getSuperclass)
+                .flatMap(c -> Arrays.stream(c.getDeclaredFields()));
+    }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private void addIntElementsToQueue(int... elements) {
+        for (int element : elements) {
+            integerQueue.add(element);
+        }
+    }
+}
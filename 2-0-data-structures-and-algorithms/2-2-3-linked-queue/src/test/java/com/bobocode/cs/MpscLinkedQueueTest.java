@@ -0,0 +1,253 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A test class for {@link MpscLinkedQueue}. Besides the single-threaded behaviour it runs a simple stress harness:
+ * producers add elements concurrently, while a single consumer polls them and checks that no element is lost or
+ * duplicated, and that elements of every producer come in the order they were added.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MpscLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    private MpscLinkedQueue<Integer> integerQueue = new MpscLinkedQueue<>();
+
+    @Test
+    @Order(1)
+    void queueUsesVarHandles() {
+        boolean hasVarHandle = getAllDeclaredFields(MpscLinkedQueue.class)
+                .anyMatch(field -> field.getType().equals(VarHandle.class) && Modifier.isStatic(field.getModifiers()));
+
+        assertThat(hasVarHandle).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void queueDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(MpscLinkedQueue.class.getDeclaredMethods())
+                .map(Method::getModifiers)
+                .anyMatch(Modifier::isSynchronized);
+        boolean hasLockFields = getAllDeclaredFields(MpscLinkedQueue.class)
+                .anyMatch(field -> Lock.class.isAssignableFrom(field.getType()));
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    void addAndPollKeepFifoOrder() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void pollReturnsNullWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+
+        integerQueue.add(1);
+        integerQueue.poll();
+
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(6)
+    void size() {
+        addIntElementsToQueue(1, 2, 3);
+        integerQueue.poll();
+
+        assertThat(integerQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(7)
+    void isEmpty() {
+        assertThat(integerQueue.isEmpty()).isTrue();
+
+        integerQueue.add(1);
+        assertThat(integerQueue.isEmpty()).isFalse();
+
+        integerQueue.poll();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    void iteratorReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+        integerQueue.poll();
+
+        assertThat(iterate(integerQueue)).containsExactly(2, 3);
+    }
+
+    @Test
+    @Order(9)
+    void iteratorDoesNotFailWhenQueueIsModified() {
+        addIntElementsToQueue(1, 2);
+        var iterator = integerQueue.iterator();
+        iterator.next();
+
+        integerQueue.add(3);
+
+        assertThat(iterator.next()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(10)
+    void spliteratorIsConcurrent() {
+        Spliterator<Integer> spliterator = integerQueue.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+    }
+
+    @Test
+    @Order(11)
+    void streamReturnsAllElements() {
+        addIntElementsToQueue(1, 2, 3);
+
+        assertThat(integerQueue.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(12)
+    void concurrentAddsAreNotLost() {
+        runConcurrently(IntStream.range(0, PRODUCERS)
+                .mapToObj(producer -> (Runnable) () -> addProducerElements(producer))
+                .toArray(Runnable[]::new));
+
+        assertThat(integerQueue.size()).isEqualTo(PRODUCERS * ELEMENTS_PER_PRODUCER);
+    }
+
+    @Test
+    @Order(13)
+    void consumerReceivesEveryElementOnceInProducerOrder() {
+        int total = PRODUCERS * ELEMENTS_PER_PRODUCER;
+        int[] lastSequence = new int[PRODUCERS];
+        Arrays.fill(lastSequence, -1);
+        Runnable consumer = () -> {
+            int received = 0;
+            while (received < total) {
+                Integer element = integerQueue.poll();
+                if (element != null) {
+                    int producer = element / ELEMENTS_PER_PRODUCER;
+                    int sequence = element % ELEMENTS_PER_PRODUCER;
+                    assertThat(sequence).isEqualTo(lastSequence[producer] + 1);
+                    lastSequence[producer] = sequence;
+                    received++;
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        };
+
+        runConcurrently(Stream.concat(Stream.of(consumer), IntStream.range(0, PRODUCERS)
+                        .mapToObj(producer -> (Runnable) () -> addProducerElements(producer)))
+                .toArray(Runnable[]::new));
+
+        assertThat(lastSequence).containsOnly(ELEMENTS_PER_PRODUCER - 1);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(14)
+    void pollNeverReturnsNullWhenProducersHaveFinishedAdd() {
+        for (int i = 0; i < 1_000; i++) {
+            var queue = new MpscLinkedQueue<Integer>();
+            int value = i;
+            Runnable producer = () -> queue.add(value);
+
+            runConcurrently(producer, producer);
+
+            assertThat(queue.poll()).isEqualTo(value);
+            assertThat(queue.poll()).isEqualTo(value);
+            assertThat(queue.poll()).isNull();
+        }
+    }
+
+    private void addProducerElements(int producer) {
+        for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+            integerQueue.add(producer * ELEMENTS_PER_PRODUCER + i);
+        }
+    }
+
+    @SneakyThrows
+    private void runConcurrently(Runnable... tasks) {
+        var executor = Executors.newFixedThreadPool(tasks.length);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (var task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Stream<Field> getAllDeclaredFields(Class<?> aClass) {
+        return Stream.<Class<?>>iterate(aClass, c -> c != null && c != Object.class, Class::getSuperclass)
+                .flatMap(c -> Arrays.stream(c.getDeclaredFields()));
+    }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private void addIntElementsToQueue(int... elements) {
+        for (int element : elements) {
+            integerQueue.add(element);
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
@@ -145,4 +149,76 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Inserts all elements starting from the specified position. It links new elements into a separate chain first,
+     * then finds the node before the position only once and splices the whole chain in. So adding k elements to
+     * the list of size n takes O(n + k) instead of O(n * k) when calling {@link LinkedList#add(int, Object)}
+     * in a loop.
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    @Override
+    public void addAll(int index, T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex (inclusive) to toIndex (exclusive). It finds the node before
+     * the range and the node after the range, and links them with each other in a single step.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the portion of this list from fromIndex (inclusive) to toIndex (exclusive). The view does not
+     * copy any elements, it translates its indexes into the indexes of this list. Changes in the view are reflected
+     * in this list, and vice versa.
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the list elements from the head to the tail. It simply follows the next references of
+     * the nodes, so the whole iteration takes O(n). The iterator is fail-fast. The list keeps a counter of structural
+     * modifications (modCount) that is incremented by every method that adds or removes elements. The iterator
+     * remembers its value when it's created, and its method next() throws {@link ConcurrentModificationException} if
+     * the list was modified after that.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process list elements in parallel. Linked nodes cannot be split
+     * in half without walking through them, so it should be based on the list iterator and its size, e.g. created via
+     * {@link java.util.Spliterators#spliterator(Iterator, long, int)}. Such spliterator reports its exact size, and
+     * splits itself by copying batches of elements into arrays that are processed by other threads.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
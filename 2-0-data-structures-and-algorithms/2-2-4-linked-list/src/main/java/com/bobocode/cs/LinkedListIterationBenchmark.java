@@ -0,0 +1,47 @@
+package com.bobocode.cs;
+
+import java.util.function.Supplier;
+
+/**
+ * This demo sums up ten million elements of {@link LinkedList} in three ways: using a for-each loop (which is based on
+ * {@link LinkedList#iterator()}), using {@link LinkedList#stream()} and using {@link LinkedList#parallelStream()}.
+ * <p>
+ * Run it once you've implemented the iterator and the spliterator. A spliterator of linked nodes can only split by
+ * copying batches of elements into arrays, so a parallel stream helps less than for an array-based list, and the gain
+ * depends on how much work is done per element. Please note that summing the same elements by index would take O(n^2)
+ * time.
+ */
+public class LinkedListIterationBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        var list = new LinkedList<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+
+        System.out.println("for-each");
+        performNTimes(N, () -> {
+            long sum = 0;
+            for (var element : list) {
+                sum += element;
+            }
+            return sum;
+        });
+
+        System.out.println("\nstream()");
+        performNTimes(N, () -> list.stream().mapToLong(Integer::longValue).sum());
+
+        System.out.println("\nparallelStream(), available processors: " + Runtime.getRuntime().availableProcessors());
+        performNTimes(N, () -> list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where every node stores
+ * not one element, but a small array of them. A node is implemented as inner static class {@link Node<T>} with an
+ * {@code Object[]} of a fixed {@code nodeCapacity} (16 to 64 elements works best) and the number of elements in it.
+ * <p>
+ * Compared to {@link LinkedList}, it creates one node per many elements, so it takes much less memory for node
+ * headers and references, and elements of a node lie next to each other in memory, which is good for CPU caches.
+ * Searching for an index skips whole nodes using their element counts, so it is {@code nodeCapacity} times faster.
+ * <p>
+ * The list keeps every node except the last one at least half full (at least {@code nodeCapacity / 2} elements):
+ * <ul>
+ * <li>add to the end puts an element into the last node, or creates a new last node if it is full</li>
+ * <li>add by index shifts elements inside the node. If the node is full, it is <strong>split</strong>: the second half
+ * of its elements ({@code nodeCapacity / 2}) is moved into a new node that is linked after it, and then the element is
+ * inserted into one of the halves</li>
+ * <li>remove by index shifts elements inside the node. If it leaves a node with less than {@code nodeCapacity / 2}
+ * elements, and there is a next node, the node is <strong>rebalanced</strong>: if both nodes fit into one node, the
+ * elements of the next node are <strong>merged</strong> into it and the next node is unlinked, otherwise elements are
+ * moved from the beginning of the next node until this node is half full. An empty last node is unlinked</li>
+ * </ul>
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    /**
+     * This method creates a list of provided elements with a default node capacity
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates an empty list with a default node capacity 32.
+     */
+    public UnrolledLinkedList() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Creates an empty list with a given node capacity.
+     *
+     * @param nodeCapacity the max number of elements in one node
+     * @throws IllegalArgumentException if node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. It finds the node by skipping whole nodes, and splits
+     * it if it is full. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Retrieves an elements by its position index. It skips whole nodes starting from the head or from the tail,
+     * whichever is closer. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes an elements by its position index, and rebalances the node if it becomes less than half full. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a specific exists in he list. It scans the arrays of the nodes one by one.
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts all elements starting from the specified position. It finds the node of the position only once, and
+     * replaces it with a chain of full nodes that contain the elements of the node before the position, the new
+     * elements and the elements of the node after the position. The last node of the chain is rebalanced the same way
+     * as after remove.
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    @Override
+    public void addAll(int index, T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex (inclusive) to toIndex (exclusive). It cuts the end of the
+     * first node of the range and the beginning of the last one, unlinks all nodes between them, and then rebalances
+     * both boundary nodes.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the portion of this list from fromIndex (inclusive) to toIndex (exclusive). The view does not
+     * copy any elements, it translates its indexes into the indexes of this list. Changes in the view are reflected
+     * in this list, and vice versa.
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the list elements from the head to the tail. It goes through the array of a node, and
+     * then moves to the next node. The iterator is fail-fast: its method next() throws
+     * {@link ConcurrentModificationException} if the list was structurally modified after the iterator was created.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process list elements in parallel. It should be based on the list
+     * iterator and its size, e.g. created via {@link java.util.Spliterators#spliterator(Iterator, long, int)}.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
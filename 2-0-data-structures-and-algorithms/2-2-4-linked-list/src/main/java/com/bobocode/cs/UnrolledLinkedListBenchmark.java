@@ -0,0 +1,89 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This demo compares {@link UnrolledLinkedList} with {@link LinkedList} and {@link java.util.ArrayList} on a list of
+ * one hundred thousand elements. It sums up all elements with a for-each loop (a sequential scan), gets elements by
+ * random indexes, and inserts elements into the middle of the list.
+ * <p>
+ * Run it once you've implemented both lists. A sequential scan of {@link UnrolledLinkedList} reads elements from small
+ * arrays, so it is close to an array list. A random get skips whole nodes, so it is about node capacity times faster
+ * than in {@link LinkedList}. An insert in the middle still needs to skip nodes to find the position, but then it
+ * shifts only the elements of one node. An array list finds the position at once, but shifts the whole tail of the
+ * array, so the bigger the list, the closer the unrolled list gets to it.
+ */
+public class UnrolledLinkedListBenchmark {
+    static final int SIZE = 100_000;
+    static final int OPERATIONS = 1_000;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        var indexes = new Random(42).ints(OPERATIONS, 0, SIZE).toArray();
+
+        var linkedList = new LinkedList<Integer>();
+        var unrolledLinkedList = new UnrolledLinkedList<Integer>();
+        var arrayList = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            linkedList.add(i);
+            unrolledLinkedList.add(i);
+            arrayList.add(i);
+        }
+
+        System.out.println("Sequential scan");
+        performNTimes(N, "LinkedList", linkedList, UnrolledLinkedListBenchmark::scan);
+        performNTimes(N, "UnrolledLinkedList", unrolledLinkedList, UnrolledLinkedListBenchmark::scan);
+        performNTimes(N, "java.util.ArrayList", arrayList, UnrolledLinkedListBenchmark::scan);
+
+        System.out.println("\nRandom get");
+        performNTimes(N, "LinkedList", linkedList, list -> randomGet(indexes, list::get));
+        performNTimes(N, "UnrolledLinkedList", unrolledLinkedList, list -> randomGet(indexes, list::get));
+        performNTimes(N, "java.util.ArrayList", arrayList, list -> randomGet(indexes, list::get));
+
+        System.out.println("\nInsert in the middle");
+        performNTimes(N, "LinkedList", linkedList, list -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.add(list.size() / 2, i);
+            }
+            return list.size();
+        });
+        performNTimes(N, "UnrolledLinkedList", unrolledLinkedList, list -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.add(list.size() / 2, i);
+            }
+            return list.size();
+        });
+        performNTimes(N, "java.util.ArrayList", arrayList, list -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                list.add(list.size() / 2, i);
+            }
+            return list.size();
+        });
+    }
+
+    static long scan(Iterable<Integer> list) {
+        long sum = 0;
+        for (var element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    static long randomGet(int[] indexes, IntFunction<Integer> getter) {
+        long sum = 0;
+        for (var index : indexes) {
+            sum += getter.apply(index);
+        }
+        return sum;
+    }
+
+    static <L> void performNTimes(int n, String name, L list, ToLongFunction<L> operation) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long result = operation.applyAsLong(list);
+            System.out.println(name + ": " + (System.nanoTime() - start) / 1_000 + " us (result " + result + ")");
+        }
+    }
+}
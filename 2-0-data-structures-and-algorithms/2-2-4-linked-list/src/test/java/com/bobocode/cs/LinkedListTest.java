@@ -11,11 +11,17 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * A reflection-based test class for {@link LinkedList}.
@@ -75,6 +81,8 @@ public class LinkedListTest {
     private Class<?> getInnerClass() {
         return Arrays.stream(intList.getClass().getDeclaredClasses())
                 .filter(aClass -> Modifier.isStatic(aClass.getModifiers()))
+                .filter(aClass -> !Iterator.class.isAssignableFrom(aClass))
+                .filter(aClass -> !Spliterator.class.isAssignableFrom(aClass))
                 .findAny()
                 .orElseThrow();
     }
@@ -520,6 +528,271 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(43)
+    void addAllToTheMiddle() {
+        addInternalElements(1, 2, 5, 6);
+
+        intList.addAll(2, 3, 4);
+
+        assertThat(getInternalSize()).isEqualTo(6);
+        for (int i = 0; i < 6; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(44)
+    void addAllToTheBeginning() {
+        addInternalElements(3, 4);
+
+        intList.addAll(0, 1, 2);
+
+        assertThat(getInternalSize()).isEqualTo(4);
+        assertThat(getNodeValue(HEAD_NODE_FIELD)).isEqualTo(1);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(45)
+    void addAllToTheEndUpdatesTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(2, 3, 4);
+
+        assertThat(getInternalSize()).isEqualTo(4);
+        assertThat(getNodeValue(TAIL_NODE_FIELD)).isEqualTo(4);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(46)
+    void addAllToEmptyList() {
+        intList.addAll(0, 1, 2, 3);
+
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getNodeValue(HEAD_NODE_FIELD)).isEqualTo(1);
+        assertThat(getNodeValue(TAIL_NODE_FIELD)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(47)
+    void addAllThrowsExceptionWhenIndexIsOutOfBounds() {
+        addInternalElements(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.addAll(3, 4, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.addAll(-1, 4, 5));
+    }
+
+    @Test
+    @Order(48)
+    void removeRange() {
+        addInternalElements(1, 2, 3, 4, 5, 6);
+
+        intList.removeRange(1, 4);
+
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(5);
+        assertThat(getInternalElement(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(49)
+    void removeRangeFromTheBeginning() {
+        addInternalElements(1, 2, 3, 4);
+
+        intList.removeRange(0, 2);
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getNodeValue(HEAD_NODE_FIELD)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(50)
+    void removeRangeFromTheEndUpdatesTail() {
+        addInternalElements(1, 2, 3, 4);
+
+        intList.removeRange(2, 4);
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getNodeValue(TAIL_NODE_FIELD)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(51)
+    void removeRangeThrowsExceptionWhenRangeIsInvalid() {
+        addInternalElements(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(-1, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(1, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(52)
+    void subListReturnsElementsOfTheRange() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(subList.getFirst()).isEqualTo(2);
+        assertThat(subList.get(1)).isEqualTo(3);
+        assertThat(subList.getLast()).isEqualTo(4);
+        assertThat(subList.contains(5)).isFalse();
+    }
+
+    @Test
+    @Order(53)
+    void subListChangesAreReflectedInTheList() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        subList.set(0, 20);
+        subList.add(10);
+        subList.remove(1);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(getInternalSize()).isEqualTo(5);
+        assertThat(getInternalElement(1)).isEqualTo(20);
+        assertThat(getInternalElement(2)).isEqualTo(4);
+        assertThat(getInternalElement(3)).isEqualTo(10);
+        assertThat(getInternalElement(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(54)
+    void subListClearRemovesTheRangeFromTheList() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.subList(1, 4).clear();
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(55)
+    void subListThrowsExceptionWhenIndexIsOutOfTheRange() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> subList.get(3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.subList(2, 6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.subList(3, 2));
+    }
+
+    @Test
+    @Order(56)
+    void iteratorReturnsAllElements() {
+        addInternalElements(1, 2, 3);
+
+        assertThat(iterate(intList)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(57)
+    void iteratorOfEmptyList() {
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(58)
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(59)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(60)
+    void iteratorIsFailFastWhenElementIsRemoved() {
+        addInternalElements(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.remove(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(61)
+    void spliteratorIsSized() {
+        addInternalElements(1, 2, 3);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(62)
+    void spliteratorSplitsElements() {
+        addInternalElements(IntStream.range(0, 2000).toArray());
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(2000L);
+        Object[] prefixElements = traverse(prefix);
+        Object[] suffixElements = traverse(spliterator);
+        assertThat(prefixElements.length + suffixElements.length).isEqualTo(2000);
+        assertThat(prefixElements[0]).isEqualTo(0);
+        assertThat(suffixElements[0]).isEqualTo(prefixElements.length);
+    }
+
+    @Test
+    @Order(63)
+    void streamReturnsAllElements() {
+        addInternalElements(1, 2, 3);
+
+        assertThat(intList.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(64)
+    void parallelStreamProcessesAllElements() {
+        addInternalElements(IntStream.range(0, 2000).toArray());
+
+        assertThat(intList.parallelStream().isParallel()).isTrue();
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
@@ -611,4 +884,18 @@ public class LinkedListTest {
         value.setAccessible(true);
         return value.get(field);
     }
-}
\ No newline at end of file
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
+}
@@ -0,0 +1,466 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A reflection-based test class for {@link UnrolledLinkedList}. Most tests use node capacity 4, so it is easy to see
+ * how nodes are split and merged.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UnrolledLinkedListTest {
+    private static final int NODE_CAPACITY = 4;
+
+    private static final Predicate<Field> ARRAY_FIELD = field -> field.getType().equals(Object[].class);
+
+    private static final Predicate<Field> COUNT_FIELD = field -> field.getType().equals(int.class);
+
+    private static final Predicate<Field> HEAD_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node")
+            && (field.getName().contains("head") || field.getName().contains("first"));
+
+    private static final Predicate<Field> NEXT_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node") && field.getName().contains("next");
+
+    private UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(NODE_CAPACITY);
+
+    @Test
+    @Order(1)
+    void nodeStoresElementsInArray() {
+        Class<?> innerClass = getInnerClass();
+
+        assertThat(innerClass.getSimpleName()).isEqualTo("Node");
+        assertThat(Arrays.stream(innerClass.getDeclaredFields()).anyMatch(ARRAY_FIELD)).isTrue();
+        assertThat(Arrays.stream(innerClass.getDeclaredFields()).anyMatch(NEXT_NODE_FIELD)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void constructorThrowsExceptionWhenNodeCapacityIsTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+    }
+
+    @Test
+    @Order(3)
+    void of() {
+        var list = UnrolledLinkedList.of(4, 6, 8, 10);
+
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(list.get(0)).isEqualTo(4);
+        assertThat(list.get(3)).isEqualTo(10);
+    }
+
+    @Test
+    @Order(4)
+    void addFillsNodesCompletely() {
+        addIntElements(IntStream.range(0, 10).toArray());
+
+        assertThat(getNodeCounts()).containsExactly(4, 4, 2);
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(5)
+    void addByIndexShiftsElementsInsideNode() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6);
+
+        intList.add(5, 100);
+
+        assertThat(getNodeCounts()).containsExactly(4, 4);
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 3, 4, 100, 5, 6);
+    }
+
+    @Test
+    @Order(6)
+    void addByIndexSplitsFullNode() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6, 7);
+
+        intList.add(1, 100);
+
+        assertThat(getNodeCounts()).containsExactly(3, 2, 4);
+        assertThat(getNodeElements()).containsExactly(0, 100, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(7)
+    void addByIndexToTheEnd() {
+        addIntElements(0, 1, 2, 3);
+
+        intList.add(4, 100);
+
+        assertThat(intList.getLast()).isEqualTo(100);
+        assertThat(intList.size()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(8)
+    void addByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        addIntElements(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(4, 100));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(-1, 100));
+    }
+
+    @Test
+    @Order(9)
+    void getSkipsWholeNodes() {
+        addIntElements(IntStream.range(0, 100).toArray());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(10)
+    void getThrowsExceptionWhenIndexIsOutOfBounds() {
+        addIntElements(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(-1));
+    }
+
+    @Test
+    @Order(11)
+    void set() {
+        addIntElements(0, 1, 2, 3, 4, 5);
+
+        intList.set(5, 100);
+
+        assertThat(intList.get(5)).isEqualTo(100);
+        assertThat(intList.size()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(12)
+    void getFirstAndGetLast() {
+        addIntElements(0, 1, 2, 3, 4, 5);
+
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(13)
+    void getFirstAndGetLastThrowExceptionWhenListIsEmpty() {
+        assertThrows(NoSuchElementException.class, () -> intList.getFirst());
+        assertThrows(NoSuchElementException.class, () -> intList.getLast());
+    }
+
+    @Test
+    @Order(14)
+    void removeShiftsElementsInsideNode() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6, 7);
+
+        assertThat(intList.remove(5)).isEqualTo(5);
+
+        assertThat(getNodeCounts()).containsExactly(4, 3);
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 3, 4, 6, 7);
+    }
+
+    @Test
+    @Order(15)
+    void removeMovesElementsFromNextNodeWhenNodeIsLessThanHalfFull() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6, 7);
+        intList.remove(0);
+        intList.remove(0);
+
+        intList.remove(0);
+
+        assertThat(getNodeCounts()).containsExactly(2, 3);
+        assertThat(getNodeElements()).containsExactly(3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(16)
+    void removeMergesNodesWhenTheyFitIntoOne() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6, 7);
+        intList.remove(0);
+        intList.remove(0);
+        intList.remove(0);
+
+        intList.remove(0);
+
+        assertThat(getNodeCounts()).containsExactly(4);
+        assertThat(getNodeElements()).containsExactly(4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(17)
+    void removeUnlinksEmptyLastNode() {
+        addIntElements(0, 1, 2, 3, 4);
+
+        intList.remove(4);
+
+        assertThat(getNodeCounts()).containsExactly(4);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(18)
+    void removeThrowsExceptionWhenIndexIsOutOfBounds() {
+        addIntElements(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.remove(3));
+    }
+
+    @Test
+    @Order(19)
+    void nodesStayHalfFullAfterRandomOperations() {
+        var random = new Random(42);
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 5_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                intList.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            }
+        }
+
+        assertThat(getNodeElements()).containsExactly(expected.toArray());
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(20)
+    void contains() {
+        addIntElements(IntStream.range(0, 20).toArray());
+
+        assertThat(intList.contains(19)).isTrue();
+        assertThat(intList.contains(20)).isFalse();
+    }
+
+    @Test
+    @Order(21)
+    void isEmptyAndSize() {
+        assertThat(intList.isEmpty()).isTrue();
+
+        addIntElements(0, 1, 2, 3, 4);
+
+        assertThat(intList.isEmpty()).isFalse();
+        assertThat(intList.size()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(22)
+    void clear() {
+        addIntElements(0, 1, 2, 3, 4);
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThat(getNodeCounts()).isEmpty();
+    }
+
+    @Test
+    @Order(23)
+    void addAllInsertsElementsIntoTheMiddle() {
+        addIntElements(0, 1, 2, 3, 4, 5, 6, 7);
+
+        intList.addAll(3, 100, 101, 102, 103, 104, 105, 106);
+
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 100, 101, 102, 103, 104, 105, 106, 3, 4, 5, 6, 7);
+        assertThat(intList.size()).isEqualTo(15);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(24)
+    void addAllAddsElementsToTheEnd() {
+        addIntElements(0, 1, 2);
+
+        intList.addAll(3, 100, 101);
+
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 100, 101);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(25)
+    void addAllThrowsExceptionWhenIndexIsOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.addAll(1, 100));
+    }
+
+    @Test
+    @Order(26)
+    void removeRangeUnlinksWholeNodes() {
+        addIntElements(IntStream.range(0, 20).toArray());
+
+        intList.removeRange(3, 17);
+
+        assertThat(getNodeElements()).containsExactly(0, 1, 2, 17, 18, 19);
+        assertThat(intList.size()).isEqualTo(6);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(27)
+    void removeRangeRebalancesBoundaryNodes() {
+        addIntElements(IntStream.range(0, 20).toArray());
+
+        intList.removeRange(1, 7);
+
+        assertThat(getNodeElements()).containsExactly(0, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+        assertNodesAreHalfFull();
+    }
+
+    @Test
+    @Order(28)
+    void removeRangeThrowsExceptionWhenRangeIsInvalid() {
+        addIntElements(0, 1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(0, 4));
+    }
+
+    @Test
+    @Order(29)
+    void subListIsView() {
+        addIntElements(IntStream.range(0, 20).toArray());
+
+        var subList = intList.subList(5, 10);
+        subList.set(0, 100);
+        subList.remove(1);
+
+        assertThat(subList.size()).isEqualTo(4);
+        assertThat(intList.get(5)).isEqualTo(100);
+        assertThat(intList.get(6)).isEqualTo(7);
+        assertThat(intList.size()).isEqualTo(19);
+    }
+
+    @Test
+    @Order(30)
+    void iteratorReturnsAllElements() {
+        addIntElements(IntStream.range(0, 10).toArray());
+
+        assertThat(iterate(intList)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @Order(31)
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        addIntElements(0);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(32)
+    void iteratorIsFailFast() {
+        addIntElements(0, 1, 2);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(1, 100);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(33)
+    void spliteratorIsSized() {
+        addIntElements(IntStream.range(0, 10).toArray());
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10L);
+    }
+
+    @Test
+    @Order(34)
+    void streamReturnsAllElements() {
+        addIntElements(IntStream.range(0, 10).toArray());
+
+        assertThat(intList.stream().toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(45L);
+    }
+
+    private Class<?> getInnerClass() {
+        return Arrays.stream(UnrolledLinkedList.class.getDeclaredClasses())
+                .filter(aClass -> Arrays.stream(aClass.getDeclaredFields()).anyMatch(ARRAY_FIELD))
+                .findAny()
+                .orElseThrow();
+    }
+
+    private void assertNodesAreHalfFull() {
+        int[] counts = getNodeCounts();
+        for (int i = 0; i < counts.length; i++) {
+            assertThat(counts[i]).isBetween(i < counts.length - 1 ? NODE_CAPACITY / 2 : 1, NODE_CAPACITY);
+        }
+    }
+
+    private int[] getNodeCounts() {
+        return getNodes().mapToInt(node -> getIntField(node, COUNT_FIELD)).toArray();
+    }
+
+    private Object[] getNodeElements() {
+        return getNodes()
+                .flatMap(node -> Arrays.stream(getArrayField(node)).limit(getIntField(node, COUNT_FIELD)))
+                .toArray();
+    }
+
+    private Stream<Object> getNodes() {
+        Object head = getFieldValue(intList, HEAD_NODE_FIELD);
+        return Stream.iterate(head, node -> node != null, node -> getFieldValue(node, NEXT_NODE_FIELD));
+    }
+
+    private int getIntField(Object node, Predicate<Field> predicate) {
+        return (int) getFieldValue(node, predicate);
+    }
+
+    private Object[] getArrayField(Object node) {
+        return (Object[]) getFieldValue(node, ARRAY_FIELD);
+    }
+
+    @SneakyThrows
+    private Object getFieldValue(Object object, Predicate<Field> predicate) {
+        Field field = Arrays.stream(object.getClass().getDeclaredFields())
+                .filter(predicate)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private void addIntElements(int... elements) {
+        for (int element : elements) {
+            intList.add(element);
+        }
+    }
+}
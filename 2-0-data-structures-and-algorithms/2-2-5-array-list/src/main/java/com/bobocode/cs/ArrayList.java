@@ -2,6 +2,10 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
@@ -156,4 +160,95 @@ public class ArrayList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Inserts all elements starting from the specified position. It grows the array at most once, and shifts
+     * the array tail to the right only once using {@link System#arraycopy(Object, int, Object, int, int)}. So adding
+     * k elements to the list of size n takes O(n + k) instead of O(n * k) when calling
+     * {@link ArrayList#add(int, Object)} in a loop.
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    @Override
+    public void addAll(int index, T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex (inclusive) to toIndex (exclusive). It shifts the array tail
+     * to the left only once using {@link System#arraycopy(Object, int, Object, int, int)}, and clears the cells that
+     * are not used anymore.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a view of the portion of this list from fromIndex (inclusive) to toIndex (exclusive). The view does not
+     * copy any elements, it translates its indexes into the indexes of this list. Changes in the view are reflected
+     * in this list, and vice versa.
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Increases the capacity of the array, if necessary, so it can hold at least the specified number of elements
+     * without resizing. Call it before adding many elements when you know their number in advance.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Trims the capacity of the array to the current list size, so the list does not hold any unused memory.
+     * The list must still be able to grow after that, even if it was trimmed to zero capacity.
+     */
+    public void trimToSize() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns an iterator over the list elements from the first to the last one. The iterator is fail-fast. The list
+     * keeps a counter of structural modifications (modCount) that is incremented by every method that adds or removes
+     * elements. The iterator remembers its value when it's created, and its method next() throws
+     * {@link ConcurrentModificationException} if the list was structurally modified after that.
+     *
+     * @return a fail-fast iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a {@link Spliterator} that allows to process list elements in parallel. It works with a range of
+     * indexes, so trySplit() splits the remaining range in half in a constant time without copying any elements.
+     * It reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}
+     * characteristics, and throws {@link ConcurrentModificationException} the same as the iterator does if the list
+     * was structurally modified during traversal.
+     *
+     * @return a sized splittable spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }
@@ -0,0 +1,81 @@
+package com.bobocode.cs;
+
+import java.util.function.Supplier;
+
+/**
+ * This demo inserts elements into the middle of {@link ArrayList} in two ways. The first one calls
+ * {@link ArrayList#add(int, Object)} in a loop, and the second one calls {@link ArrayList#addAll(int, Object[])}
+ * once. Then it removes the same elements either one by one or with a single {@link ArrayList#removeRange(int, int)}.
+ * <p>
+ * Run it once you've implemented bulk operations. Each single insert or removal in the middle shifts the whole array
+ * tail, while a bulk operation shifts it only once. So inserting k elements into a list of n elements in a loop takes
+ * O(n * k) time, while bulk operations take O(n + k). The demo inserts as many elements as the list already has
+ * (k = n), and doubles n on every row, printing the best time of several runs in microseconds. So the loops become
+ * about four times slower on every row, while bulk operations grow only linearly and stay within a few milliseconds,
+ * so on such sizes their time is mostly noise. (The removal rows include the time of addAll that prepares the list.)
+ */
+public class ArrayListBulkOperationsBenchmark {
+    static final int[] SIZES = {12_500, 25_000, 50_000, 100_000};
+    static final int N = 3;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %20s %10s %20s %12s%n", "n = k", "add(index) loop", "addAll", "remove(index) loop",
+                "removeRange");
+        for (var size : SIZES) {
+            var elements = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = i;
+            }
+
+            long addLoop = bestOfNTimes(N, () -> {
+                var list = createList(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(size / 2 + i, elements[i]);
+                }
+                return list;
+            });
+            long addAll = bestOfNTimes(N, () -> {
+                var list = createList(size);
+                list.addAll(size / 2, elements);
+                return list;
+            });
+            long removeLoop = bestOfNTimes(N, () -> {
+                var list = createList(size);
+                list.addAll(size / 2, elements);
+                for (int i = 0; i < size; i++) {
+                    list.remove(size / 2);
+                }
+                return list;
+            });
+            long removeRange = bestOfNTimes(N, () -> {
+                var list = createList(size);
+                list.addAll(size / 2, elements);
+                list.removeRange(size / 2, size / 2 + size);
+                return list;
+            });
+            System.out.printf("%,10d %,17d us %,7d us %,17d us %,9d us%n", size, addLoop, addAll, removeLoop,
+                    removeRange);
+        }
+    }
+
+    static ArrayList<Integer> createList(int size) {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    static long bestOfNTimes(int n, Supplier<ArrayList<Integer>> listSupplier) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            var list = listSupplier.get();
+            best = Math.min(best, System.nanoTime() - start);
+            if (list.size() < 0) {
+                System.out.println(list.size());
+            }
+        }
+        return best / 1_000;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bobocode.cs;
+
+import java.util.function.Supplier;
+
+/**
+ * This demo sums up ten million elements of {@link ArrayList} in three ways: using a for-each loop (which is based on
+ * {@link ArrayList#iterator()}), using {@link ArrayList#stream()} and using {@link ArrayList#parallelStream()}.
+ * <p>
+ * Run it once you've implemented the iterator and the spliterator. A spliterator of an array-based list splits its
+ * range of indexes in half without copying anything, so a parallel stream should be faster on a multicore machine.
+ */
+public class ArrayListIterationBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+
+        System.out.println("for-each");
+        performNTimes(N, () -> {
+            long sum = 0;
+            for (var element : list) {
+                sum += element;
+            }
+            return sum;
+        });
+
+        System.out.println("\nstream()");
+        performNTimes(N, () -> list.stream().mapToLong(Integer::longValue).sum());
+
+        System.out.println("\nparallelStream(), available processors: " + Runtime.getRuntime().availableProcessors());
+        performNTimes(N, () -> list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+}
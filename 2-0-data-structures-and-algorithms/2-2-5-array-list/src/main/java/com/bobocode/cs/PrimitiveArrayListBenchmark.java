@@ -0,0 +1,79 @@
+package com.bobocode.cs;
+
+import java.lang.ref.Reference;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares {@link ArrayList} of {@link Integer} and {@link IntArrayList}. First, it measures how much heap
+ * memory a list of ten million numbers takes. Then it measures the time of adding all numbers to the list and
+ * summing them up by index.
+ * <p>
+ * Run it once you've implemented both lists. A boxed {@link Integer} takes 16 bytes plus a 4-8 byte reference to it,
+ * while a primitive int takes only 4 bytes, so you should see the difference in both memory and time.
+ */
+public class PrimitiveArrayListBenchmark {
+    static final int SIZE = 10_000_000;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        System.out.printf("ArrayList<Integer> takes %d MB%n", measureHeapMegabytes(() -> {
+            var list = new ArrayList<Integer>();
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            return list;
+        }));
+        System.out.printf("IntArrayList takes %d MB%n", measureHeapMegabytes(() -> {
+            var list = new IntArrayList();
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            return list;
+        }));
+
+        System.out.println("\nArrayList<Integer>");
+        performNTimes(N, () -> {
+            var list = new ArrayList<Integer>();
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            long sum = 0;
+            for (int i = 0; i < SIZE; i++) {
+                sum += list.get(i);
+            }
+            return sum;
+        });
+
+        System.out.println("\nIntArrayList");
+        performNTimes(N, () -> {
+            var list = new IntArrayList();
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            long sum = 0;
+            for (int i = 0; i < SIZE; i++) {
+                sum += list.get(i);
+            }
+            return sum;
+        });
+    }
+
+    static long measureHeapMegabytes(Supplier<Object> listSupplier) {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        var list = listSupplier.get();
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        Reference.reachabilityFence(list);
+        return (after - before) / (1024 * 1024);
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+}
@@ -7,10 +7,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * A reflection-based test class for {@link ArrayList}.
@@ -361,6 +367,317 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addAllToTheMiddle() {
+        fillTestArray(1, 2, 5, 6);
+
+        arrayList.addAll(2, 3, 4);
+
+        assertThat(arrayList.size()).isEqualTo(6);
+        for (int i = 0; i < 6; i++) {
+            assertThat(arrayList.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(38)
+    void addAllToTheBeginningAndTheEnd() {
+        fillTestArray(3, 4);
+
+        arrayList.addAll(0, 1, 2);
+        arrayList.addAll(4, 5, 6);
+
+        assertThat(arrayList.size()).isEqualTo(6);
+        for (int i = 0; i < 6; i++) {
+            assertThat(arrayList.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(39)
+    void addAllGrowsTheArrayToFitAllElements() {
+        Integer[] elements = new Integer[100];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+
+        arrayList.addAll(0, elements);
+
+        assertThat(arrayList.size()).isEqualTo(100);
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+        assertThat(arrayList.get(99)).isEqualTo(99);
+    }
+
+    @Test
+    @Order(40)
+    void addAllThrowsExceptionWhenIndexIsOutOfBounds() {
+        fillTestArray(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.addAll(3, 4, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.addAll(-1, 4, 5));
+    }
+
+    @Test
+    @Order(41)
+    void removeRange() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        arrayList.removeRange(1, 4);
+
+        assertThat(arrayList.size()).isEqualTo(3);
+        assertThat(arrayList.get(0)).isEqualTo(1);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+        assertThat(arrayList.get(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(42)
+    void removeRangeClearsUnusedCells() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        arrayList.removeRange(2, 6);
+
+        Object[] internalArray = getTestArray();
+        for (int i = 2; i < internalArray.length; i++) {
+            assertThat(internalArray[i]).isNull();
+        }
+    }
+
+    @Test
+    @Order(43)
+    void removeRangeThrowsExceptionWhenRangeIsInvalid() {
+        fillTestArray(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(-1, 2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(1, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.removeRange(2, 1));
+    }
+
+    @Test
+    @Order(44)
+    void subListReturnsElementsOfTheRange() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(subList.getFirst()).isEqualTo(2);
+        assertThat(subList.get(1)).isEqualTo(3);
+        assertThat(subList.getLast()).isEqualTo(4);
+        assertThat(subList.contains(5)).isFalse();
+    }
+
+    @Test
+    @Order(45)
+    void subListDoesNotCopyElements() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        subList.set(0, 20);
+        arrayList.set(3, 40);
+
+        assertThat(arrayList.get(1)).isEqualTo(20);
+        assertThat(subList.get(2)).isEqualTo(40);
+    }
+
+    @Test
+    @Order(46)
+    void subListStructuralChangesAreReflectedInTheList() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        subList.add(10);
+        subList.remove(0);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(arrayList.size()).isEqualTo(5);
+        assertThat(arrayList.get(0)).isEqualTo(1);
+        assertThat(arrayList.get(1)).isEqualTo(3);
+        assertThat(arrayList.get(3)).isEqualTo(10);
+        assertThat(arrayList.get(4)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(47)
+    void subListClearRemovesTheRangeFromTheList() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        arrayList.subList(1, 4).clear();
+
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(0)).isEqualTo(1);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(48)
+    void subListThrowsExceptionWhenIndexIsOutOfTheRange() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> subList.get(3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.subList(2, 6));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> arrayList.subList(3, 2));
+    }
+
+    @Test
+    @Order(49)
+    void ensureCapacity() {
+        fillTestArray(1, 2);
+
+        ((ArrayList<Integer>) arrayList).ensureCapacity(50);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(50);
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(50)
+    void trimToSize() {
+        arrayList = new ArrayList<>(20);
+        arrayList.add(1);
+        arrayList.add(2);
+
+        ((ArrayList<Integer>) arrayList).trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(51)
+    void addAfterTrimToSizeOfEmptyList() {
+        ((ArrayList<Integer>) arrayList).trimToSize();
+
+        arrayList.add(1);
+        arrayList.add(2);
+
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(52)
+    void iteratorReturnsAllElements() {
+        fillTestArray(1, 2, 3);
+
+        assertThat(iterate(arrayList)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(53)
+    void iteratorOfEmptyList() {
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(54)
+    void iteratorThrowsExceptionWhenNoElementsLeft() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(55)
+    void iteratorIsFailFastWhenElementIsAdded() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(56)
+    void iteratorIsFailFastWhenElementIsRemoved() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.remove(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(57)
+    void spliteratorIsSized() {
+        fillTestArray(1, 2, 3);
+
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(58)
+    void spliteratorSplitsInHalf() {
+        fillTestArray(IntStream.range(0, 2000).boxed().toArray());
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(1000L);
+        assertThat(spliterator.estimateSize()).isEqualTo(1000L);
+        assertThat(traverse(prefix)[0]).isEqualTo(0);
+        assertThat(traverse(spliterator)[0]).isEqualTo(1000);
+    }
+
+    @Test
+    @Order(59)
+    void streamReturnsAllElements() {
+        fillTestArray(1, 2, 3);
+
+        assertThat(arrayList.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(60)
+    void parallelStreamProcessesAllElements() {
+        fillTestArray(IntStream.range(0, 2000).boxed().toArray());
+
+        assertThat(arrayList.parallelStream().isParallel()).isTrue();
+        assertThat(arrayList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(1999L * 2000 / 2);
+    }
+
+    @Test
+    @Order(61)
+    void iteratorIsNotFailFastWhenElementIsSet() {
+        fillTestArray(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.set(1, 20);
+
+        assertThat(iterator.next()).isEqualTo(20);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
@@ -403,4 +720,18 @@ class ArrayListTest {
         arrayField.set(arrayList, elements);
         sizeField.set(arrayList, elements.length);
     }
+
+    private Object[] iterate(Iterable<?> iterable) {
+        Stream.Builder<Object> elements = Stream.builder();
+        for (Object element : iterable) {
+            elements.add(element);
+        }
+        return elements.build().toArray();
+    }
+
+    private Object[] traverse(Spliterator<?> spliterator) {
+        Stream.Builder<Object> elements = Stream.builder();
+        spliterator.forEachRemaining(elements::add);
+        return elements.build().toArray();
+    }
 }
@@ -0,0 +1,113 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+
+/**
+ * A reflection-based test class for {@link IntArrayList}. All test cases are in {@link PrimitiveArrayListTest}.
+ */
+class IntArrayListTest extends PrimitiveArrayListTest<IntArrayList> {
+
+    @Override
+    Class<IntArrayList> listClass() {
+        return IntArrayList.class;
+    }
+
+    @Override
+    Class<?> elementType() {
+        return int.class;
+    }
+
+    @Override
+    IntArrayList newList() {
+        return new IntArrayList();
+    }
+
+    @Override
+    IntArrayList newList(int initCapacity) {
+        return new IntArrayList(initCapacity);
+    }
+
+    @Override
+    IntArrayList of(long... elements) {
+        return IntArrayList.of(toInts(elements));
+    }
+
+    @Override
+    void add(IntArrayList list, long element) {
+        list.add((int) element);
+    }
+
+    @Override
+    void add(IntArrayList list, int index, long element) {
+        list.add(index, (int) element);
+    }
+
+    @Override
+    void addAll(IntArrayList list, long... elements) {
+        list.addAll(toInts(elements));
+    }
+
+    @Override
+    long get(IntArrayList list, int index) {
+        return list.get(index);
+    }
+
+    @Override
+    long getFirst(IntArrayList list) {
+        return list.getFirst();
+    }
+
+    @Override
+    long getLast(IntArrayList list) {
+        return list.getLast();
+    }
+
+    @Override
+    void set(IntArrayList list, int index, long element) {
+        list.set(index, (int) element);
+    }
+
+    @Override
+    long remove(IntArrayList list, int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    boolean contains(IntArrayList list, long element) {
+        return list.contains((int) element);
+    }
+
+    @Override
+    boolean isEmpty(IntArrayList list) {
+        return list.isEmpty();
+    }
+
+    @Override
+    int size(IntArrayList list) {
+        return list.size();
+    }
+
+    @Override
+    void clear(IntArrayList list) {
+        list.clear();
+    }
+
+    @Override
+    Object toArray(IntArrayList list) {
+        return list.toArray();
+    }
+
+    @Override
+    long streamSum(IntArrayList list) {
+        return list.stream().sum();
+    }
+
+    @Override
+    long streamCount(IntArrayList list) {
+        return list.stream().count();
+    }
+
+    private static int[] toInts(long[] elements) {
+        return Arrays.stream(elements).mapToInt(element -> (int) element).toArray();
+    }
+}
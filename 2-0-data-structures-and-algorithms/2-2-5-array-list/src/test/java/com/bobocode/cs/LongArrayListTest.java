@@ -0,0 +1,123 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A reflection-based test class for {@link LongArrayList}. All test cases are in {@link PrimitiveArrayListTest}.
+ */
+class LongArrayListTest extends PrimitiveArrayListTest<LongArrayList> {
+
+    @Override
+    Class<LongArrayList> listClass() {
+        return LongArrayList.class;
+    }
+
+    @Override
+    Class<?> elementType() {
+        return long.class;
+    }
+
+    @Override
+    LongArrayList newList() {
+        return new LongArrayList();
+    }
+
+    @Override
+    LongArrayList newList(int initCapacity) {
+        return new LongArrayList(initCapacity);
+    }
+
+    @Override
+    LongArrayList of(long... elements) {
+        return LongArrayList.of(elements);
+    }
+
+    @Override
+    void add(LongArrayList list, long element) {
+        list.add(element);
+    }
+
+    @Override
+    void add(LongArrayList list, int index, long element) {
+        list.add(index, element);
+    }
+
+    @Override
+    void addAll(LongArrayList list, long... elements) {
+        list.addAll(elements);
+    }
+
+    @Override
+    long get(LongArrayList list, int index) {
+        return list.get(index);
+    }
+
+    @Override
+    long getFirst(LongArrayList list) {
+        return list.getFirst();
+    }
+
+    @Override
+    long getLast(LongArrayList list) {
+        return list.getLast();
+    }
+
+    @Override
+    void set(LongArrayList list, int index, long element) {
+        list.set(index, element);
+    }
+
+    @Override
+    long remove(LongArrayList list, int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    boolean contains(LongArrayList list, long element) {
+        return list.contains(element);
+    }
+
+    @Override
+    boolean isEmpty(LongArrayList list) {
+        return list.isEmpty();
+    }
+
+    @Override
+    int size(LongArrayList list) {
+        return list.size();
+    }
+
+    @Override
+    void clear(LongArrayList list) {
+        list.clear();
+    }
+
+    @Override
+    Object toArray(LongArrayList list) {
+        return list.toArray();
+    }
+
+    @Override
+    long streamSum(LongArrayList list) {
+        return list.stream().sum();
+    }
+
+    @Override
+    long streamCount(LongArrayList list) {
+        return list.stream().count();
+    }
+
+    @Test
+    @Order(26)
+    void storesValuesOutOfIntRange() {
+        add(list, Long.MAX_VALUE);
+        add(list, Long.MIN_VALUE);
+
+        assertThat(list.get(0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(list.getLast()).isEqualTo(Long.MIN_VALUE);
+        assertThat(list.contains(1L << 40)).isFalse();
+    }
+}
@@ -0,0 +1,383 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * A reflection-based test of lists of primitive values ({@link IntArrayList} and {@link LongArrayList}). The lists
+ * have the same methods but no common interface, so every subclass adapts the methods of its list, and all values
+ * are passed as {@code long}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ *
+ * @param <L> list type
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+abstract class PrimitiveArrayListTest<L> {
+
+    protected L list = newList();
+
+    abstract Class<L> listClass();
+
+    abstract Class<?> elementType();
+
+    abstract L newList();
+
+    abstract L newList(int initCapacity);
+
+    abstract L of(long... elements);
+
+    abstract void add(L list, long element);
+
+    abstract void add(L list, int index, long element);
+
+    abstract void addAll(L list, long... elements);
+
+    abstract long get(L list, int index);
+
+    abstract long getFirst(L list);
+
+    abstract long getLast(L list);
+
+    abstract void set(L list, int index, long element);
+
+    abstract long remove(L list, int index);
+
+    abstract boolean contains(L list, long element);
+
+    abstract boolean isEmpty(L list);
+
+    abstract int size(L list);
+
+    abstract void clear(L list);
+
+    abstract Object toArray(L list);
+
+    abstract long streamSum(L list);
+
+    abstract long streamCount(L list);
+
+    @Test
+    @Order(1)
+    void elementsAreStoredInPrimitiveArray() {
+        var arrayFields = Arrays.stream(listClass().getDeclaredFields())
+                .filter(field -> field.getType().isArray())
+                .toList();
+
+        assertThat(arrayFields).hasSize(1);
+        assertThat(arrayFields.get(0).getType().getComponentType()).isEqualTo(elementType());
+    }
+
+    @Test
+    @Order(2)
+    void add() {
+        add(list, 10);
+        add(list, 15);
+        add(list, 20);
+
+        assertThat(getTestElement(0)).isEqualTo(10);
+        assertThat(getTestElement(1)).isEqualTo(15);
+        assertThat(getTestElement(2)).isEqualTo(20);
+        assertThat(getTestSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(3)
+    void createListWithSpecificArrayCapacity() {
+        list = newList(8);
+        assertThat(getTestArrayLength()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(4)
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> list = newList(-2));
+    }
+
+    @Test
+    @Order(5)
+    void addElements() {
+        list = of(15, 69, 58, 78);
+
+        assertThat(getTestElement(0)).isEqualTo(15);
+        assertThat(getTestElement(3)).isEqualTo(78);
+        assertThat(getTestSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(6)
+    void addShouldResizeDefaultCapacityWhenArrayIsFull() {
+        int defaultCapacity = getTestArrayLength();
+
+        for (int i = 0; i < 7; i++) {
+            add(list, i);
+        }
+
+        assertThat(getTestArrayLength()).isGreaterThan(defaultCapacity);
+        assertThat(getTestSize()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(7)
+    void addElementByIndex() {
+        fillTestArray(15, 69, 58, 78, 68);
+
+        add(list, 2, 10);
+
+        assertThat(getTestElement(2)).isEqualTo(10);
+        assertThat(getTestElement(5)).isEqualTo(68);
+        assertThat(getTestSize()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(8)
+    void addElementByIndexEqualToSize() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        add(list, 5, 111);
+
+        assertThat(getTestElement(5)).isEqualTo(111);
+        assertThat(getTestSize()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(9)
+    void addElementByIndexOutOfBounds() {
+        fillTestArray(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> add(list, -1, 66));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> add(list, 4, 66));
+    }
+
+    @Test
+    @Order(10)
+    void addAll() {
+        fillTestArray(1, 2);
+
+        addAll(list, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(getTestSize()).isEqualTo(9);
+        for (int i = 0; i < 9; i++) {
+            assertThat(getTestElement(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @Order(11)
+    void addAllGrowsArrayToFitAllElements() {
+        list = newList(2);
+
+        addAll(list, new long[100]);
+
+        assertThat(getTestArrayLength()).isBetween(100, 200);
+        assertThat(getTestSize()).isEqualTo(100);
+    }
+
+    @Test
+    @Order(12)
+    void getElementsByIndex() {
+        fillTestArray(10, 15, 20);
+
+        assertThat(get(list, 0)).isEqualTo(10);
+        assertThat(get(list, 2)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(13)
+    void getElementByIndexOutOfBounds() {
+        fillTestArray(1, 2, 3, 4);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> get(list, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> get(list, -1));
+    }
+
+    @Test
+    @Order(14)
+    void getFirstAndLastElement() {
+        fillTestArray(31, 24, 34);
+
+        assertThat(getFirst(list)).isEqualTo(31);
+        assertThat(getLast(list)).isEqualTo(34);
+    }
+
+    @Test
+    @Order(15)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> getFirst(list));
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> getLast(list));
+    }
+
+    @Test
+    @Order(16)
+    void setElementByIndex() {
+        fillTestArray(15, 69, 58, 78);
+
+        set(list, 2, 10);
+
+        assertThat(getTestElement(2)).isEqualTo(10);
+        assertThat(getTestSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(17)
+    void setElementByIndexOutOfBounds() {
+        fillTestArray(15, 69, 58, 78);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> set(list, 4, 10));
+    }
+
+    @Test
+    @Order(18)
+    void removeElementByIndex() {
+        fillTestArray(15, 69, 58, 78, 100);
+
+        long removedElement = remove(list, 2);
+
+        assertThat(getTestElement(2)).isEqualTo(78);
+        assertThat(getTestElement(3)).isEqualTo(100);
+        assertThat(getTestSize()).isEqualTo(4);
+        assertThat(removedElement).isEqualTo(58);
+    }
+
+    @Test
+    @Order(19)
+    void removeElementByIndexOutOfBounds() {
+        fillTestArray(15, 69, 58, 78);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> remove(list, 4));
+    }
+
+    @Test
+    @Order(20)
+    void contains() {
+        fillTestArray(15, 69, 58, 78, 100);
+
+        assertThat(contains(list, 58)).isTrue();
+        assertThat(contains(list, 200)).isFalse();
+    }
+
+    @Test
+    @Order(21)
+    void containsDoesNotCheckUnusedCells() {
+        list = newList(100);
+        fillTestArray(5, 10);
+
+        assertThat(contains(list, 0)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    void isEmpty() {
+        assertThat(isEmpty(list)).isTrue();
+
+        setTestSize(3);
+
+        assertThat(isEmpty(list)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    void clear() {
+        fillTestArray(4, 5, 6);
+
+        clear(list);
+
+        assertThat(size(list)).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> get(list, 0));
+    }
+
+    @Test
+    @Order(24)
+    void toArray() {
+        fillTestArray(4, 5, 6);
+
+        Object array = toArray(list);
+        Array.set(array, 0, Array.get(array, 2));
+
+        assertThat(array.getClass().getComponentType()).isEqualTo(elementType());
+        assertThat(Array.getLength(array)).isEqualTo(3);
+        assertThat(Array.getLong(array, 1)).isEqualTo(5);
+        assertThat(get(list, 0)).isEqualTo(4);
+    }
+
+    @Test
+    @Order(25)
+    void stream() {
+        fillTestArray(4, 5, 6);
+
+        assertThat(streamSum(list)).isEqualTo(15);
+        assertThat(streamCount(list)).isEqualTo(3);
+    }
+
+    @SneakyThrows
+    void setTestSize(int size) {
+        Field sizeField = listClass().getDeclaredField("size");
+        sizeField.setAccessible(true);
+        sizeField.set(list, size);
+    }
+
+    @SneakyThrows
+    int getTestSize() {
+        Field sizeField = listClass().getDeclaredField("size");
+        sizeField.setAccessible(true);
+        return (int) sizeField.get(list);
+    }
+
+    @SneakyThrows
+    long getTestElement(int index) {
+        return Array.getLong(getTestArrayField().get(list), index);
+    }
+
+    @SneakyThrows
+    int getTestArrayLength() {
+        return Array.getLength(getTestArrayField().get(list));
+    }
+
+    private Field getTestArrayField() {
+        var arrayField = Arrays.stream(listClass().getDeclaredFields())
+                .filter(field -> field.getType().isArray())
+                .findAny()
+                .orElseThrow();
+        arrayField.setAccessible(true);
+        return arrayField;
+    }
+
+    @SneakyThrows
+    void fillTestArray(long... elements) {
+        var arrayField = getTestArrayField();
+        var array = arrayField.get(list);
+        if (Array.getLength(array) < elements.length) {
+            array = Array.newInstance(elementType(), elements.length);
+            arrayField.set(list, array);
+        }
+        for (int i = 0; i < elements.length; i++) {
+            if (elementType() == int.class) {
+                Array.setInt(array, i, (int) elements[i]);
+            } else {
+                Array.setLong(array, i, elements[i]);
+            }
+        }
+        setTestSize(elements.length);
+    }
+}
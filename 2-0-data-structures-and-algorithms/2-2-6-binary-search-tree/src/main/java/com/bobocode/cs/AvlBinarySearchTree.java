@@ -0,0 +1,168 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. Unlike
+ * {@link RecursiveBinarySearchTree}, it does not degenerate into a linked list when elements are inserted in the sorted
+ * order, so its depth is always O(log n), and all operations take O(log n) time.
+ * <p>
+ * It is based on linked nodes as well. A tree node is represented as a nested class {@link Node}. Besides an element
+ * and references to the left and right child nodes, it stores the {@code height} of its subtree (the number of nodes on
+ * the longest path from the node down to a leaf, so a leaf has height 1). The tree keeps the AVL invariant: the heights
+ * of the left and right subtrees of every node differ by at most one.
+ * <p>
+ * Insert and search are <strong>iterative</strong>, so they never overflow the stack. Insert goes down from the root to
+ * find a place for a new element, remembering the path in an array (it is short, because the tree is balanced). Then
+ * it goes back up along this path, updates the heights, and restores the balance of every node where it is broken
+ * using left and right rotations:
+ * <ul>
+ * <li>left-left case (a new element is in the left subtree of the left child) – a single right rotation</li>
+ * <li>right-right case – a single left rotation</li>
+ * <li>left-right case – a left rotation of the left child, and then a right rotation of the node</li>
+ * <li>right-left case – a right rotation of the right child, and then a left rotation of the node</li>
+ * </ul>
+ * Since the height of the root is stored, {@link AvlBinarySearchTree#depth()} works in a constant time.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    /**
+     * Creates a tree of provided elements.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new balanced tree
+     */
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts an element without recursion, and rebalances the tree on the way back to the root.
+     *
+     * @param element an element to insert
+     * @return true if element did not exist in the tree and was inserted successfully
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Searches an element without recursion.
+     *
+     * @param element an element to find
+     * @return true if tree contains element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns a tree depth based on the height of the root node.
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains 1
+     * element
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses the tree in element's natural order without recursion. It keeps the path to the current node in
+     * an explicit stack (e.g. {@link java.util.ArrayDeque}): it pushes nodes while going to the left, pops a node,
+     * passes its element to the consumer and then goes to its right subtree.
+     *
+     * @param consumer accepts elements during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Finds the greatest element less than or equal to the given one. It goes down from the root without recursion,
+     * and remembers the last node that is less than the given element, so it visits only one path.
+     *
+     * @param element an element to compare with
+     * @return the floor element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T floor(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Finds the least element greater than or equal to the given one. It goes down from the root without recursion,
+     * and remembers the last node that is greater than the given element, so it visits only one path.
+     *
+     * @param element an element to compare with
+     * @return the ceiling element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T ceiling(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements from lo (inclusive) to hi (inclusive) in the natural order. It works the same as
+     * in-order traversal with an explicit stack, but it prunes the subtrees that are outside the range: it does not go
+     * to the left of a node that is less than lo, and does not go to the right of a node that is greater than hi. So it
+     * takes O(h + k) time, where h is the tree depth and k is the number of elements in the range.
+     *
+     * @param lo       the lowest element of the range
+     * @param hi       the highest element of the range
+     * @param consumer accepts elements of the range during traversing
+     * @throws NullPointerException if lo or hi is null
+     */
+    @Override
+    public void rangeQuery(T lo, T hi, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements strictly less than toElement in the natural order, pruning the subtrees that are greater.
+     *
+     * @param toElement an upper bound (exclusive)
+     * @param consumer  accepts elements during traversing
+     * @throws NullPointerException if toElement is null
+     */
+    @Override
+    public void headSet(T toElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements greater than or equal to fromElement in the natural order, pruning the subtrees that are
+     * less.
+     *
+     * @param fromElement a lower bound (inclusive)
+     * @param consumer    accepts elements during traversing
+     * @throws NullPointerException if fromElement is null
+     */
+    @Override
+    public void tailSet(T fromElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -29,4 +29,32 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element less than or equal to the given element, or null if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given element, or null if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * traverse elements from lo (inclusive) to hi (inclusive) in element's natural order
+     * @param consumer accepts elements of the range during traversing
+     */
+    void rangeQuery(T lo, T hi, Consumer<T> consumer);
+
+    /**
+     * traverse elements strictly less than toElement in element's natural order
+     * @param consumer accepts elements during traversing
+     */
+    void headSet(T toElement, Consumer<T> consumer);
+
+    /**
+     * traverse elements greater than or equal to fromElement in element's natural order
+     * @param consumer accepts elements during traversing
+     */
+    void tailSet(T fromElement, Consumer<T> consumer);
 }
@@ -0,0 +1,66 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * This demo compares {@link RecursiveBinarySearchTree} and {@link AvlBinarySearchTree} on sorted, reverse-sorted and
+ * random input. For each tree it prints the depth, and the number of inserts and searches per second.
+ * <p>
+ * Run it once you've implemented both trees. On random input both trees are fast, but on sorted input the recursive
+ * tree degenerates into a linked list: its depth equals the number of elements minus one, every operation takes O(n)
+ * time, and the recursion may overflow the stack. The depth of the AVL tree stays close to log2(n) on any input.
+ */
+public class BinarySearchTreeBenchmark {
+    static final int SIZE = 20_000;
+
+    public static void main(String[] args) {
+        var sorted = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+        var reverseSorted = IntStream.range(0, SIZE).map(i -> SIZE - i).boxed().toArray(Integer[]::new);
+        var random = new Random(42).ints(SIZE).boxed().toArray(Integer[]::new);
+
+        System.out.println("Sorted input");
+        measure(sorted, RecursiveBinarySearchTree::new, AvlBinarySearchTree::new);
+
+        System.out.println("\nReverse-sorted input");
+        measure(reverseSorted, RecursiveBinarySearchTree::new, AvlBinarySearchTree::new);
+
+        System.out.println("\nRandom input");
+        measure(random, RecursiveBinarySearchTree::new, AvlBinarySearchTree::new);
+    }
+
+    @SafeVarargs
+    static void measure(Integer[] elements, Supplier<BinarySearchTree<Integer>>... treeSuppliers) {
+        for (var treeSupplier : treeSuppliers) {
+            var tree = treeSupplier.get();
+            var name = tree.getClass().getSimpleName();
+            try {
+                long start = System.nanoTime();
+                for (var element : elements) {
+                    tree.insert(element);
+                }
+                long insertNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                int found = 0;
+                for (var element : elements) {
+                    if (tree.contains(element)) {
+                        found++;
+                    }
+                }
+                long containsNanos = System.nanoTime() - start;
+
+                System.out.printf("%s: depth %d, insert %,d ops/s, contains %,d ops/s (found %d)%n", name,
+                        tree.depth(), opsPerSecond(elements.length, insertNanos),
+                        opsPerSecond(elements.length, containsNanos), found);
+            } catch (StackOverflowError e) {
+                System.out.printf("%s: StackOverflowError%n", name);
+            }
+        }
+    }
+
+    static long opsPerSecond(int operations, long nanos) {
+        return operations * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * This demo compares the ways to build a {@link RecursiveBinarySearchTree}. First, it inserts sorted elements one by
+ * one and builds the same tree with {@link RecursiveBinarySearchTree#of}. Then it builds a large tree of random
+ * elements with {@link RecursiveBinarySearchTree#of} and {@link RecursiveBinarySearchTree#parallelOf}.
+ * <p>
+ * Run it once you've implemented the bulk load. Inserting sorted elements one by one takes O(n^2) time and builds
+ * a tree as deep as its size, while the bulk load takes O(n) and builds a tree of depth ⌈log2(n + 1)⌉ - 1.
+ * The parallel build should be faster on a multicore machine. If the recursive insert of sorted elements overflows the
+ * stack, the demo reports it and goes on with the bulk load.
+ */
+public class BulkLoadBenchmark {
+    static final int SORTED_SIZE = 20_000;
+    static final int RANDOM_SIZE = 5_000_000;
+    static final int N = 3;
+
+    public static void main(String[] args) {
+        var sorted = IntStream.range(0, SORTED_SIZE).boxed().toArray(Integer[]::new);
+        var random = new Random(42).ints(RANDOM_SIZE).boxed().toArray(Integer[]::new);
+
+        System.out.println("insert() of sorted elements");
+        performNTimes(N, () -> {
+            var tree = new RecursiveBinarySearchTree<Integer>();
+            for (var element : sorted) {
+                tree.insert(element);
+            }
+            return tree;
+        });
+
+        System.out.println("\nof() of sorted elements");
+        performNTimes(N, () -> RecursiveBinarySearchTree.of(sorted));
+
+        System.out.println("\nof() of random elements");
+        performNTimes(N, () -> RecursiveBinarySearchTree.of(random));
+
+        System.out.println("\nparallelOf() of random elements");
+        performNTimes(N, () -> RecursiveBinarySearchTree.parallelOf(random));
+    }
+
+    static void performNTimes(int n, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            BinarySearchTree<Integer> tree;
+            try {
+                tree = treeSupplier.get();
+            } catch (StackOverflowError e) {
+                System.out.println("StackOverflowError: the tree is too deep to build recursively");
+                return;
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            try {
+                System.out.println(millis + " ms (size " + tree.size() + ", depth " + tree.depth() + ")");
+            } catch (StackOverflowError e) {
+                System.out.println(millis + " ms (size " + tree.size()
+                        + ", depth is too big to calculate recursively)");
+            }
+        }
+    }
+}
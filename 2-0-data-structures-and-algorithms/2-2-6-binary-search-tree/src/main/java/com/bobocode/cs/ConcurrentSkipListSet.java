@@ -0,0 +1,176 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentSkipListSet} is a thread-safe ordered set that implements {@link BinarySearchTree} on top of
+ * a <strong>skip list</strong> instead of a tree. Many threads can insert and search elements at the same time. It does
+ * not use locks, and unlike balanced trees it never needs rebalancing, so there is nothing to lock the whole structure
+ * for.
+ * <p>
+ * A skip list is a sorted linked list with express lanes. Every node has a random {@code level} (the number of lanes it
+ * belongs to) and an array of {@code next} references, one per level. The level is chosen by flipping a coin: 1 with
+ * probability 1/2, 2 with probability 1/4, and so on, up to 32. So the lowest level links all nodes, the next one links
+ * about a half of them, etc. A {@code head} node has the max level and no element.
+ * <p>
+ * A search starts at the head on the highest level, and goes right while the next element is less than the given
+ * one. Then it goes one level down and continues. On average it makes O(log n) steps, no matter in which order the
+ * elements were inserted.
+ * <p>
+ * Insert works without locks:
+ * <ul>
+ * <li>it searches the position, and remembers the last node before it on every level ({@code preds}) and the node
+ * after it ({@code succs})</li>
+ * <li>it creates a new node pointing to {@code succs}, and links it at the lowest level with a CAS of
+ * {@code preds[0].next[0]}. If the CAS fails, another thread has changed the list, so it searches again. After this
+ * step the element is in the set (this is the linearization point)</li>
+ * <li>then it links the node into the upper levels one by one with a CAS, searching again whenever a CAS fails</li>
+ * </ul>
+ * The {@code next} references are updated via {@link java.lang.invoke.MethodHandles#arrayElementVarHandle}, or stored
+ * in an {@link java.util.concurrent.atomic.AtomicReferenceArray}. Since {@link BinarySearchTree} does not allow
+ * removing elements, nodes are never unlinked, and a CAS of a single reference is enough. The size is kept in a
+ * thread-safe counter.
+ * <p>
+ * Traversal and range operations go along the lowest level. They are weakly consistent: they never fail because of
+ * concurrent inserts, and may or may not see elements inserted after they started.
+ * <p>
+ * This implementation does not support null elements.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <T> a type of elements that are stored in the set
+ */
+public class ConcurrentSkipListSet<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    /**
+     * Creates a set of provided elements.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new set
+     */
+    public static <T extends Comparable<T>> ConcurrentSkipListSet<T> of(T... elements) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Inserts an element without locks. It is safe to call this method from many threads at the same time.
+     *
+     * @param element an element to insert
+     * @return true if element did not exist in the set and was inserted successfully
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Searches an element going from the highest level down to the lowest one.
+     *
+     * @param element an element to find
+     * @return true if set contains element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public boolean contains(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * @return number of elements in the set
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Returns the number of levels that are used by at least one node, counting the lowest one. It plays the same role
+     * as the depth of a tree: a search makes about two steps per level. For n elements it is about log2(n).
+     *
+     * @return the highest level of a node; 0 - if set is empty
+     */
+    @Override
+    public int depth() {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses the lowest level from the head to the end.
+     *
+     * @param consumer accepts elements during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Finds the greatest element less than or equal to the given one. It searches the last node that is less than
+     * the given element on the lowest level, and checks if the next node is equal to it.
+     *
+     * @param element an element to compare with
+     * @return the floor element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T floor(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Finds the least element greater than or equal to the given one. It is the node after the last node that is less
+     * than the given element on the lowest level.
+     *
+     * @param element an element to compare with
+     * @return the ceiling element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T ceiling(T element) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements from lo (inclusive) to hi (inclusive). It searches the ceiling node of lo in O(log n) steps,
+     * and then goes along the lowest level until it meets an element greater than hi.
+     *
+     * @param lo       the lowest element of the range
+     * @param hi       the highest element of the range
+     * @param consumer accepts elements of the range during traversing
+     * @throws NullPointerException if lo or hi is null
+     */
+    @Override
+    public void rangeQuery(T lo, T hi, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements strictly less than toElement, going along the lowest level from the head.
+     *
+     * @param toElement an upper bound (exclusive)
+     * @param consumer  accepts elements during traversing
+     * @throws NullPointerException if toElement is null
+     */
+    @Override
+    public void headSet(T toElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+
+    /**
+     * Traverses elements greater than or equal to fromElement. It searches the ceiling node of fromElement, and then
+     * goes along the lowest level to the end.
+     *
+     * @param fromElement a lower bound (inclusive)
+     * @param consumer    accepts elements during traversing
+     * @throws NullPointerException if fromElement is null
+     */
+    @Override
+    public void tailSet(T fromElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
+}
@@ -0,0 +1,61 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This demo runs the same time-window lookups on {@link AvlBinarySearchTree} of one million elements in two ways.
+ * The first one traverses the whole tree and filters the elements of the window, and the second one calls
+ * {@link BinarySearchTree#rangeQuery(Comparable, Comparable, java.util.function.Consumer)}.
+ * <p>
+ * Run it once you've implemented the tree. A full traversal takes O(n) time for every query, while a range query
+ * prunes the subtrees outside the window and takes O(log n + k), where k is the number of elements in the window.
+ */
+public class RangeQueryBenchmark {
+    static final int SIZE = 1_000_000;
+    static final int WINDOW = 100;
+    static final int QUERIES = 100;
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        var tree = new AvlBinarySearchTree<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            tree.insert(i);
+        }
+        var starts = new Random(42).ints(QUERIES, 0, SIZE - WINDOW).toArray();
+
+        System.out.println("inOrderTraversal() with a filter");
+        performNTimes(N, () -> {
+            long sum = 0;
+            for (var start : starts) {
+                var window = new long[1];
+                tree.inOrderTraversal(element -> {
+                    if (element >= start && element < start + WINDOW) {
+                        window[0] += element;
+                    }
+                });
+                sum += window[0];
+            }
+            return sum;
+        });
+
+        System.out.println("\nrangeQuery()");
+        performNTimes(N, () -> {
+            long sum = 0;
+            for (var start : starts) {
+                var window = new long[1];
+                tree.rangeQuery(start, start + WINDOW - 1, element -> window[0] += element);
+                sum += window[0];
+            }
+            return sum;
+        });
+    }
+
+    static void performNTimes(int n, Supplier<Long> sumSupplier) {
+        for (int i = 0; i < n; i++) {
+            long start = System.nanoTime();
+            long sum = sumSupplier.get();
+            System.out.println((System.nanoTime() - start) / 1_000_000 + " ms (sum " + sum + ")");
+        }
+    }
+}
@@ -18,10 +18,43 @@ import java.util.function.Consumer;
  */
 public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
 
+    /**
+     * Creates a perfectly balanced tree of provided elements. Instead of inserting elements one by one (which takes
+     * O(n^2) time and builds a linked list when elements are sorted), it loads them in bulk:
+     * <ul>
+     * <li>if elements are already sorted (which is checked in O(n)), it uses them as is; otherwise it sorts a copy,
+     * so the provided array is not changed</li>
+     * <li>it skips duplicates</li>
+     * <li>it builds the tree recursively: the middle element becomes the root, and the left and right halves of
+     * the array become its left and right subtrees</li>
+     * </ul>
+     * Building takes O(n) for sorted input, and the depth of the tree is ⌈log2(n + 1)⌉ - 1.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new balanced tree
+     * @throws NullPointerException if any element is null
+     */
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
         throw new ExerciseNotCompletedException();
     }
 
+    /**
+     * Creates a perfectly balanced tree of provided elements the same way as {@link RecursiveBinarySearchTree#of},
+     * but it uses {@link java.util.concurrent.ForkJoinPool} for large arrays. It sorts a copy with
+     * {@link java.util.Arrays#parallelSort(Object[])}, and builds the left and right subtrees of big ranges as
+     * separate {@link java.util.concurrent.RecursiveTask}s. Small ranges (e.g. less than 8192 elements) are built
+     * sequentially, because a task is much more expensive than creating a few nodes.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new balanced tree
+     * @throws NullPointerException if any element is null
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> parallelOf(T... elements) {
+        throw new ExerciseNotCompletedException();
+    }
+
     @Override
     public boolean insert(T element) {
         throw new ExerciseNotCompletedException();
@@ -42,8 +75,83 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         throw new ExerciseNotCompletedException();
     }
 
+    /**
+     * Traverses the tree in element's natural order without recursion, so it does not overflow the stack even when the
+     * tree degenerates into a linked list (e.g. when elements were inserted in the sorted order). It keeps the path to
+     * the current node in an explicit stack (e.g. {@link java.util.ArrayDeque}): it pushes nodes while going to the
+     * left, pops a node, passes its element to the consumer and then goes to its right subtree.
+     *
+     * @param consumer accepts elements during traversing
+     */
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
         throw new ExerciseNotCompletedException();
     }
+
+    /**
+     * Finds the greatest element less than or equal to the given one. It goes down from the root without recursion,
+     * and remembers the last node that is less than the given element, so it visits only one path.
+     *
+     * @param element an element to compare with
+     * @return the floor element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T floor(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Finds the least element greater than or equal to the given one. It goes down from the root without recursion,
+     * and remembers the last node that is greater than the given element, so it visits only one path.
+     *
+     * @param element an element to compare with
+     * @return the ceiling element or null if there is no such element
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public T ceiling(T element) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses elements from lo (inclusive) to hi (inclusive) in the natural order. It works the same as
+     * in-order traversal with an explicit stack, but it prunes the subtrees that are outside the range: it does not go
+     * to the left of a node that is less than lo, and does not go to the right of a node that is greater than hi. So it
+     * takes O(h + k) time, where h is the tree depth and k is the number of elements in the range.
+     *
+     * @param lo       the lowest element of the range
+     * @param hi       the highest element of the range
+     * @param consumer accepts elements of the range during traversing
+     * @throws NullPointerException if lo or hi is null
+     */
+    @Override
+    public void rangeQuery(T lo, T hi, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses elements strictly less than toElement in the natural order, pruning the subtrees that are greater.
+     *
+     * @param toElement an upper bound (exclusive)
+     * @param consumer  accepts elements during traversing
+     * @throws NullPointerException if toElement is null
+     */
+    @Override
+    public void headSet(T toElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
+
+    /**
+     * Traverses elements greater than or equal to fromElement in the natural order, pruning the subtrees that are
+     * less.
+     *
+     * @param fromElement a lower bound (inclusive)
+     * @param consumer    accepts elements during traversing
+     * @throws NullPointerException if fromElement is null
+     */
+    @Override
+    public void tailSet(T fromElement, Consumer<T> consumer) {
+        throw new ExerciseNotCompletedException();
+    }
 }
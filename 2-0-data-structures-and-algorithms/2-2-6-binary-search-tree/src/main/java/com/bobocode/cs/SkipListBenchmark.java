@@ -0,0 +1,139 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares {@link RecursiveBinarySearchTree} guarded by a single lock with {@link ConcurrentSkipListSet}
+ * under 1 to 32 threads. The trees are pre-filled with random elements, then every thread performs the same number of
+ * operations: 90% of them are searches and 10% are inserts of random elements. It prints the total throughput.
+ * <p>
+ * Run it once you've implemented both classes. With one thread the synchronized tree is as fast as the skip list or
+ * even faster, since an uncontended lock is cheap. With more threads all of them wait for the same lock, so the
+ * throughput of the synchronized tree stays flat or drops. The skip list lets searches go in parallel and inserts only
+ * compete for the references they change, so its throughput grows with the number of cores.
+ */
+public class SkipListBenchmark {
+    static final int INITIAL_SIZE = 100_000;
+    static final int OPERATIONS_PER_THREAD = 200_000;
+    static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+
+    public static void main(String[] args) {
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+        for (var threads : THREADS) {
+            System.out.println("\nThreads: " + threads);
+            measure(threads, SynchronizedTree::new);
+            measure(threads, ConcurrentSkipListSet::new);
+        }
+    }
+
+    static void measure(int threads, Supplier<BinarySearchTree<Integer>> treeSupplier) {
+        var tree = treeSupplier.get();
+        new Random(42).ints(INITIAL_SIZE).forEach(tree::insert);
+
+        var start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            var worker = new Thread(() -> {
+                awaitUninterruptibly(start);
+                var random = ThreadLocalRandom.current();
+                for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                    var element = random.nextInt();
+                    if (j % 10 == 0) {
+                        tree.insert(element);
+                    } else {
+                        tree.contains(element);
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        workers.forEach(SkipListBenchmark::joinUninterruptibly);
+        long nanos = System.nanoTime() - startTime;
+
+        long operations = (long) threads * OPERATIONS_PER_THREAD;
+        System.out.printf("%s: %,d ops/s (size %d)%n", tree.getClass().getSimpleName(),
+                operations * 1_000_000_000L / Math.max(nanos, 1), tree.size());
+    }
+
+    static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void joinUninterruptibly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A {@link RecursiveBinarySearchTree} that holds a single lock during every operation, the same way as
+     * {@link java.util.Collections#synchronizedSet(java.util.Set)} does.
+     */
+    static class SynchronizedTree extends RecursiveBinarySearchTree<Integer> {
+        @Override
+        public synchronized boolean insert(Integer element) {
+            return super.insert(element);
+        }
+
+        @Override
+        public synchronized boolean contains(Integer element) {
+            return super.contains(element);
+        }
+
+        @Override
+        public synchronized int size() {
+            return super.size();
+        }
+
+        @Override
+        public synchronized int depth() {
+            return super.depth();
+        }
+
+        @Override
+        public synchronized void inOrderTraversal(Consumer<Integer> consumer) {
+            super.inOrderTraversal(consumer);
+        }
+
+        @Override
+        public synchronized Integer floor(Integer element) {
+            return super.floor(element);
+        }
+
+        @Override
+        public synchronized Integer ceiling(Integer element) {
+            return super.ceiling(element);
+        }
+
+        @Override
+        public synchronized void rangeQuery(Integer lo, Integer hi, Consumer<Integer> consumer) {
+            super.rangeQuery(lo, hi, consumer);
+        }
+
+        @Override
+        public synchronized void headSet(Integer toElement, Consumer<Integer> consumer) {
+            super.headSet(toElement, consumer);
+        }
+
+        @Override
+        public synchronized void tailSet(Integer fromElement, Consumer<Integer> consumer) {
+            super.tailSet(fromElement, consumer);
+        }
+    }
+}
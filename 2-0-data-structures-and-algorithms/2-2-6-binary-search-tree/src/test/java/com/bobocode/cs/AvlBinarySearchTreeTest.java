@@ -0,0 +1,456 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * A reflection-based test class for {@link AvlBinarySearchTree}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AvlBinarySearchTreeTest {
+    private static final Predicate<Field> SIZE_FIELD = field ->
+            field.getName().toLowerCase().contains("size") || field.getName().toLowerCase().contains("length");
+
+    private static final Predicate<Field> NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> ELEMENT_FIELD = field ->
+            field.getName().toLowerCase().contains("element")
+            || field.getName().toLowerCase().contains("item")
+            || field.getName().toLowerCase().contains("value");
+
+    private static final Predicate<Field> LEFT_FIELD = field ->
+            field.getName().toLowerCase().contains("left")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> RIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("right")
+            && field.getType().getSimpleName().equals("Node");
+
+    private static final Predicate<Field> HEIGHT_FIELD = field ->
+            field.getName().toLowerCase().contains("height")
+            && field.getType().equals(int.class);
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+
+    private BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void properNodeClassNameCheck() {
+        Class<?> innerClass = getInnerClass();
+        String name = innerClass.getSimpleName();
+
+        assertThat(name).isEqualTo("Node");
+    }
+
+    @Test
+    @Order(2)
+    void properTreeFieldsCheck() {
+        Class<?> treeClass = tree.getClass();
+
+        boolean hasSizeField = Arrays.stream(treeClass.getDeclaredFields())
+                .anyMatch(SIZE_FIELD);
+
+        boolean hasNodeField = Arrays.stream(treeClass.getDeclaredFields())
+                .anyMatch(NODE_FIELD);
+
+        assertThat(hasSizeField).isTrue();
+        assertThat(hasNodeField).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    void properNodeFieldsCheck() {
+        Class<?> innerClass = getInnerClass();
+
+        boolean isElement = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(ELEMENT_FIELD);
+
+        boolean isLeft = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(LEFT_FIELD);
+
+        boolean isRight = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(RIGHT_FIELD);
+
+        boolean isHeight = Arrays.stream(innerClass.getDeclaredFields())
+                .anyMatch(HEIGHT_FIELD);
+
+        assertThat(isElement).isTrue();
+        assertThat(isLeft).isTrue();
+        assertThat(isRight).isTrue();
+        assertThat(isHeight).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    void of() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        for (var e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(getInnerSize()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(5)
+    void insert() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(getInnerSize()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(6)
+    void insertDoesNotAddDuplicateElements() {
+        tree = AvlBinarySearchTree.of(10, 11, 12);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.insert(12)).isFalse();
+        assertThat(getInnerSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(7)
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(8)
+    void containsReturnsFalseIfElementDoesntExist() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThat(tree.contains(100)).isFalse();
+    }
+
+    @Test
+    @Order(9)
+    void containsThrowsExceptionIfParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Order(10)
+    @ParameterizedTest
+    @MethodSource("rotationArguments")
+    void insertRotatesUnbalancedNodes(Integer[] elements) {
+        tree = AvlBinarySearchTree.of(elements);
+
+        Object root = getRootObject();
+
+        assertThat(getElement(root)).isEqualTo(2);
+        assertThat(getElement(getLeftNode(root))).isEqualTo(1);
+        assertThat(getElement(getRightNode(root))).isEqualTo(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(11)
+    void insertKeepsHeightsUpToDate() {
+        tree = AvlBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        assertBalanced(getRootObject());
+    }
+
+    @Test
+    @Order(12)
+    void insertSortedElementsKeepsTreeBalanced() {
+        tree = new AvlBinarySearchTree<>();
+        for (int i = 1; i <= 1023; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.depth()).isEqualTo(9);
+        assertBalanced(getRootObject());
+    }
+
+    @Test
+    @Order(13)
+    void insertReverseSortedElementsKeepsTreeBalanced() {
+        tree = new AvlBinarySearchTree<>();
+        for (int i = 1023; i >= 1; i--) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.depth()).isEqualTo(9);
+        assertBalanced(getRootObject());
+    }
+
+    @Test
+    @Order(14)
+    void insertRandomElementsKeepsTreeBalanced() {
+        var random = new Random(42);
+        tree = new AvlBinarySearchTree<>();
+        for (int i = 0; i < 10_000; i++) {
+            tree.insert(random.nextInt());
+        }
+
+        assertBalanced(getRootObject());
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxAvlDepth(getInnerSize()));
+    }
+
+    @Test
+    @Order(15)
+    void insertDoesNotOverflowStackOnLargeSortedInput() {
+        tree = new AvlBinarySearchTree<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(getInnerSize()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxAvlDepth(1_000_000));
+        assertThat(tree.contains(999_999)).isTrue();
+    }
+
+    @Test
+    @Order(16)
+    void depthIsZeroIfRootIsNull() {
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(17)
+    void depthIsZeroIfTreeContainsOneElement() {
+        tree.insert(24);
+
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(18)
+    void inOrderTraversal() {
+        tree = AvlBinarySearchTree.of(IntStream.range(0, 100).map(i -> (i * 37) % 100).boxed().toArray(Integer[]::new));
+
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    @Order(19)
+    void floor() {
+        tree = AvlBinarySearchTree.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(7)).isEqualTo(5);
+        assertThat(tree.floor(15)).isEqualTo(15);
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(0)).isNull();
+    }
+
+    @Test
+    @Order(20)
+    void ceiling() {
+        tree = AvlBinarySearchTree.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.ceiling(7)).isEqualTo(10);
+        assertThat(tree.ceiling(1)).isEqualTo(1);
+        assertThat(tree.ceiling(-5)).isEqualTo(1);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(21)
+    void floorAndCeilingThrowExceptionWhenArgumentIsNull() {
+        tree = AvlBinarySearchTree.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+    }
+
+    @Test
+    @Order(22)
+    void rangeQuery() {
+        tree = AvlBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeQuery(3, 7, elements::add);
+
+        assertThat(elements).isEqualTo(List.of(3, 4, 5, 6, 7));
+    }
+
+    @Test
+    @Order(23)
+    void headSetAndTailSet() {
+        tree = AvlBinarySearchTree.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> head = new ArrayList<>();
+        tree.headSet(5, head::add);
+        List<Integer> tail = new ArrayList<>();
+        tree.tailSet(5, tail::add);
+
+        assertThat(head).isEqualTo(List.of(1, 2, 3, 4));
+        assertThat(tail).isEqualTo(List.of(5, 6, 7, 8, 9));
+    }
+
+    @Test
+    @Order(24)
+    void rangeQueryPrunesSubtreesOutsideTheRange() {
+        var countingTree = AvlBinarySearchTree.of(IntStream.range(0, 1024).mapToObj(CountingKey::new)
+                .toArray(CountingKey[]::new));
+        CountingKey.comparisons = 0;
+
+        List<CountingKey> elements = new ArrayList<>();
+        countingTree.rangeQuery(new CountingKey(500), new CountingKey(509), elements::add);
+
+        assertThat(elements).hasSize(10);
+        assertThat(CountingKey.comparisons).isLessThan(100);
+    }
+
+    @Test
+    @Order(25)
+    void headSetPrunesSubtreesOutsideTheRange() {
+        var countingTree = AvlBinarySearchTree.of(IntStream.range(0, 1024).mapToObj(CountingKey::new)
+                .toArray(CountingKey[]::new));
+        CountingKey.comparisons = 0;
+
+        List<CountingKey> elements = new ArrayList<>();
+        countingTree.headSet(new CountingKey(5), elements::add);
+
+        assertThat(elements).hasSize(5);
+        assertThat(CountingKey.comparisons).isLessThan(100);
+    }
+
+    public static Stream<Arguments> rotationArguments() {
+        return Stream.of(
+                // left-left case
+                arguments((Object) new Integer[]{3, 2, 1}),
+                // right-right case
+                arguments((Object) new Integer[]{1, 2, 3}),
+                // left-right case
+                arguments((Object) new Integer[]{3, 1, 2}),
+                // right-left case
+                arguments((Object) new Integer[]{1, 3, 2}));
+    }
+
+    /**
+     * The height of an AVL tree with n nodes is less than 1.45 * log2(n + 2).
+     */
+    private int maxAvlDepth(int size) {
+        return (int) (1.45 * Math.log(size + 2) / Math.log(2));
+    }
+
+    /**
+     * Checks the order of elements, the stored heights and the AVL invariant of every node, and returns the height.
+     */
+    private int assertBalanced(Object node) {
+        if (node == null) {
+            return 0;
+        }
+        Object left = getLeftNode(node);
+        Object right = getRightNode(node);
+        if (left != null) {
+            assertThat(getElement(left)).isLessThan(getElement(node));
+        }
+        if (right != null) {
+            assertThat(getElement(right)).isGreaterThan(getElement(node));
+        }
+        int leftHeight = assertBalanced(left);
+        int rightHeight = assertBalanced(right);
+        int height = Math.max(leftHeight, rightHeight) + 1;
+
+        assertThat(Math.abs(leftHeight - rightHeight)).isLessThanOrEqualTo(1);
+        assertThat(getHeight(node)).isEqualTo(height);
+        return height;
+    }
+
+    @SneakyThrows
+    private int getInnerSize() {
+        Field sizeField = Arrays.stream(tree.getClass().getDeclaredFields())
+                .filter(SIZE_FIELD)
+                .findAny()
+                .orElseThrow();
+        sizeField.setAccessible(true);
+        return (int) sizeField.get(tree);
+    }
+
+    private Class<?> getInnerClass() {
+        return Arrays.stream(tree.getClass().getDeclaredClasses())
+                .filter(Class::isMemberClass)
+                .filter(aClass -> Arrays.stream(aClass.getDeclaredFields()).anyMatch(LEFT_FIELD))
+                .findAny()
+                .orElseThrow();
+    }
+
+    @SneakyThrows
+    private Object getRootObject() {
+        Field nodeField = Arrays.stream(tree.getClass().getDeclaredFields())
+                .filter(NODE_FIELD)
+                .findAny()
+                .orElseThrow();
+        nodeField.setAccessible(true);
+        return nodeField.get(tree);
+    }
+
+    @SneakyThrows
+    private Field getNodesField(Object node, Predicate<Field> option) {
+        Field field = Arrays.stream(node.getClass().getDeclaredFields())
+                .filter(option)
+                .findAny()
+                .orElseThrow();
+        field.setAccessible(true);
+        return field;
+    }
+
+    @SneakyThrows
+    private int getElement(Object node) {
+        return (int) getNodesField(node, ELEMENT_FIELD).get(node);
+    }
+
+    @SneakyThrows
+    private int getHeight(Object node) {
+        return (int) getNodesField(node, HEIGHT_FIELD).get(node);
+    }
+
+    @SneakyThrows
+    private Object getLeftNode(Object node) {
+        return getNodesField(node, LEFT_FIELD).get(node);
+    }
+
+    @SneakyThrows
+    private Object getRightNode(Object node) {
+        return getNodesField(node, RIGHT_FIELD).get(node);
+    }
+
+    /**
+     * An element that counts how many times it was compared, so we can check that the tree does not visit the
+     * subtrees outside the range.
+     */
+    record CountingKey(int value) implements Comparable<CountingKey> {
+        static int comparisons;
+
+        @Override
+        public int compareTo(CountingKey other) {
+            comparisons++;
+            return Integer.compare(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * A reflection-based test class for {@link ConcurrentSkipListSet}.
+ * <p>
+ * PLEASE NOTE: we use Reflection API only for learning purposes. It should NOT be used for production tests.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConcurrentSkipListSetTest {
+    private static final int THREADS = 8;
+
+    private static final Integer[] someElements = {10, 9, 11, 8, 12, 7};
+
+    private BinarySearchTree<Integer> tree = new ConcurrentSkipListSet<>();
+
+    @Test
+    @Order(1)
+    void nodeClassExists() {
+        var nodeClass = Arrays.stream(ConcurrentSkipListSet.class.getDeclaredClasses())
+                .filter(aClass -> aClass.getSimpleName().equals("Node"))
+                .findAny();
+
+        assertThat(nodeClass).isPresent();
+        assertThat(Modifier.isStatic(nodeClass.get().getModifiers())).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void setDoesNotUseLocks() {
+        boolean hasSynchronizedMethods = Arrays.stream(ConcurrentSkipListSet.class.getDeclaredMethods())
+                .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+        boolean hasLockFields = Stream.concat(Stream.of(ConcurrentSkipListSet.class),
+                        Arrays.stream(ConcurrentSkipListSet.class.getDeclaredClasses()))
+                .flatMap(aClass -> Arrays.stream(aClass.getDeclaredFields()))
+                .map(Field::getType)
+                .anyMatch(Lock.class::isAssignableFrom);
+
+        assertThat(hasSynchronizedMethods).isFalse();
+        assertThat(hasLockFields).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    void of() {
+        tree = ConcurrentSkipListSet.of(someElements);
+
+        for (var e : someElements) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(4)
+    void insert() {
+        for (Integer e : someElements) {
+            assertThat(tree.contains(e)).isFalse();
+            assertThat(tree.insert(e)).isTrue();
+            assertThat(tree.contains(e)).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(5)
+    void insertDoesNotAddDuplicateElements() {
+        tree = ConcurrentSkipListSet.of(someElements);
+
+        for (Integer e : someElements) {
+            assertThat(tree.insert(e)).isFalse();
+        }
+        assertThat(tree.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(6)
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(7)
+    void containsThrowsExceptionWhenArgumentIsNull() {
+        tree = ConcurrentSkipListSet.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(8)
+    void sizeIsZeroIfSetIsEmpty() {
+        assertThat(tree.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    void depthIsZeroIfSetIsEmpty() {
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(10)
+    void depthIsLevelCountIfSetIsNotEmpty() {
+        tree.insert(1);
+
+        assertThat(tree.depth()).isBetween(1, 32);
+    }
+
+    @Test
+    @Order(11)
+    void depthIsCloseToLogarithmOfSize() {
+        var random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            tree.insert(random.nextInt());
+        }
+
+        assertThat(tree.depth()).isBetween(10, 40);
+    }
+
+    @Test
+    @Order(12)
+    void insertLargeSortedInput() {
+        for (int i = 0; i < 1_000_000; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isLessThan(32);
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(999_999)).isTrue();
+        assertThat(tree.contains(1_000_000)).isFalse();
+    }
+
+    @Test
+    @Order(13)
+    void inOrderTraversal() {
+        tree = ConcurrentSkipListSet.of(IntStream.range(0, 100).map(i -> (i * 37) % 100).boxed()
+                .toArray(Integer[]::new));
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    @Order(14)
+    void floor() {
+        tree = ConcurrentSkipListSet.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(7)).isEqualTo(5);
+        assertThat(tree.floor(15)).isEqualTo(15);
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(0)).isNull();
+    }
+
+    @Test
+    @Order(15)
+    void ceiling() {
+        tree = ConcurrentSkipListSet.of(10, 5, 15, 1, 20);
+
+        assertThat(tree.ceiling(7)).isEqualTo(10);
+        assertThat(tree.ceiling(1)).isEqualTo(1);
+        assertThat(tree.ceiling(-5)).isEqualTo(1);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(16)
+    void floorAndCeilingThrowExceptionWhenArgumentIsNull() {
+        tree = ConcurrentSkipListSet.of(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+    }
+
+    @Test
+    @Order(17)
+    void rangeQuery() {
+        tree = ConcurrentSkipListSet.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeQuery(3, 7, elements::add);
+
+        assertThat(elements).isEqualTo(List.of(3, 4, 5, 6, 7));
+    }
+
+    @Test
+    @Order(18)
+    void headSetAndTailSet() {
+        tree = ConcurrentSkipListSet.of(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> head = new ArrayList<>();
+        tree.headSet(5, head::add);
+        List<Integer> tail = new ArrayList<>();
+        tree.tailSet(5, tail::add);
+
+        assertThat(head).isEqualTo(List.of(1, 2, 3, 4));
+        assertThat(tail).isEqualTo(List.of(5, 6, 7, 8, 9));
+    }
+
+    @Test
+    @Order(19)
+    void rangeQueryDoesNotScanFromTheHead() {
+        var countingSet = ConcurrentSkipListSet.of(IntStream.range(0, 10_000).mapToObj(CountingKey::new)
+                .toArray(CountingKey[]::new));
+        CountingKey.comparisons.set(0);
+
+        List<CountingKey> elements = new ArrayList<>();
+        countingSet.rangeQuery(new CountingKey(9_000), new CountingKey(9_009), elements::add);
+
+        assertThat(elements).hasSize(10);
+        assertThat(CountingKey.comparisons.get()).isLessThan(500);
+    }
+
+    @Test
+    @Order(20)
+    void concurrentInsertsOfDifferentElements() {
+        int perThread = 20_000;
+        var tasks = new Runnable[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            tasks[t] = () -> {
+                for (int i = 0; i < perThread; i++) {
+                    assertThat(tree.insert(i * THREADS + offset)).isTrue();
+                }
+            };
+        }
+
+        runConcurrently(tasks);
+
+        List<Integer> traversedElements = new ArrayList<>(tree.size());
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(tree.size()).isEqualTo(THREADS * perThread);
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, THREADS * perThread).boxed().toList());
+    }
+
+    @Test
+    @Order(21)
+    void concurrentInsertsOfSameElementsSucceedExactlyOnce() {
+        int size = 20_000;
+        var successfulInserts = new AtomicInteger();
+        var tasks = new Runnable[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            var elements = IntStream.range(0, size).boxed().collect(Collectors.toList());
+            Collections.shuffle(elements, new Random(t));
+            tasks[t] = () -> {
+                for (var element : elements) {
+                    if (tree.insert(element)) {
+                        successfulInserts.incrementAndGet();
+                    }
+                }
+            };
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(successfulInserts.get()).isEqualTo(size);
+        assertThat(tree.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++) {
+            assertThat(tree.contains(i)).isTrue();
+        }
+    }
+
+    @SneakyThrows
+    private void runConcurrently(Runnable... tasks) {
+        var executor = Executors.newFixedThreadPool(tasks.length);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (var task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * An element that counts how many times it was compared, so we can check that a range query searches the first
+     * element of the range instead of walking the lowest level from the head.
+     */
+    record CountingKey(int value) implements Comparable<CountingKey> {
+        static final AtomicInteger comparisons = new AtomicInteger();
+
+        @Override
+        public int compareTo(CountingKey other) {
+            comparisons.incrementAndGet();
+            return Integer.compare(value, other.value);
+        }
+    }
+}
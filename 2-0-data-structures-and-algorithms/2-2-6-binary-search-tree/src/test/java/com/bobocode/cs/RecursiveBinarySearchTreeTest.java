@@ -13,8 +13,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -249,6 +253,185 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void inOrderTraversalDoesNotOverflowStackOnDegeneratedTree() {
+        fillDegeneratedTestTree(100_000);
+
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).hasSize(100_000);
+        assertThat(traversedElements.get(99_999)).isEqualTo(99_999);
+    }
+
+    @Test
+    @Order(21)
+    void floor() {
+        fillTestTree(10, 5, 15, 1, 20);
+
+        assertThat(tree.floor(7)).isEqualTo(5);
+        assertThat(tree.floor(15)).isEqualTo(15);
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(0)).isNull();
+    }
+
+    @Test
+    @Order(22)
+    void ceiling() {
+        fillTestTree(10, 5, 15, 1, 20);
+
+        assertThat(tree.ceiling(7)).isEqualTo(10);
+        assertThat(tree.ceiling(1)).isEqualTo(1);
+        assertThat(tree.ceiling(-5)).isEqualTo(1);
+        assertThat(tree.ceiling(21)).isNull();
+    }
+
+    @Test
+    @Order(23)
+    void floorAndCeilingThrowExceptionWhenArgumentIsNull() {
+        fillTestTree(someElements);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+    }
+
+    @Test
+    @Order(24)
+    void rangeQuery() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeQuery(3, 7, elements::add);
+
+        assertThat(elements).isEqualTo(List.of(3, 4, 5, 6, 7));
+    }
+
+    @Test
+    @Order(25)
+    void rangeQueryReturnsNothingWhenRangeIsOutsideTheTree() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeQuery(10, 20, elements::add);
+
+        assertThat(elements).isEmpty();
+    }
+
+    @Test
+    @Order(26)
+    void rangeQueryDoesNotOverflowStackOnDegeneratedTree() {
+        fillDegeneratedTestTree(100_000);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeQuery(99_990, 99_999, elements::add);
+
+        assertThat(elements).hasSize(10);
+    }
+
+    @Test
+    @Order(27)
+    void headSet() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.headSet(5, elements::add);
+
+        assertThat(elements).isEqualTo(List.of(1, 2, 3, 4));
+    }
+
+    @Test
+    @Order(28)
+    void tailSet() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.tailSet(5, elements::add);
+
+        assertThat(elements).isEqualTo(List.of(5, 6, 7, 8, 9));
+    }
+
+    @Test
+    @Order(29)
+    void ofBuildsBalancedTreeFromSortedElements() {
+        Integer[] elements = IntStream.rangeClosed(1, 1023).boxed().toArray(Integer[]::new);
+
+        tree = RecursiveBinarySearchTree.of(elements);
+
+        assertThat(getInnerSize()).isEqualTo(1023);
+        assertThat(calculateDepth(getRootObject())).isEqualTo(9);
+        for (var e : elements) {
+            assertThat(contains(getRootObject(), e)).isTrue();
+        }
+    }
+
+    @Test
+    @Order(30)
+    void ofBuildsBalancedTreeFromUnsortedElements() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Collections.shuffle(elements, new Random(42));
+
+        tree = RecursiveBinarySearchTree.of(elements.toArray(Integer[]::new));
+
+        assertThat(getInnerSize()).isEqualTo(1000);
+        assertThat(calculateDepth(getRootObject())).isEqualTo(balancedDepth(1000));
+        for (var e : elements) {
+            assertThat(contains(getRootObject(), e)).isTrue();
+        }
+    }
+
+    @Test
+    @Order(31)
+    void ofDoesNotChangeProvidedArray() {
+        Integer[] elements = {5, 3, 8, 1};
+
+        tree = RecursiveBinarySearchTree.of(elements);
+
+        assertThat(elements).containsExactly(5, 3, 8, 1);
+    }
+
+    @Test
+    @Order(32)
+    void ofSkipsDuplicates() {
+        tree = RecursiveBinarySearchTree.of(3, 1, 2, 3, 1, 2);
+
+        assertThat(getInnerSize()).isEqualTo(3);
+        assertThat(calculateDepth(getRootObject())).isEqualTo(1);
+    }
+
+    @Test
+    @Order(33)
+    void ofBuildsLargeSortedTreeWithoutStackOverflow() {
+        tree = RecursiveBinarySearchTree.of(IntStream.range(0, 1_000_000).boxed().toArray(Integer[]::new));
+
+        assertThat(getInnerSize()).isEqualTo(1_000_000);
+        assertThat(calculateDepth(getRootObject())).isEqualTo(balancedDepth(1_000_000));
+    }
+
+    @Test
+    @Order(34)
+    void parallelOfBuildsBalancedTree() {
+        Integer[] elements = new Random(42).ints(1_000_000).boxed().toArray(Integer[]::new);
+        int distinctCount = (int) Arrays.stream(elements).distinct().count();
+
+        tree = RecursiveBinarySearchTree.parallelOf(elements);
+
+        assertThat(getInnerSize()).isEqualTo(distinctCount);
+        assertThat(calculateDepth(getRootObject())).isEqualTo(balancedDepth(distinctCount));
+        for (int i = 0; i < elements.length; i += 1000) {
+            assertThat(contains(getRootObject(), elements[i])).isTrue();
+        }
+    }
+
+    @Test
+    @Order(35)
+    void parallelOfBuildsSmallTree() {
+        tree = RecursiveBinarySearchTree.parallelOf(2, 1, 3);
+
+        assertThat(getInnerSize()).isEqualTo(3);
+        assertThat(getElement(getRootObject())).isEqualTo(2);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
@@ -307,6 +490,7 @@ class RecursiveBinarySearchTreeTest {
     private Class<?> getInnerClass() {
         return Arrays.stream(tree.getClass().getDeclaredClasses())
                 .filter(Class::isMemberClass)
+                .filter(aClass -> Arrays.stream(aClass.getDeclaredFields()).anyMatch(LEFT_FIELD))
                 .findAny()
                 .orElseThrow();
     }
@@ -444,4 +628,34 @@ class RecursiveBinarySearchTreeTest {
         }
         getInnerSizeField().set(tree, elements.length);
     }
+
+    /**
+     * Creates a tree where every node has only a right child, the same as after inserting sorted elements.
+     */
+    @SneakyThrows
+    private void fillDegeneratedTestTree(int size) {
+        tree = new RecursiveBinarySearchTree<>();
+        Object node = newNode(0);
+        getRootField().set(tree, node);
+        for (int element = 1; element < size; element++) {
+            Object next = newNode(element);
+            getNodesField(node, RIGHT_FIELD).set(node, next);
+            node = next;
+        }
+        getInnerSizeField().set(tree, size);
+    }
+
+    /**
+     * A depth of a perfectly balanced tree of a given size, that is ⌈log2(size + 1)⌉ - 1.
+     */
+    private int balancedDepth(int size) {
+        return 32 - Integer.numberOfLeadingZeros(size) - 1;
+    }
+
+    private int calculateDepth(Object node) {
+        if (node == null) {
+            return -1;
+        }
+        return 1 + Math.max(calculateDepth(getLeftNode(node)), calculateDepth(getRightNode(node)));
+    }
 }
@@ -0,0 +1,152 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link ConcurrentHashTable} is a thread-safe implementation of {@link Map} interface. It is based on the same array
+ * of linked {@link Node} objects as {@link HashTable}, and it uses {@link HashTable#calculateIndex(Object, int)} to
+ * find a bucket. But unlike a {@link HashTable} wrapped into a single global lock, it allows many threads to work with
+ * the table at the same time.
+ * <p>
+ * It uses <strong>lock striping</strong>. Instead of one lock for the whole table, it keeps an array of
+ * {@code locks}, and a bucket with index {@code i} is guarded by the lock {@code locks[i % locks.length]}. So threads
+ * that write into different buckets usually don't wait for each other. The number of locks (concurrency level) is
+ * fixed when the table is created.
+ * <p>
+ * Reads are <strong>lock-free</strong>: get, containsKey and containsValue never acquire any lock. In order to make it
+ * possible, the reference to the {@code table} and the {@code value} and {@code next} fields of the {@link Node}
+ * are volatile, while the {@code key} is final. A writer always fully initializes a new node before linking it into
+ * a bucket, so a reader either sees it completely or does not see it at all.
+ * <p>
+ * A writer (put or remove) reads the current table, calculates the bucket index, acquires the corresponding lock and
+ * then checks that the table was not replaced in the meantime. If it was, the writer releases the lock and retries
+ * with the new table.
+ * <p>
+ * Resizing acquires all locks (always in the same order to avoid deadlocks), builds a new array with copies of all
+ * nodes, and then publishes it by assigning the volatile {@code table} field. Readers are never blocked by resizing:
+ * they keep reading the old array, which is not modified, until they see the new one. The table is resized
+ * automatically (doubled) once the number of elements exceeds 3/4 of the capacity.
+ * <p>
+ * The number of elements is kept in a thread-safe counter. This implementation does not support null keys and
+ * null values.
+ * <p>
+ * The initial capacity is 16 and the default concurrency level is 16.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentHashTable<K, V> implements Map<K, V> {
+
+    /**
+     * Creates a table with a default initial capacity 16 and a default concurrency level 16.
+     */
+    public ConcurrentHashTable() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity and concurrency level.
+     *
+     * @param initialCapacity  the size of underlying array
+     * @param concurrencyLevel the number of locks
+     * @throws IllegalArgumentException if any of arguments is not positive
+     */
+    public ConcurrentHashTable(int initialCapacity, int concurrencyLevel) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null. It holds only the lock of the corresponding bucket, unless it needs to resize the table.
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key without acquiring any locks.
+     *
+     * @param key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    @Override
+    public V get(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key without acquiring any locks.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     */
+    @Override
+    public boolean containsKey(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given value without acquiring any locks.
+     *
+     * @param value
+     * @return true is there is such value in the table or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * It holds only the lock of the corresponding bucket.
+     *
+     * @param key
+     * @return removed value or null
+     */
+    @Override
+    public V remove(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Acquires all locks, creates a new underlying array with a given size, copies all nodes there and publishes
+     * the new array. Readers are not blocked while it's in progress.
+     * <p>
+     * PLEASE NOTE that such method <strong>should not be a part of the public API</strong>, but it was made public
+     * for learning purposes, the same as {@link HashTable#resizeTable(int)}.
+     *
+     * @param newCapacity a size of the new underlying array
+     */
+    public void resizeTable(int newCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares the throughput of {@link ConcurrentHashTable} and a {@link HashTable} guarded by a single global
+ * lock. Each scenario runs with 1 to 64 threads for a fixed amount of time and prints the number of operations per
+ * second. The scenarios differ in the share of writes: read-heavy (10% puts), mixed (50% puts) and write-heavy
+ * (90% puts).
+ * <p>
+ * Run it once you've implemented both tables. With a global lock the throughput does not grow with the number of
+ * threads, while the striped table should scale up to the number of cores.
+ */
+public class ConcurrentHashTableBenchmark {
+    static final int KEYS = 100_000;
+    static final long DURATION_MILLIS = 1_000;
+    static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    static final int[] WRITE_PERCENTS = {10, 50, 90};
+
+    public static void main(String[] args) {
+        for (var writePercent : WRITE_PERCENTS) {
+            System.out.printf("%n%d%% writes%n", writePercent);
+            for (var threads : THREADS) {
+                var globalLock = measure(threads, writePercent, SynchronizedHashTable::new);
+                var striped = measure(threads, writePercent, ConcurrentHashTable::new);
+                System.out.printf("%2d threads: global lock %,d ops/s, lock striping %,d ops/s%n",
+                        threads, globalLock, striped);
+            }
+        }
+    }
+
+    static long measure(int threads, int writePercent, Supplier<Map<Integer, Integer>> tableSupplier) {
+        var table = tableSupplier.get();
+        for (int key = 0; key < KEYS; key++) {
+            table.put(key, key);
+        }
+        var operations = new LongAdder();
+        var startLatch = new CountDownLatch(1);
+        var deadline = new long[1];
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            var worker = new Thread(() -> {
+                awaitQuietly(startLatch);
+                var random = ThreadLocalRandom.current();
+                long count = 0;
+                while ((count & 1023) != 0 || System.currentTimeMillis() < deadline[0]) {
+                    var key = random.nextInt(KEYS);
+                    if (random.nextInt(100) < writePercent) {
+                        table.put(key, key);
+                    } else {
+                        table.get(key);
+                    }
+                    count++;
+                }
+                operations.add(count);
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        deadline[0] = System.currentTimeMillis() + DURATION_MILLIS;
+        startLatch.countDown();
+        workers.forEach(ConcurrentHashTableBenchmark::joinQuietly);
+        return operations.sum() * 1_000 / DURATION_MILLIS;
+    }
+
+    static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void joinQuietly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A {@link HashTable} wrapped into a single global lock. This is what you have to do to share a non thread-safe
+     * table between threads.
+     */
+    static class SynchronizedHashTable<K, V> implements Map<K, V> {
+        private final HashTable<K, V> table = new HashTable<>();
+
+        @Override
+        public synchronized V put(K key, V value) {
+            return table.put(key, value);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return table.get(key);
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return table.containsKey(key);
+        }
+
+        @Override
+        public synchronized boolean containsValue(V value) {
+            return table.containsValue(value);
+        }
+
+        @Override
+        public synchronized int size() {
+            return table.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return table.isEmpty();
+        }
+
+        @Override
+        public synchronized V remove(K key) {
+            return table.remove(key);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link ConcurrentSkipListMap} is a thread-safe sorted implementation of {@link Map} interface that does not use any
+ * locks. Unlike {@link ConcurrentHashTable}, it does not hash the keys, but keeps them sorted in a
+ * <strong>skip list</strong>: a sorted linked list of {@link Node} objects where every node also belongs to a random
+ * number of "express lanes" (levels). A node has a level 1 with probability 1/2, level 2 with probability 1/4, and so
+ * on (up to 32), so a search that starts on the highest level of a {@code head} node and goes down makes O(log n)
+ * steps on average.
+ * <p>
+ * Every node has a final {@code key}, a {@code value} that can be changed atomically, and an array of {@code next}
+ * references, one per level. Each {@code next} reference is an
+ * {@link java.util.concurrent.atomic.AtomicMarkableReference}: a reference together with a boolean
+ * <strong>mark</strong> that can be changed in a single CAS. A marked reference means that the node that holds it is
+ * being removed, so nobody can link a new node after it.
+ * <p>
+ * All operations are based on a helper method {@code find(key, preds, succs)}. It goes down the levels and fills the
+ * last node with a smaller key ({@code preds}) and the next node ({@code succs}) on every level. Whenever it meets a
+ * marked node, it unlinks it with a CAS of the previous node's reference (helps the remover), and starts again if that
+ * CAS fails.
+ * <p>
+ * The operations work as follows:
+ * <ul>
+ * <li>put of an existing key replaces a non-null value with a CAS. A node whose value is already null is being
+ * removed, so put treats it as absent: it never CASes a null value (that value would be lost once the node is
+ * unlinked), but calls {@code find} again, which helps to unlink the node, and retries. Put of a new key creates a
+ * node with a random level, links it at the lowest level with a CAS of {@code preds[0].next[0]} (the key is in the map
+ * from this moment), and then links it into the upper levels. Any failed CAS means that another thread has changed
+ * the list, so it calls {@code find} again and retries</li>
+ * <li>remove sets the value to null with a CAS. Only one thread can do it, so only one remove returns the value. Then
+ * it <strong>marks</strong> the {@code next} references of the node from the top level down to the lowest one
+ * (logical removal), and calls {@code find} that unlinks the node from all levels (physical removal)</li>
+ * <li>get and containsKey go down the levels without any CAS, skipping marked nodes and nodes with a null value</li>
+ * </ul>
+ * <p>
+ * The number of elements is kept in a thread-safe counter. This implementation does not support null keys and
+ * null values.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentSkipListMap<K extends Comparable<K>, V> implements Map<K, V> {
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null. It never acquires any lock.
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key. It goes from the highest level down to the lowest one in O(log n) steps.
+     *
+     * @param key
+     * @return value stored in the map by the given key or null if there is no such key
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public V get(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the map contains a given key.
+     *
+     * @param key
+     * @return true is there is such key in the map or false otherwise
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the map contains a given value. It goes through all nodes of the lowest level.
+     *
+     * @param value
+     * @return true is there is such value in the map or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the map.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the map is empty.
+     *
+     * @return true is map size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the map, it returns null.
+     * When many threads remove the same key at the same time, only one of them gets the value.
+     *
+     * @param key
+     * @return removed value or null
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public V remove(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
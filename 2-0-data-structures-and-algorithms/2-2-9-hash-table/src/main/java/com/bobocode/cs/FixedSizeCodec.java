@@ -0,0 +1,50 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link FixedSizeCodec} converts values of some type into a fixed number of bytes and back. It is used by
+ * {@link OffHeapHashTable} to store values outside the Java heap, where every slot has the same size.
+ *
+ * @param <V> value type
+ */
+public interface FixedSizeCodec<V> {
+    /**
+     * Returns the number of bytes that every encoded value takes. It must be the same for all values.
+     *
+     * @return the size of an encoded value in bytes
+     */
+    int size();
+
+    /**
+     * Writes a value into the buffer starting from a given absolute offset. It must not change the buffer position.
+     *
+     * @param buffer a buffer to write to
+     * @param offset an absolute offset in the buffer
+     * @param value  a value to write
+     */
+    void write(ByteBuffer buffer, int offset, V value);
+
+    /**
+     * Reads a value from the buffer starting from a given absolute offset. It must not change the buffer position.
+     *
+     * @param buffer a buffer to read from
+     * @param offset an absolute offset in the buffer
+     * @return a new value object
+     */
+    V read(ByteBuffer buffer, int offset);
+
+    /**
+     * Creates a codec for byte arrays of a given length. It copies the bytes of the array into the buffer, and reads
+     * them into a new array.
+     *
+     * @param length the length of every array
+     * @return a codec for byte arrays
+     * @throws IllegalArgumentException if length is not positive, or if a written array has a different length
+     */
+    static FixedSizeCodec<byte[]> ofBytes(int length) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
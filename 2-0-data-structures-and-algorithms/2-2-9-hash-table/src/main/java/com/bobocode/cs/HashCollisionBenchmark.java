@@ -0,0 +1,76 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * This demo simulates a hash collision attack on a {@link HashTable}. Strings "Aa" and "BB" have the same hash code,
+ * so all strings of k such blocks (e.g. "AaBBAa" and "BBAaAa") collide too, and 2^k of them end up in a single
+ * bucket. The demo puts from 1 024 to 65 536 colliding keys into a table, and prints the average time of get.
+ * <p>
+ * Run it once you've implemented treeified buckets in {@link HashTable}. Strings are {@link Comparable}, so the bucket
+ * is a balanced tree, and the time of get grows logarithmically: it barely changes when the number of keys is
+ * multiplied by 64. For comparison, the demo does the same with colliding keys that are not comparable. The tree cannot
+ * order them, so get has to search the whole tree, and its time grows linearly, just like with a linked list.
+ */
+public class HashCollisionBenchmark {
+    static final int MIN_BLOCKS = 10;
+    static final int MAX_BLOCKS = 16;
+    static final int LOOKUPS = 10_000;
+
+    record NonComparableKey(String value) {
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    public static void main(String[] args) {
+        var warmUpKeys = collidingStrings(MIN_BLOCKS);
+        benchmark(warmUpKeys, warmUpKeys::get);
+        for (int blocks = MIN_BLOCKS; blocks <= MAX_BLOCKS; blocks += 2) {
+            var keys = collidingStrings(blocks);
+            System.out.printf("%,6d colliding keys: String %,8d ns/get", keys.size(),
+                    benchmark(keys, i -> keys.get(i)));
+            if (blocks <= 14) {
+                System.out.printf(", non-comparable %,10d ns/get",
+                        benchmark(keys, i -> new NonComparableKey(keys.get(i))));
+            }
+            System.out.println();
+        }
+    }
+
+    static List<String> collidingStrings(int blocks) {
+        List<String> strings = List.of("");
+        for (int i = 0; i < blocks; i++) {
+            var longer = new ArrayList<String>(strings.size() * 2);
+            for (var s : strings) {
+                longer.add(s + "Aa");
+                longer.add(s + "BB");
+            }
+            strings = longer;
+        }
+        return strings;
+    }
+
+    static <K> long benchmark(List<String> strings, IntFunction<K> keyFactory) {
+        var table = new HashTable<K, Integer>();
+        for (int i = 0; i < strings.size(); i++) {
+            table.put(keyFactory.apply(i), i);
+        }
+        int step = Math.max(1, strings.size() / LOOKUPS);
+        long sum = 0;
+        int lookups = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < strings.size(); i += step) {
+            sum += table.get(keyFactory.apply(i));
+            lookups++;
+        }
+        long nanosPerGet = (System.nanoTime() - start) / lookups;
+        if (sum < 0) {
+            System.out.println(sum);
+        }
+        return nanosPerGet;
+    }
+}
@@ -0,0 +1,88 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link HashSpreading} is a strategy that turns a key's hash code into an index of a bucket in a {@link HashTable}.
+ * <p>
+ * {@link HashTable#calculateIndex(Object, int)} takes the hash code modulo the capacity, so the index depends only on
+ * the low bits of the hash code when the capacity is a power of two. It works well for random hash codes, but some
+ * keys have poor low bits. E.g. {@link Long} ids multiplied by 1024 have ten zero low bits, so in a table of 1024
+ * buckets they all get index 0, and the table turns into a single linked list.
+ * <p>
+ * The other strategies first <strong>spread</strong> the hash code, mixing its high bits into the low ones, and then
+ * take the index using a bit mask or a shift instead of a division, which is much cheaper. That's why they require the
+ * capacity to be a power of two.
+ *
+ * @see HashTable#withSpreading(int, HashSpreading)
+ */
+public enum HashSpreading {
+    /**
+     * Takes the absolute value of the hash code modulo the capacity, the same as
+     * {@link HashTable#calculateIndex(Object, int)}. It works with any capacity.
+     */
+    MODULO(0),
+    /**
+     * Fibonacci (multiplicative) hashing: multiplies the hash code by 2^64 divided by the golden ratio
+     * ({@code 0x9E3779B97F4A7C15L}) and takes the highest {@code log2(capacity)} bits of the product. Every bit of
+     * the hash code affects the highest bits of the product, so keys that differ only in high bits get different
+     * indexes.
+     */
+    FIBONACCI(1),
+    /**
+     * Applies the 32-bit finalizer of MurmurHash3 ({@code h ^= h >>> 16; h *= 0x85ebca6b; h ^= h >>> 13;
+     * h *= 0xc2b2ae35; h ^= h >>> 16}), which makes every bit of the result depend on every bit of the hash code, and
+     * then takes the low bits using the mask {@code capacity - 1}.
+     */
+    MURMUR(2);
+
+    private final int id;
+
+    HashSpreading(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns a stable id of the strategy, that is stored in a snapshot file header by
+     * {@link HashTable#save(java.nio.file.Path, Serializer, Serializer)}. Unlike {@link #ordinal()}, it does not change
+     * when the constants are reordered or a new one is inserted, so old snapshots stay readable. A new strategy must
+     * get a new id, and an id must never be reused.
+     *
+     * @return the id of the strategy
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Finds a strategy by its stable id.
+     *
+     * @param id an id returned by {@link #id()}
+     * @return the strategy with the given id
+     * @throws IllegalArgumentException if there is no strategy with such id
+     */
+    public static HashSpreading fromId(int id) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Calculates a bucket index of the key.
+     *
+     * @param key           a key
+     * @param tableCapacity the size of the underlying array
+     * @return an index from 0 to tableCapacity - 1
+     * @throws IllegalArgumentException if the strategy requires a power of two capacity, and it is not
+     */
+    public int index(Object key, int tableCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks whether the strategy requires the capacity to be a power of two.
+     *
+     * @return false for {@link #MODULO}, true otherwise
+     */
+    public boolean requiresPowerOfTwoCapacity() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
@@ -0,0 +1,56 @@
+package com.bobocode.cs;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * This demo shows how a {@link HashSpreading} strategy affects a {@link HashTable} with keys that have poor low bits.
+ * It puts 200 thousand {@link Long} ids multiplied by 1024 (so the ten low bits of every key are zero) into a table of
+ * every strategy, and then prints the time of looking up all keys and the {@link HashTableDiagnostics} of the table.
+ * <p>
+ * Run it once you've implemented {@link HashSpreading}, {@link HashTable#withSpreading(int, HashSpreading)} and
+ * {@link HashTable#diagnostics()}. With {@link HashSpreading#MODULO} only every 1024th bucket is used, so each of them
+ * gets hundreds of elements. {@link Long} keys are {@link Comparable}, so such buckets are converted into trees: the
+ * diagnostics report them as {@code treeifiedBuckets}, and lookups are still slower, but take logarithmic rather than
+ * linear time in the bucket size. {@link HashSpreading#MURMUR} gives the histogram close to the Poisson distribution
+ * of a random hash function. {@link HashSpreading#FIBONACCI} spreads
+ * such arithmetic sequences of keys even more evenly, so its max chain is shorter.
+ */
+public class HashSpreadingBenchmark {
+    static final int SIZE = 200_000;
+    static final int CAPACITY = 1 << 18;
+    static final long STEP = 1024;
+
+    public static void main(String[] args) {
+        for (var spreading : HashSpreading.values()) {
+            HashTable<Long, Long> table = HashTable.withSpreading(CAPACITY, spreading);
+            for (long id = 0; id < SIZE; id++) {
+                table.put(id * STEP, id);
+            }
+
+            long start = System.nanoTime();
+            long sum = 0;
+            for (long id = 0; id < SIZE; id++) {
+                sum += table.get(id * STEP);
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            var diagnostics = table.diagnostics();
+            System.out.printf("%s: %,d gets in %d ms (checksum %d)%n", spreading, SIZE, millis, sum);
+            System.out.printf("  capacity %,d, size %,d, load factor %.2f, max chain %d, treeified buckets %d%n",
+                    diagnostics.capacity(), diagnostics.size(), diagnostics.loadFactor(), diagnostics.maxChainLength(),
+                    diagnostics.treeifiedBuckets());
+            System.out.printf("  buckets by chain length: %s%n", histogram(diagnostics.chainLengthHistogram()));
+        }
+    }
+
+    static String histogram(List<Integer> histogram) {
+        var joiner = new StringJoiner(", ");
+        for (int length = 0; length < histogram.size(); length++) {
+            if (histogram.get(length) > 0) {
+                joiner.add(length + "=" + histogram.get(length));
+            }
+        }
+        return joiner.toString();
+    }
+}
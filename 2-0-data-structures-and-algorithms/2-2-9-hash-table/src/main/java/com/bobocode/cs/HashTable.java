@@ -2,6 +2,8 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.nio.file.Path;
+
 /**
  * {@link HashTable} is a simple Hashtable-based implementation of {@link Map} interface with some additional methods.
  * It is based on the array of {@link Node} objects. Both {@link HashTable} and {@link Node} have two type parameters:
@@ -14,10 +16,23 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * If two elements (keys) have the same array index, they form a linked list. That's why class {@link Node} requires
  * a reference to the next field.
  * <p>
+ * A linked list is fine while it's short, but if many keys get the same index (e.g. when someone sends keys with the
+ * same hash code on purpose), a bucket turns into a long list, and get takes O(n) time. That's why a bucket of more
+ * than 8 elements (TREEIFY_THRESHOLD) is converted into a <strong>balanced binary search tree</strong> (e.g. AVL or
+ * red-black), where nodes are ordered by the hash code, and then using {@link Comparable#compareTo(Object)} if the keys
+ * are comparable. Keys of the same hash code that are not comparable are placed in any consistent order, so finding
+ * them requires searching both subtrees. When a tree bucket gets 6 or fewer elements (UNTREEIFY_THRESHOLD) after
+ * removing or resizing, it is converted back into a linked list.
+ * <p>
  * Since you don't always know the number of elements in advance, the table can be resized. You can do that manually by
  * calling method resizeTable, or it will be done automatically once the table reach resize threshold.
  * <p>
  * The initial array size (initial capacity) is 8.
+ * <p>
+ * By default, a bucket index is calculated by calculateIndex method. A table created via
+ * {@link #withSpreading(int, HashSpreading)} uses a given {@link HashSpreading} strategy instead, which is useful for
+ * keys with poor low bits of the hash code. Method {@link #diagnostics()} shows how evenly the elements are spread
+ * across the buckets.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -46,12 +61,30 @@ public class HashTable<K, V> implements Map<K, V> {
         throw new ExerciseNotCompletedException(); // todo:
     }
 
+    /**
+     * Creates an empty table that calculates bucket indexes using a given {@link HashSpreading} strategy. All other
+     * operations work the same way, but they call {@link HashSpreading#index(Object, int)} instead of calculateIndex
+     * method. When the table is resized automatically, its capacity is doubled, so it stays a power of two.
+     *
+     * @param initialCapacity the size of underlying array
+     * @param spreading       a strategy that calculates bucket indexes
+     * @param <K>             key type
+     * @param <V>             value type
+     * @return a new empty table
+     * @throws IllegalArgumentException if initial capacity is not positive, or the strategy requires a power of two
+     *                                  capacity and it is not
+     */
+    public static <K, V> HashTable<K, V> withSpreading(int initialCapacity, HashSpreading spreading) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
     /**
      * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
      * null. {@link HashTable} does not support duplicate keys, so if you put the same key it just overrides the value.
      * <p>
      * It uses calculateIndex method to find the corresponding array index. Please note, that even different keys can
-     * produce the same array index.
+     * produce the same array index. If a linked list of that index gets more than 8 elements, it is converted into a
+     * tree.
      *
      * @param key
      * @param value
@@ -64,7 +97,8 @@ public class HashTable<K, V> implements Map<K, V> {
 
     /**
      * Retrieves a value by the given key. It uses calculateIndex method to find the corresponding array index.
-     * Then it iterates though all elements that are stored by that index, and uses equals to compare its keys.
+     * Then it iterates though all elements that are stored by that index, and uses equals to compare its keys. If the
+     * bucket is a tree, it goes down from the root comparing hash codes (and keys), so it takes O(log n) time.
      *
      * @param key
      * @return value stored in the table by the given key or null if there is no such key
@@ -118,6 +152,7 @@ public class HashTable<K, V> implements Map<K, V> {
 
     /**
      * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * If the element is removed from a tree, and the tree gets 6 or fewer elements, it is converted into a linked list.
      *
      * @param key
      * @return removed value or null
@@ -131,7 +166,8 @@ public class HashTable<K, V> implements Map<K, V> {
      * It's a special toString method dedicated to help you visualize a hash table. It creates a string that represents
      * an underlying array as a table. It has multiples rows. Every row starts with an array index followed by ": ".
      * Then it adds every key and value (key=value) that have a corresponding index. Every "next" reference is
-     * represented as an arrow like this " -> ".
+     * represented as an arrow like this " -> ". The elements of a tree bucket are printed the same way, in the order
+     * of the tree.
      * <p>
      * E.g. imagine a table, where the key is a string username, and the value is the number of points of that user.
      * Is this case method toString can return something like this:
@@ -163,10 +199,76 @@ public class HashTable<K, V> implements Map<K, V> {
      * PLEASE NOTE that such method <strong>should not be a part of the public API</strong>, but it was made public
      * for learning purposes. You can create a table, print it using toString, then resizeTable and print it again.
      * It will help you to understand how it works.
+     * <p>
+     * The elements of a tree bucket are split between new buckets the same way. Every new bucket of more than 8
+     * elements becomes a tree, and the rest are linked lists.
      *
      * @param newCapacity a size of the new underlying array
+     * @throws IllegalArgumentException if the spreading strategy requires a power of two capacity, and it is not
      */
     public void resizeTable(int newCapacity) {
         throw new ExerciseNotCompletedException(); // todo:
     }
+
+    /**
+     * Goes through all buckets and counts their elements. It takes O(capacity + size) time, so it is supposed to be
+     * called from time to time to check the quality of the hash function, not on every operation.
+     *
+     * @return the capacity, size, load factor, the longest chain, the histogram of chain lengths and the number of
+     * tree buckets
+     */
+    public HashTableDiagnostics diagnostics() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Writes all elements of the table into a binary snapshot file, so the table can be loaded later without putting
+     * all elements again. The file has three parts:
+     * <pre>
+     * header:       int magic 0x48544231 ("HTB1"), int version 1, int size, int capacity,
+     *               int id of the {@link HashSpreading} strategy (see {@link HashSpreading#id()})
+     * bucket index: capacity + 1 ints, the offset of the first entry of every bucket,
+     *               the last one is the offset of the end of the file
+     * entries:      int key length, key bytes, int value length (-1 for null), value bytes
+     * </pre>
+     * The entries are written bucket by bucket in the order of the underlying array, so the entries of bucket
+     * {@code i} lie between offsets {@code index[i]} and {@code index[i + 1]}. All numbers are big-endian.
+     * <p>
+     * The offsets are ints, and {@link #load(Path, Serializer, Serializer)} maps the whole file into a single
+     * {@link java.nio.MappedByteBuffer}, whose size is an int as well. So a snapshot can't be bigger than 2 GB
+     * ({@link Integer#MAX_VALUE} bytes), and save fails when the entries don't fit.
+     * <p>
+     * The bucket of a key in the file is the same as in the table (calculated by the same spreading strategy), so
+     * the keys must have a hash code that does not change between JVM runs (like {@link String}, {@link Integer} or
+     * {@link Long}).
+     *
+     * @param path            a file to write, it is created or overwritten
+     * @param keySerializer   a serializer of keys
+     * @param valueSerializer a serializer of values
+     * @throws IllegalStateException        if the snapshot would be bigger than 2 GB
+     * @throws java.io.UncheckedIOException if the file cannot be written
+     */
+    public void save(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Memory-maps a snapshot file written by {@link #save(Path, Serializer, Serializer)} and returns a read-only table
+     * that works directly with the file. It checks the header, but it does not read the entries, so it takes the
+     * same time no matter how big the file is.
+     *
+     * @param path            a snapshot file
+     * @param keySerializer   a serializer of keys
+     * @param valueSerializer a serializer of values
+     * @param <K>             key type
+     * @param <V>             value type
+     * @return a read-only table backed by the file
+     * @throws IllegalArgumentException     if the file is not a snapshot, it is bigger than 2 GB, it has unsupported
+     *                                      version or unknown {@link HashSpreading} id
+     * @throws java.io.UncheckedIOException if the file cannot be read
+     */
+    public static <K, V> MappedHashTable<K, V> load(Path path, Serializer<K> keySerializer,
+                                                    Serializer<V> valueSerializer) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
 }
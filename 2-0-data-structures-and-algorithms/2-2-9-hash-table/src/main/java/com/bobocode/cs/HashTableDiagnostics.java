@@ -0,0 +1,30 @@
+package com.bobocode.cs;
+
+import java.util.List;
+
+/**
+ * {@link HashTableDiagnostics} is a snapshot of how evenly the elements of a {@link HashTable} are spread across its
+ * buckets. It is returned by {@link HashTable#diagnostics()}.
+ * <p>
+ * For a good hash function and the load factor around 1, most buckets hold 0, 1 or 2 elements, and the longest chain
+ * is short (about {@code log n / log log n}). A long max chain or a histogram with a long tail means that many keys
+ * get the same index, e.g. because their hash codes differ only in the bits that the index does not use. A bucket of
+ * more than 8 elements is converted into a tree, and its chain length is the number of its elements, not the depth.
+ *
+ * @param capacity             the number of buckets
+ * @param size                 the number of elements
+ * @param loadFactor           size divided by capacity
+ * @param maxChainLength       the number of elements in the longest bucket
+ * @param chainLengthHistogram an unmodifiable list of size {@code maxChainLength + 1}, where the element of index
+ *                             {@code i} is the number of buckets that hold exactly {@code i} elements. It is a list
+ *                             rather than an array, so two diagnostics with the same histogram are equal, and
+ *                             toString prints the counts
+ * @param treeifiedBuckets     the number of buckets that are converted into trees because of too many collisions
+ */
+public record HashTableDiagnostics(int capacity, int size, double loadFactor, int maxChainLength,
+                                   List<Integer> chainLengthHistogram, int treeifiedBuckets) {
+
+    public HashTableDiagnostics {
+        chainLengthHistogram = List.copyOf(chainLengthHistogram);
+    }
+}
@@ -0,0 +1,68 @@
+package com.bobocode.cs;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * This demo compares two ways to get a ready {@link HashTable} after a restart: rebuilding it by putting all entries
+ * again, and loading a snapshot file via {@link HashTable#load(Path, Serializer, Serializer)}. It builds a table of
+ * ten million entries (or the number passed as the first argument), saves it into a temporary file, and then prints
+ * the time of every step, the time of the first lookup after loading, and the time of one million random lookups in
+ * both tables.
+ * <p>
+ * Run it once you've implemented {@link HashTable}, {@link MappedHashTable} and {@link Serializer}, e.g. with
+ * {@code -Xmx2g}. Rebuilding creates every node again, so it takes seconds. Loading only maps the file, so it takes
+ * about the same time for any size. The first lookups are slower, since every page of the file is read from disk (or
+ * the page cache) on the first access, but the table does not need to wait for the whole file.
+ */
+public class HashTableSnapshotBenchmark {
+    static final int DEFAULT_SIZE = 10_000_000;
+    static final int LOOKUPS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        var file = Files.createTempFile("hash-table", ".snapshot");
+        try {
+            long start = System.nanoTime();
+            var table = new HashTable<Long, Long>();
+            for (long key = 0; key < size; key++) {
+                table.put(key, key * 2);
+            }
+            System.out.printf("Rebuild via put: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+            start = System.nanoTime();
+            table.save(file, Serializer.longs(), Serializer.longs());
+            System.out.printf("Save: %d ms (%d MB)%n", (System.nanoTime() - start) / 1_000_000,
+                    Files.size(file) >> 20);
+
+            start = System.nanoTime();
+            try (var mappedTable = HashTable.load(file, Serializer.longs(), Serializer.longs())) {
+                System.out.printf("Load: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+                start = System.nanoTime();
+                var value = mappedTable.get(size / 2L);
+                System.out.printf("First get: %d us (value %d)%n", (System.nanoTime() - start) / 1_000, value);
+
+                var keys = new Random(42).longs(LOOKUPS, 0, size).toArray();
+                System.out.printf("%,d random gets in HashTable: %d ms%n", LOOKUPS, lookup(table, keys));
+                System.out.printf("%,d random gets in MappedHashTable: %d ms%n", LOOKUPS, lookup(mappedTable, keys));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static long lookup(Map<Long, Long> table, long[] keys) {
+        long start = System.nanoTime();
+        long sum = 0;
+        for (var key : keys) {
+            sum += table.get(key);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        if (sum < 0) {
+            System.out.println(sum);
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,156 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link IncrementalHashTable} is an implementation of {@link Map} interface that is based on the same array of linked
+ * {@link Node} objects as {@link HashTable}, but it never rehashes all elements at once.
+ * <p>
+ * When {@link HashTable} is resized, all elements are moved to a new array in one pass. It takes O(n) time, so
+ * a single unlucky put that triggers resizing of a huge table becomes extremely slow. {@link IncrementalHashTable}
+ * spreads this work across many operations. When resizing starts, it keeps both arrays: {@code oldTable} and a new
+ * bigger {@code table}. Then every put, get, containsKey and remove first migrates a bounded number of
+ * buckets (migration step) from {@code oldTable} to {@code table}. Once the last bucket is migrated, {@code oldTable}
+ * is set to null and the resizing is finished.
+ * <p>
+ * While the resizing is in progress, the key can be either in {@code oldTable} (if its bucket is not migrated yet)
+ * or in {@code table}. So all operations must check both arrays. A new element is always added to {@code table}.
+ * <p>
+ * The resizing to the double capacity starts automatically once after put the number of elements exceeds 3/4 of the
+ * table capacity. If the table needs to be resized again while the previous resizing is still in progress, the
+ * previous one is completed at once before starting a new one.
+ * <p>
+ * The initial capacity is 8 and the default migration step is 4 buckets.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class IncrementalHashTable<K, V> implements Map<K, V> {
+
+    /**
+     * Creates a table with a default initial capacity 8 and a default migration step 4.
+     */
+    public IncrementalHashTable() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity and migration step.
+     *
+     * @param initialCapacity the size of underlying array
+     * @param migrationStep   max number of buckets that are migrated during a single operation
+     * @throws IllegalArgumentException if any of arguments is not positive
+     */
+    public IncrementalHashTable(int initialCapacity, int migrationStep) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null. Before doing that, it migrates the next buckets if the resizing is in progress.
+     * <p>
+     * If the key still exists in {@code oldTable}, its value is updated there, so the same key is never stored twice.
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key. Before doing that, it migrates the next buckets if the resizing is
+     * in progress.
+     *
+     * @param key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    @Override
+    public V get(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key. Before doing that, it migrates the next buckets if the resizing is
+     * in progress.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     */
+    @Override
+    public boolean containsKey(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given value. It checks both {@code table} and {@code oldTable}.
+     *
+     * @param value
+     * @return true is there is such value in the table or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in both {@code table} and {@code oldTable}.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * Before doing that, it migrates the next buckets if the resizing is in progress.
+     *
+     * @param key
+     * @return removed value or null
+     */
+    @Override
+    public V remove(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the resizing is in progress.
+     *
+     * @return true if {@code oldTable} still holds buckets that are not migrated, false otherwise
+     */
+    public boolean isResizing() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Starts resizing. It does not move any elements, it only creates a new {@code table} of a given size, and keeps
+     * the current one as {@code oldTable}. The elements are moved later by the following operations.
+     * <p>
+     * If the previous resizing is still in progress, it migrates all remaining buckets first.
+     * <p>
+     * PLEASE NOTE that such method <strong>should not be a part of the public API</strong>, but it was made public
+     * for learning purposes, the same as {@link HashTable#resizeTable(int)}.
+     *
+     * @param newCapacity a size of the new underlying array
+     */
+    public void resizeTable(int newCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
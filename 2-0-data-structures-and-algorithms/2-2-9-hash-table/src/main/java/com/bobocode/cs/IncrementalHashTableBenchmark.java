@@ -0,0 +1,47 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * This demo measures the latency of every single put into {@link HashTable} and {@link IncrementalHashTable}, and
+ * prints latency percentiles. Average put time is almost the same for both tables, but the slowest puts are very
+ * different. When {@link HashTable} is resized, one put has to move all elements, so the slowest put grows together
+ * with the table. {@link IncrementalHashTable} moves only a few buckets per operation, so none of its puts has to pay
+ * for the whole table.
+ * <p>
+ * Run it once you've implemented both tables. Please note that max latency also includes GC pauses, so run it with
+ * a large heap (e.g. -Xmx4g) to see the difference.
+ */
+public class IncrementalHashTableBenchmark {
+    static final int ENTRIES = 5_000_000;
+    static final int N = 3;
+
+    public static void main(String[] args) {
+        System.out.println("HashTable");
+        performNTimes(N, HashTable::new);
+
+        System.out.println("\nIncrementalHashTable");
+        performNTimes(N, IncrementalHashTable::new);
+    }
+
+    static void performNTimes(int n, Supplier<Map<Integer, Integer>> tableSupplier) {
+        var latencies = new long[ENTRIES];
+        for (int i = 0; i < n; i++) {
+            var table = tableSupplier.get();
+            for (int key = 0; key < ENTRIES; key++) {
+                long start = System.nanoTime();
+                table.put(key, key);
+                latencies[key] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            System.out.printf("p50: %d ns, p99: %d ns, p99.9: %d ns, max: %d ms%n",
+                    percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                    latencies[latencies.length - 1] / 1_000_000);
+        }
+    }
+
+    static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1];
+    }
+}
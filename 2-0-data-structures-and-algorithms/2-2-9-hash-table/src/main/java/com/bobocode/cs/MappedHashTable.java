@@ -0,0 +1,134 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link MappedHashTable} is a read-only implementation of {@link Map} interface that works directly with a snapshot
+ * file written by {@link HashTable#save(java.nio.file.Path, Serializer, Serializer)}. It is created by
+ * {@link HashTable#load(java.nio.file.Path, Serializer, Serializer)}.
+ * <p>
+ * The file is <strong>memory-mapped</strong> via {@link java.nio.channels.FileChannel#map}, so creating a table does
+ * not read the file at all: the operating system loads a page of the file into memory only when it is accessed for the
+ * first time (a page fault). That's why a table of millions of entries is ready right after it is loaded, and a lookup
+ * reads only a couple of pages: one of the bucket index and one of the entries.
+ * <p>
+ * A lookup works the same way as in {@link HashTable}. It calculates a bucket index using the {@link HashSpreading}
+ * strategy and the capacity from the file header, reads the offsets of the bucket and of the next bucket from the
+ * bucket index, and goes through the packed entries between them. Instead of
+ * deserializing every key, it serializes the given key once and compares the bytes. Only the found value is
+ * deserialized.
+ * <p>
+ * Since the snapshot is read-only, put and remove throw {@link UnsupportedOperationException}. If you need to change
+ * the table, copy it into a new {@link HashTable} using {@link #toHashTable()}. Method {@link #close()} unmaps the file
+ * right away (via {@code sun.misc.Unsafe#invokeCleaner} from module {@code jdk.unsupported}), and any further call
+ * throws {@link IllegalStateException}.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class MappedHashTable<K, V> implements Map<K, V>, AutoCloseable {
+
+    /**
+     * Always throws an exception, since the snapshot is read-only.
+     *
+     * @param key
+     * @param value
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key. It reads only the bucket of the key and deserializes only the found value.
+     *
+     * @param key
+     * @return value stored in the table by the given key or null if there is no such key
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public V get(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public boolean containsKey(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given value. It goes through all packed entries, so it reads the whole file.
+     *
+     * @param value
+     * @return true is there is such value in the table or false otherwise
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the table. It is stored in the file header.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Always throws an exception, since the snapshot is read-only.
+     *
+     * @param key
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V remove(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a new {@link HashTable} with the same capacity and spreading strategy, and puts all entries of the
+     * snapshot there.
+     *
+     * @return a new mutable hash table
+     * @throws IllegalStateException if the table is closed
+     */
+    public HashTable<K, V> toHashTable() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Unmaps the file right away via {@code sun.misc.Unsafe#invokeCleaner}. It is safe to call this method more than
+     * once.
+     */
+    @Override
+    public void close() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
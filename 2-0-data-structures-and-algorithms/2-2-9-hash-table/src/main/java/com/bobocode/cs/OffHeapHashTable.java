@@ -0,0 +1,162 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link OffHeapHashTable} is an implementation of {@link Map} interface for {@code long} keys and fixed-size values
+ * that keeps all its entries <strong>outside the Java heap</strong>. A huge {@link HashTable} holds millions of
+ * {@link Node}, key and value objects, and the garbage collector has to visit all of them again and again. This table
+ * holds only one object: a <strong>direct</strong> {@link java.nio.ByteBuffer} created via
+ * {@link java.nio.ByteBuffer#allocateDirect(int)}. Its memory is not scanned by the GC, so the table does not make GC
+ * pauses longer no matter how many entries it has.
+ * <p>
+ * The buffer is split into slots of the same size. A slot consists of a byte that tells if the slot is used, the
+ * {@code long} key and the value encoded by a {@link FixedSizeCodec} (e.g. {@link FixedSizeCodec#ofBytes(int)}).
+ * The slot of index {@code i} starts at offset {@code i * slotSize}, and keys and values are read and written via
+ * absolute methods like {@link java.nio.ByteBuffer#getLong(int)}.
+ * <p>
+ * Like {@link OpenAddressingHashTable}, it resolves collisions using <strong>linear probing</strong> starting from
+ * the index returned by {@link HashTable#calculateIndex(Object, int)}, and it removes entries using
+ * <strong>backward-shift deletion</strong>. Once the number of elements exceeds 3/4 of the capacity, it allocates a
+ * new buffer twice as big, moves all entries there and releases the old buffer.
+ * <p>
+ * The memory of a direct buffer is normally released only when the buffer object is collected, which may never
+ * happen if the heap is big and calm. That's why the table implements {@link AutoCloseable}: {@link #close()} releases
+ * the memory right away (via {@code sun.misc.Unsafe#invokeCleaner} from module {@code jdk.unsupported}), and any
+ * further call throws {@link IllegalStateException}.
+ * <p>
+ * Since values are stored as bytes, get always returns a new value object, and containsValue compares encoded bytes
+ * instead of calling equals. A single buffer can't be bigger than 2 GB, so the capacity is limited by
+ * {@code Integer.MAX_VALUE / slotSize}. This implementation does not support null keys and null values.
+ * <p>
+ * The default initial capacity is 16.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <V> value type
+ */
+public class OffHeapHashTable<V> implements Map<Long, V>, AutoCloseable {
+
+    /**
+     * Creates a table with a default initial capacity 16.
+     *
+     * @param codec a codec that converts values into bytes
+     */
+    public OffHeapHashTable(FixedSizeCodec<V> codec) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity.
+     *
+     * @param initialCapacity the number of slots
+     * @param codec           a codec that converts values into bytes
+     * @throws IllegalArgumentException if initial capacity is not positive, or the buffer would be bigger than 2 GB
+     */
+    public OffHeapHashTable(int initialCapacity, FixedSizeCodec<V> codec) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null. The value is encoded into the slot, so changing the value object afterwards does not change the table.
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException  if key or value is null
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public V put(Long key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key, decoding it from the slot.
+     *
+     * @param key
+     * @return a new value object decoded from the table or null if there is no such key
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public V get(Long key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public boolean containsKey(Long key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given value. It encodes the value once and compares its bytes with the bytes of
+     * every used slot.
+     *
+     * @param value
+     * @return true is there is such value in the table or false otherwise
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * It uses backward-shift deletion, the same as {@link OpenAddressingHashTable#remove(Object)}.
+     *
+     * @param key
+     * @return removed value or null
+     * @throws IllegalStateException if the table is closed
+     */
+    @Override
+    public V remove(Long key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Returns the number of bytes of direct memory that the table currently holds.
+     *
+     * @return the size of the buffer in bytes, or 0 if the table is closed
+     */
+    public long offHeapBytes() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Releases the direct memory right away. It is safe to call this method more than once.
+     */
+    @Override
+    public void close() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
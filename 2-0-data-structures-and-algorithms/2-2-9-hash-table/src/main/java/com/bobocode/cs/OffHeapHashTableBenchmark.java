@@ -0,0 +1,121 @@
+package com.bobocode.cs;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * This demo compares {@link HashTable} with {@link OffHeapLongHashTable} and {@link OffHeapHashTable} holding a few
+ * million entries. For every table it prints put and get times, and how many GC pauses happened during them and how
+ * long they took in total. Then, while the table is still alive, it allocates a lot of short-lived garbage and calls
+ * {@link System#gc()}, and prints the GC time again.
+ * <p>
+ * Run it once you've implemented all tables, e.g. with {@code -Xmx2g -Xlog:gc}. The {@link HashTable} creates a node,
+ * a key and a value object per entry, so every full GC has to mark millions of live objects, and its pauses grow with
+ * the size of the table. The off-heap tables are a single buffer object for the GC, so the pauses stay the same no
+ * matter how many entries they hold. {@link OffHeapLongHashTable} hashes keys with
+ * {@link OffHeapLongHashTable#calculateIndex(long, int)} instead of boxing them, so it does not even allocate during
+ * put and get.
+ */
+public class OffHeapHashTableBenchmark {
+    static final int SIZE = 4_000_000;
+    static final int VALUE_LENGTH = 16;
+    static final int GARBAGE_ROUNDS = 20;
+    static volatile long sink;
+
+    public static void main(String[] args) {
+        var keys = new Random(42).longs(SIZE).toArray();
+
+        System.out.println("HashTable<Long, Long>");
+        var hashTable = new HashTable<Long, Long>();
+        measure("put", () -> {
+            for (var key : keys) {
+                hashTable.put(key, key);
+            }
+        });
+        measure("get", () -> {
+            long sum = 0;
+            for (var key : keys) {
+                sum += hashTable.get(key);
+            }
+            consume(sum);
+        });
+        measure("garbage + System.gc()", OffHeapHashTableBenchmark::allocateGarbageAndCollect);
+        consume(hashTable.size());
+
+        System.out.println("\nOffHeapLongHashTable");
+        try (var table = new OffHeapLongHashTable()) {
+            measure("put", () -> {
+                for (var key : keys) {
+                    table.put(key, key);
+                }
+            });
+            measure("get", () -> {
+                long sum = 0;
+                for (var key : keys) {
+                    sum += table.get(key, 0);
+                }
+                consume(sum);
+            });
+            measure("garbage + System.gc()", OffHeapHashTableBenchmark::allocateGarbageAndCollect);
+            System.out.printf("off-heap: %d MB%n", table.offHeapBytes() >> 20);
+        }
+
+        System.out.println("\nOffHeapHashTable<byte[" + VALUE_LENGTH + "]>");
+        try (var table = new OffHeapHashTable<>(FixedSizeCodec.ofBytes(VALUE_LENGTH))) {
+            var value = new byte[VALUE_LENGTH];
+            measure("put", () -> {
+                for (var key : keys) {
+                    value[0] = (byte) key;
+                    table.put(key, value);
+                }
+            });
+            measure("get", () -> {
+                long sum = 0;
+                for (var key : keys) {
+                    sum += table.get(key)[0];
+                }
+                consume(sum);
+            });
+            measure("garbage + System.gc()", OffHeapHashTableBenchmark::allocateGarbageAndCollect);
+            System.out.printf("off-heap: %d MB%n", table.offHeapBytes() >> 20);
+        }
+    }
+
+    static void allocateGarbageAndCollect() {
+        for (int i = 0; i < GARBAGE_ROUNDS; i++) {
+            var garbage = new Object[SIZE / 4];
+            for (int j = 0; j < garbage.length; j++) {
+                garbage[j] = new long[2];
+            }
+            consume(garbage.length);
+        }
+        System.gc();
+    }
+
+    static void measure(String name, Runnable operation) {
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long start = System.nanoTime();
+        operation.run();
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%s: %d ms, GC: %d pauses, %d ms%n", name, nanos / 1_000_000,
+                gcCount() - gcCount, gcMillis() - gcMillis);
+    }
+
+    static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    static void consume(long value) {
+        sink += value;
+    }
+}
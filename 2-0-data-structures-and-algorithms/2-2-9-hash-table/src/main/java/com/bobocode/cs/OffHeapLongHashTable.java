@@ -0,0 +1,143 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link OffHeapLongHashTable} is a hash table that maps {@code long} keys to {@code long} values, and keeps all its
+ * entries in <strong>direct</strong> {@link java.nio.ByteBuffer}s outside the Java heap. It works the same way as
+ * {@link OffHeapHashTable}, but it does not implement {@link Map}: its methods accept and return primitives, and the
+ * home index of a key is calculated by {@link #calculateIndex(long, int)} without boxing it, so neither put nor get
+ * creates any objects, and there is nothing to collect at all.
+ * <p>
+ * Every slot takes 17 bytes: a byte that tells if the slot is used, the key and the value. It uses linear probing,
+ * backward-shift deletion, and doubles the capacity once the number of elements exceeds 3/4 of it. {@link #close()}
+ * releases the memory right away, and any further call throws {@link IllegalStateException}.
+ * <p>
+ * A single buffer can't be bigger than 2 GB, which is only about 126M slots. To hold hundreds of millions of entries,
+ * the slots are split into segments of up to 2<sup>26</sup> slots (about 1.1 GB) each, and every segment is a separate
+ * direct buffer. The slot of index {@code i} lives in segment {@code i >>> 26} at offset
+ * {@code (i & (2^26 - 1)) * 17}, so an offset always fits into an {@code int}. The capacity is limited by
+ * 2<sup>30</sup> slots, which is about 800M entries and 17 GB of direct memory. Please note that the JVM limits direct
+ * memory by the max heap size, unless {@code -XX:MaxDirectMemorySize} is set.
+ * <p>
+ * Since any {@code long} can be a value, get does not return a special value for a missing key. Instead, it accepts
+ * a default value that is returned when there is no such key.
+ * <p>
+ * The default initial capacity is 16.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ */
+public class OffHeapLongHashTable implements AutoCloseable {
+
+    /**
+     * Calculates the home index of a {@code long} key. It returns the same index as
+     * {@link HashTable#calculateIndex(Object, int)} for the boxed key, but it uses {@link Long#hashCode(long)}, so it
+     * does not create a {@link Long} object.
+     *
+     * @param key
+     * @param tableCapacity the number of slots
+     * @return the index of a slot where probing starts
+     */
+    public static int calculateIndex(long key, int tableCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a default initial capacity 16.
+     */
+    public OffHeapLongHashTable() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity.
+     *
+     * @param initialCapacity the number of slots
+     * @throws IllegalArgumentException if initial capacity is not positive, or it is greater than 2<sup>30</sup>
+     */
+    public OffHeapLongHashTable(int initialCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a mapping between provided key and value, or updates the value if the key already exists.
+     *
+     * @param key
+     * @param value
+     * @return true if the key is new, or false if the value was updated
+     * @throws IllegalStateException if the table is closed, or a new key would exceed 3/4 of the max capacity
+     */
+    public boolean put(long key, long value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key.
+     *
+     * @param key
+     * @param defaultValue a value to return if there is no such key
+     * @return value stored in the table by the given key or default value if there is no such key
+     * @throws IllegalStateException if the table is closed
+     */
+    public long get(long key, long defaultValue) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     * @throws IllegalStateException if the table is closed
+     */
+    public boolean containsKey(long key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key using backward-shift deletion.
+     *
+     * @param key
+     * @return true if the key was removed, or false if there was no such key
+     * @throws IllegalStateException if the table is closed
+     */
+    public boolean remove(long key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Returns the number of bytes of direct memory that the table currently holds.
+     *
+     * @return the total size of all segments in bytes, or 0 if the table is closed
+     */
+    public long offHeapBytes() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Releases the direct memory right away. It is safe to call this method more than once.
+     */
+    @Override
+    public void close() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
@@ -0,0 +1,182 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link OpenAddressingHashTable} is an alternative implementation of {@link Map} interface that does not use
+ * linked nodes at all. Instead of an array of linked nodes, it stores keys and values in two flat
+ * parallel arrays: {@code keys} and {@code values}. A key stored by index {@code i} in {@code keys} is mapped to
+ * the value stored by the same index {@code i} in {@code values}.
+ * <p>
+ * Since each array cell can hold only one key, collisions are resolved using <strong>linear probing</strong>. It uses
+ * {@link HashTable#calculateIndex(Object, int)} to find the "home" index of the key, and if that cell is occupied by
+ * another key, it checks the next one (wrapping around the end of the array) until it finds the key or an empty cell.
+ * <p>
+ * Removing an element cannot simply set the cell to null, because it would break the probe sequence of the keys
+ * that were placed after it. That's why it uses <strong>backward-shift deletion</strong>: after removing an element,
+ * it shifts back all the following keys of the same cluster that can be moved closer to their home index. So the
+ * table never contains "tombstones", and lookups always stop at the first empty cell.
+ * <p>
+ * In order to keep probe sequences short, the table must never be full. It is resized automatically once the number
+ * of elements exceeds {@code capacity * loadFactor}. The default load factor is 0.75 and the default initial
+ * capacity is 8.
+ * <p>
+ * This implementation does not support null keys.
+ * <p><p>
+ * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
+ * <p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class OpenAddressingHashTable<K, V> implements Map<K, V> {
+
+    /**
+     * Creates a table with a default initial capacity 8 and a default load factor 0.75.
+     */
+    public OpenAddressingHashTable() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity and a default load factor 0.75.
+     *
+     * @param initialCapacity the size of underlying arrays
+     * @throws IllegalArgumentException if initial capacity is not positive
+     */
+    public OpenAddressingHashTable(int initialCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a table with a given initial capacity and load factor. The load factor is the maximum ratio of
+     * elements to capacity. Once it is exceeded, the table is resized.
+     *
+     * @param initialCapacity the size of underlying arrays
+     * @param loadFactor      a value in range (0, 1)
+     * @throws IllegalArgumentException if initial capacity is not positive or load factor is out of range (0, 1)
+     */
+    public OpenAddressingHashTable(int initialCapacity, float loadFactor) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null.
+     * <p>
+     * It starts from the index returned by calculateIndex and probes the following cells one by one until it finds
+     * the same key (then it updates the value) or an empty cell (then it stores a new key and value there).
+     *
+     * @param key
+     * @param value
+     * @return old value or null
+     * @throws NullPointerException if key is null
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Retrieves a value by the given key. It starts from the index returned by calculateIndex and probes the following
+     * cells until it finds the key or reaches an empty cell.
+     *
+     * @param key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    @Override
+    public V get(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key
+     * @return true is there is such key in the table or false otherwise
+     */
+    @Override
+    public boolean containsKey(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks if the table contains a given value.
+     *
+     * @param value
+     * @return true is there is such value in the table or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * <p>
+     * After the cell is cleared, it walks through the rest of the cluster (until the first empty cell) and moves back
+     * every key whose home index allows it to be placed into the freed cell. This is called backward-shift deletion.
+     *
+     * @param key
+     * @return removed value or null
+     */
+    @Override
+    public V remove(K key) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a string that represents underlying arrays as a table. Every row starts with an array index followed
+     * by ": ". Then it adds key and value (key=value) if the cell is occupied. E.g.
+     * <pre>
+     * 0: johnny=439
+     * 1:
+     * 2: madmax=833
+     * 3: leon=886
+     * 4: altea=553
+     * 5:
+     * 6:
+     * 7:
+     * </pre>
+     * In this example "leon" is stored by index 3 because its home index 2 is already occupied by "madmax".
+     *
+     * @return a string that represents the table
+     */
+    @Override
+    public String toString() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates new underlying arrays with a given size and puts all elements there.
+     * <p>
+     * PLEASE NOTE that such method <strong>should not be a part of the public API</strong>, but it was made public
+     * for learning purposes, the same as {@link HashTable#resizeTable(int)}.
+     *
+     * @param newCapacity a size of the new underlying arrays
+     * @throws IllegalArgumentException if new capacity is not greater than the number of elements
+     */
+    public void resizeTable(int newCapacity) {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
@@ -0,0 +1,76 @@
+package com.bobocode.cs;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This demo compares {@link HashTable} and {@link OpenAddressingHashTable} at different load factors. Both tables get
+ * the same capacity and the same amount of random keys, so the only difference is how they store the entries.
+ * {@link OpenAddressingHashTable} gets the load factor of the row as its resize threshold, so it never resizes during
+ * a run. The resize threshold of {@link HashTable} is up to your implementation, so in the rows above it the table
+ * doubles while the keys are put, and its put time includes that resize. That's why the keys are looked up only after
+ * {@link HashTable#resizeTable(int)} brings the table back to the capacity of the row, so get times always compare
+ * the same load.
+ * <p>
+ * Run it once you've implemented both tables, and compare how put and get times change as the load factor grows.
+ * Chains in {@link HashTable} grow slowly, while probe sequences in {@link OpenAddressingHashTable} get much longer
+ * as the load factor approaches 0.9.
+ */
+public class OpenAddressingHashTableBenchmark {
+    static final int CAPACITY = 1 << 20;
+    static final float[] LOAD_FACTORS = {0.5f, 0.6f, 0.7f, 0.8f, 0.9f};
+    static final int N = 5;
+
+    public static void main(String[] args) {
+        for (var loadFactor : LOAD_FACTORS) {
+            var keys = randomKeys((int) (CAPACITY * loadFactor));
+            System.out.printf("%nLoad factor %.1f (%d entries)%n", loadFactor, keys.length);
+
+            System.out.println("HashTable");
+            performNTimes(N, keys, () -> {
+                var table = new HashTable<Integer, Integer>();
+                table.resizeTable(CAPACITY);
+                return table;
+            });
+
+            System.out.println("OpenAddressingHashTable");
+            performNTimes(N, keys, () -> new OpenAddressingHashTable<>(CAPACITY, loadFactor));
+        }
+    }
+
+    static Integer[] randomKeys(int n) {
+        var random = new Random(42);
+        var keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+        return keys;
+    }
+
+    static void performNTimes(int n, Integer[] keys, Supplier<Map<Integer, Integer>> tableSupplier) {
+        for (int i = 0; i < n; i++) {
+            var table = tableSupplier.get();
+
+            long start = System.nanoTime();
+            for (var key : keys) {
+                table.put(key, key);
+            }
+            long putTime = System.nanoTime() - start;
+            if (table instanceof HashTable<?, ?> hashTable) {
+                hashTable.resizeTable(CAPACITY);
+            }
+
+            start = System.nanoTime();
+            long found = 0;
+            for (var key : keys) {
+                if (table.get(key) != null) {
+                    found++;
+                }
+            }
+            long getTime = System.nanoTime() - start;
+
+            System.out.printf("put: %d ms, get: %d ms (%d found)%n",
+                    putTime / 1_000_000, getTime / 1_000_000, found);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bobocode.cs;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Serializer} converts objects of some type into bytes and back. It is used by
+ * {@link HashTable#save(java.nio.file.Path, Serializer, Serializer)} and
+ * {@link HashTable#load(java.nio.file.Path, Serializer, Serializer)} to write keys and values into a snapshot file.
+ * Unlike {@link FixedSizeCodec}, serialized values can have different lengths.
+ *
+ * @param <T> a type of serialized objects
+ */
+public interface Serializer<T> {
+    /**
+     * Converts an object into bytes.
+     *
+     * @param value an object to serialize
+     * @return a new array of bytes
+     */
+    byte[] serialize(T value);
+
+    /**
+     * Converts bytes back into an object. The bytes are the remaining bytes of the buffer (from its position to its
+     * limit), and they are exactly the bytes returned by {@link #serialize(Object)}.
+     *
+     * @param buffer a buffer that holds serialized bytes
+     * @return a new object
+     */
+    T deserialize(ByteBuffer buffer);
+
+    /**
+     * Creates a serializer that converts strings into UTF-8 bytes.
+     *
+     * @return a serializer of strings
+     */
+    static Serializer<String> strings() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a serializer that converts integers into 4 bytes.
+     *
+     * @return a serializer of integers
+     */
+    static Serializer<Integer> integers() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+
+    /**
+     * Creates a serializer that converts longs into 8 bytes.
+     *
+     * @return a serializer of longs
+     */
+    static Serializer<Long> longs() {
+        throw new ExerciseNotCompletedException(); // todo:
+    }
+}
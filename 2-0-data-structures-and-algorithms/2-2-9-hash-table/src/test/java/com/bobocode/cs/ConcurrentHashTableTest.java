@@ -0,0 +1,368 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A Reflection-based step by step test for a {@link ConcurrentHashTable} class. PLEASE NOTE that Reflection API
+ * should not be used for testing a production code. We use it for learning purposes only!
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("ConcurrentHashTable Test")
+class ConcurrentHashTableTest {
+    private static final int THREADS = 8;
+
+    private ConcurrentHashTable<String, Integer> hashTable = new ConcurrentHashTable<>();
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. ConcurrentHashTable fields Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentHashTableFieldsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A static nested class Node has a final key, and volatile value and next")
+        @SneakyThrows
+        void nodeFields() {
+            var nodeClass = Class.forName("com.bobocode.cs.ConcurrentHashTable$Node");
+
+            assertTrue(Modifier.isStatic(nodeClass.getModifiers()));
+            assertTrue(Modifier.isFinal(nodeClass.getDeclaredField("key").getModifiers()));
+            assertTrue(Modifier.isVolatile(nodeClass.getDeclaredField("value").getModifiers()));
+            assertTrue(Modifier.isVolatile(nodeClass.getDeclaredField("next").getModifiers()));
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("ConcurrentHashTable has a volatile field 'table' which is an array of nodes")
+        @SneakyThrows
+        void tableFieldExists() {
+            var nodeClass = Class.forName("com.bobocode.cs.ConcurrentHashTable$Node");
+            var tableField = ConcurrentHashTable.class.getDeclaredField("table");
+
+            assertThat(tableField.getType().getComponentType()).isEqualTo(nodeClass);
+            assertTrue(Modifier.isVolatile(tableField.getModifiers()));
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("ConcurrentHashTable has a final field 'locks' which is an array")
+        @SneakyThrows
+        void locksFieldExists() {
+            var locksField = ConcurrentHashTable.class.getDeclaredField("locks");
+
+            assertTrue(locksField.getType().isArray());
+            assertTrue(Modifier.isFinal(locksField.getModifiers()));
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. ConcurrentHashTable constructors Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentHashTableConstructorsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A default constructor creates an array of size 16 and 16 locks")
+        void defaultConstructor() {
+            assertThat(getTable(hashTable)).hasSize(16);
+            assertThat(getLocks(hashTable)).hasSize(16);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("An additional constructor accepts an initial array size and concurrency level")
+        void constructorWithCapacityAndConcurrencyLevel() {
+            var table = new ConcurrentHashTable<String, Integer>(32, 4);
+
+            assertThat(getTable(table)).hasSize(32);
+            assertThat(getLocks(table)).hasSize(4);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("An additional constructor throws exception when arguments are not positive")
+        void constructorWithWrongArguments() {
+            assertThatThrownBy(() -> new ConcurrentHashTable<String, Integer>(-1, 4))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new ConcurrentHashTable<String, Integer>(16, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. ConcurrentHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put creates new entry and returns null, put with the same key returns the old value")
+        void put() {
+            assertNull(hashTable.put("madmax", 833));
+            assertThat(hashTable.put("madmax", 876)).isEqualTo(833);
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("put throws exception when key or value is null")
+        void putNulls() {
+            assertThatThrownBy(() -> hashTable.put(null, 1)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> hashTable.put("madmax", null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("get returns a corresponding value when there are other keys with the same index")
+        void get() {
+            hashTable.put("madmax", 833);
+            hashTable.put("AaAa", 654);
+            hashTable.put("BBBB", 721);
+
+            assertThat(hashTable.get("BBBB")).isEqualTo(721);
+            assertThat(hashTable.get("AaAa")).isEqualTo(654);
+            assertNull(hashTable.get("xxx"));
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("containsKey and containsValue check the existing entries")
+        void containsKeyAndValue() {
+            hashTable.put("madmax", 833);
+
+            assertTrue(hashTable.containsKey("madmax"));
+            assertFalse(hashTable.containsKey("altea"));
+            assertTrue(hashTable.containsValue(833));
+            assertFalse(hashTable.containsValue(553));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("remove deletes the entry and returns a value, or returns null when key does not exist")
+        void remove() {
+            hashTable.put("AaAa", 843);
+            hashTable.put("BBBB", 434);
+
+            assertThat(hashTable.remove("AaAa")).isEqualTo(843);
+            assertNull(hashTable.remove("AaAa"));
+            assertThat(hashTable.size()).isEqualTo(1);
+            assertFalse(hashTable.isEmpty());
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("put resizes the table once the number of elements exceeds 3/4 of the capacity")
+        void putResizesTable() {
+            for (int i = 0; i < 13; i++) {
+                hashTable.put("key" + i, i);
+            }
+
+            assertThat(getTable(hashTable).length).isGreaterThan(16);
+            for (int i = 0; i < 13; i++) {
+                assertThat(hashTable.get("key" + i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("resizeTable creates a new array and keeps all elements")
+        void resizeTable() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+
+            hashTable.resizeTable(64);
+
+            assertThat(getTable(hashTable)).hasSize(64);
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+        }
+    }
+
+    @Nested
+    @Order(4)
+    @DisplayName("4. ConcurrentHashTable thread-safety Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentHashTableThreadSafetyTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("Concurrent puts of different keys do not lose any entry")
+        void concurrentPutsOfDifferentKeys() {
+            var table = new ConcurrentHashTable<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var key = threadIndex * 10_000 + i;
+                    table.put(key, key);
+                }
+            });
+
+            assertThat(table.size()).isEqualTo(THREADS * 10_000);
+            for (int key = 0; key < THREADS * 10_000; key++) {
+                assertThat(table.get(key)).isEqualTo(key);
+            }
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("Concurrent puts of the same keys do not create duplicates")
+        void concurrentPutsOfTheSameKeys() {
+            var table = new ConcurrentHashTable<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int key = 0; key < 10_000; key++) {
+                    table.put(key, threadIndex);
+                }
+            });
+
+            assertThat(table.size()).isEqualTo(10_000);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Concurrent puts and removes keep the size consistent")
+        void concurrentPutsAndRemoves() {
+            var table = new ConcurrentHashTable<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var key = threadIndex * 10_000 + i;
+                    table.put(key, key);
+                    assertThat(table.remove(key)).isEqualTo(key);
+                }
+            });
+
+            assertTrue(table.isEmpty());
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("Readers always see existing keys while writers resize the table")
+        void readersSeeExistingKeysDuringResize() {
+            var table = new ConcurrentHashTable<Integer, Integer>();
+            for (int key = 0; key < 1_000; key++) {
+                table.put(key, key);
+            }
+            var missedReads = new AtomicBoolean();
+
+            runConcurrently(threadIndex -> {
+                if (threadIndex % 2 == 0) {
+                    for (int i = 0; i < 20_000; i++) {
+                        var key = 1_000 + threadIndex * 20_000 + i;
+                        table.put(key, key);
+                    }
+                } else {
+                    for (int i = 0; i < 100; i++) {
+                        for (int key = 0; key < 1_000; key++) {
+                            if (!Integer.valueOf(key).equals(table.get(key))) {
+                                missedReads.set(true);
+                            }
+                        }
+                    }
+                }
+            });
+
+            assertFalse(missedReads.get());
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("Reads do not wait for locks")
+        @SneakyThrows
+        void readsDoNotAcquireLocks() {
+            hashTable.put("madmax", 833);
+            var executor = Executors.newSingleThreadExecutor();
+            try {
+                var value = holdingAllLocks(getLocks(hashTable), 0,
+                        () -> executor.submit(() -> hashTable.get("madmax")).get(1, TimeUnit.SECONDS));
+
+                assertThat(value).isEqualTo(833);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // Util methods
+    @SneakyThrows
+    private void runConcurrently(ThreadTask task) {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                var threadIndex = i;
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SneakyThrows
+    private <T> T holdingAllLocks(Object[] locks, int index, Callable<T> action) {
+        if (index == locks.length) {
+            return action.call();
+        }
+        var lock = locks[index];
+        if (lock instanceof Lock explicitLock) {
+            explicitLock.lock();
+            try {
+                return holdingAllLocks(locks, index + 1, action);
+            } finally {
+                explicitLock.unlock();
+            }
+        } else {
+            synchronized (lock) {
+                return holdingAllLocks(locks, index + 1, action);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private Object[] getTable(ConcurrentHashTable<?, ?> table) {
+        var tableField = ConcurrentHashTable.class.getDeclaredField("table");
+        tableField.setAccessible(true);
+        return (Object[]) tableField.get(table);
+    }
+
+    @SneakyThrows
+    private Object[] getLocks(ConcurrentHashTable<?, ?> table) {
+        var locksField = ConcurrentHashTable.class.getDeclaredField("locks");
+        locksField.setAccessible(true);
+        return (Object[]) locksField.get(table);
+    }
+
+    @FunctionalInterface
+    interface ThreadTask {
+        void run(int threadIndex);
+    }
+}
@@ -0,0 +1,331 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A Reflection-based step by step test for a {@link ConcurrentSkipListMap} class. PLEASE NOTE that Reflection API
+ * should not be used for testing a production code. We use it for learning purposes only!
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("ConcurrentSkipListMap Test")
+class ConcurrentSkipListMapTest {
+    private static final int THREADS = 8;
+
+    private ConcurrentSkipListMap<String, Integer> map = new ConcurrentSkipListMap<>();
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. ConcurrentSkipListMap fields Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentSkipListMapFieldsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A static nested class Node has a final key and an array of markable next references")
+        @SneakyThrows
+        void nodeFields() {
+            var nodeClass = Class.forName("com.bobocode.cs.ConcurrentSkipListMap$Node");
+            var nextField = Arrays.stream(nodeClass.getDeclaredFields())
+                    .filter(field -> field.getName().equals("next"))
+                    .findAny()
+                    .orElseThrow();
+
+            assertTrue(Modifier.isStatic(nodeClass.getModifiers()));
+            assertTrue(Modifier.isFinal(nodeClass.getDeclaredField("key").getModifiers()));
+            assertThat(nextField.getType().getComponentType()).isEqualTo(AtomicMarkableReference.class);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("ConcurrentSkipListMap does not use locks or synchronized methods")
+        void mapDoesNotUseLocks() {
+            var classes = new ArrayList<Class<?>>(List.of(ConcurrentSkipListMap.class.getDeclaredClasses()));
+            classes.add(ConcurrentSkipListMap.class);
+
+            boolean hasLockFields = classes.stream()
+                    .flatMap(aClass -> Arrays.stream(aClass.getDeclaredFields()))
+                    .map(Field::getType)
+                    .anyMatch(Lock.class::isAssignableFrom);
+            boolean hasSynchronizedMethods = classes.stream()
+                    .flatMap(aClass -> Arrays.stream(aClass.getDeclaredMethods()))
+                    .anyMatch(method -> Modifier.isSynchronized(method.getModifiers()));
+
+            assertFalse(hasLockFields);
+            assertFalse(hasSynchronizedMethods);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. ConcurrentSkipListMap methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentSkipListMapMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put creates new entry and returns null, put with the same key returns the old value")
+        void put() {
+            assertNull(map.put("madmax", 833));
+            assertThat(map.put("madmax", 876)).isEqualTo(833);
+            assertThat(map.get("madmax")).isEqualTo(876);
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("put throws exception when key or value is null")
+        void putNulls() {
+            assertThatThrownBy(() -> map.put(null, 1)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> map.put("madmax", null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("get returns a corresponding value among many keys")
+        void get() {
+            for (int i = 0; i < 1_000; i++) {
+                map.put("key" + i, i);
+            }
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(map.get("key" + i)).isEqualTo(i);
+            }
+            assertNull(map.get("xxx"));
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("containsKey and containsValue check the existing entries")
+        void containsKeyAndValue() {
+            map.put("madmax", 833);
+
+            assertTrue(map.containsKey("madmax"));
+            assertFalse(map.containsKey("altea"));
+            assertTrue(map.containsValue(833));
+            assertFalse(map.containsValue(553));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("remove deletes the entry and returns a value, or returns null when key does not exist")
+        void remove() {
+            map.put("AaAa", 843);
+            map.put("BBBB", 434);
+
+            assertThat(map.remove("AaAa")).isEqualTo(843);
+            assertNull(map.remove("AaAa"));
+            assertFalse(map.containsKey("AaAa"));
+            assertFalse(map.containsValue(843));
+            assertThat(map.size()).isEqualTo(1);
+            assertFalse(map.isEmpty());
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("put after remove creates the entry again")
+        void putAfterRemove() {
+            map.put("madmax", 833);
+            map.remove("madmax");
+
+            assertNull(map.put("madmax", 876));
+            assertThat(map.get("madmax")).isEqualTo(876);
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("remove unlinks the node from the list")
+        @SneakyThrows
+        void removeUnlinksNode() {
+            for (int i = 0; i < 100; i++) {
+                map.put("key" + i, i);
+            }
+            for (int i = 0; i < 100; i++) {
+                map.remove("key" + i);
+            }
+
+            assertTrue(map.isEmpty());
+            assertThat(countLinkedNodes(map)).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. ConcurrentSkipListMap thread-safety Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class ConcurrentSkipListMapThreadSafetyTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("Concurrent puts of different keys do not lose any entry")
+        void concurrentPutsOfDifferentKeys() {
+            var intMap = new ConcurrentSkipListMap<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var key = i * THREADS + threadIndex;
+                    intMap.put(key, key);
+                }
+            });
+
+            assertThat(intMap.size()).isEqualTo(THREADS * 10_000);
+            for (int key = 0; key < THREADS * 10_000; key++) {
+                assertThat(intMap.get(key)).isEqualTo(key);
+            }
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("Concurrent puts of the same keys do not create duplicates")
+        void concurrentPutsOfTheSameKeys() {
+            var intMap = new ConcurrentSkipListMap<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int key = 0; key < 10_000; key++) {
+                    intMap.put(key, threadIndex);
+                }
+            });
+
+            assertThat(intMap.size()).isEqualTo(10_000);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Concurrent puts and removes keep the size consistent")
+        void concurrentPutsAndRemoves() {
+            var intMap = new ConcurrentSkipListMap<Integer, Integer>();
+
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var key = i * THREADS + threadIndex;
+                    intMap.put(key, key);
+                    assertThat(intMap.remove(key)).isEqualTo(key);
+                }
+            });
+
+            assertTrue(intMap.isEmpty());
+            assertThat(countLinkedNodes(intMap)).isEqualTo(0);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("Only one of concurrent removes of the same key gets the value")
+        void concurrentRemovesOfTheSameKey() {
+            var intMap = new ConcurrentSkipListMap<Integer, Integer>();
+            for (int key = 0; key < 10_000; key++) {
+                intMap.put(key, key);
+            }
+            var removed = new AtomicInteger();
+
+            runConcurrently(threadIndex -> {
+                for (int key = 0; key < 10_000; key++) {
+                    if (intMap.remove(key) != null) {
+                        removed.incrementAndGet();
+                    }
+                }
+            });
+
+            assertThat(removed.get()).isEqualTo(10_000);
+            assertTrue(intMap.isEmpty());
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("Concurrent puts and removes of the same keys never lose a put")
+        void concurrentPutsAndRemovesOfTheSameKeys() {
+            var intMap = new ConcurrentSkipListMap<Integer, Integer>();
+            var keys = 16;
+            var balances = new AtomicIntegerArray(keys);
+
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 100_000; i++) {
+                    var key = i % keys;
+                    if ((i / keys + threadIndex) % 2 == 0) {
+                        if (intMap.put(key, threadIndex) == null) {
+                            balances.incrementAndGet(key);
+                        }
+                    } else if (intMap.remove(key) != null) {
+                        balances.decrementAndGet(key);
+                    }
+                }
+            });
+
+            var size = 0;
+            for (int key = 0; key < keys; key++) {
+                assertThat(balances.get(key)).isBetween(0, 1);
+                assertThat(intMap.containsKey(key)).isEqualTo(balances.get(key) == 1);
+                size += balances.get(key);
+            }
+            assertThat(intMap.size()).isEqualTo(size);
+        }
+    }
+
+    // Util methods
+    @SneakyThrows
+    private int countLinkedNodes(ConcurrentSkipListMap<?, ?> map) {
+        var headField = Arrays.stream(ConcurrentSkipListMap.class.getDeclaredFields())
+                .filter(field -> field.getType().getSimpleName().equals("Node"))
+                .findAny()
+                .orElseThrow();
+        headField.setAccessible(true);
+        var nodeClass = Class.forName("com.bobocode.cs.ConcurrentSkipListMap$Node");
+        var nextField = nodeClass.getDeclaredField("next");
+        nextField.setAccessible(true);
+
+        int count = 0;
+        var node = ((AtomicMarkableReference<?>[]) nextField.get(headField.get(map)))[0].getReference();
+        while (node != null) {
+            count++;
+            node = ((AtomicMarkableReference<?>[]) nextField.get(node))[0].getReference();
+        }
+        return count;
+    }
+
+    @SneakyThrows
+    private void runConcurrently(ThreadTask task) {
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                var threadIndex = i;
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    interface ThreadTask {
+        void run(int threadIndex);
+    }
+}
@@ -3,13 +3,19 @@ package com.bobocode.cs;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.reflect.Modifier.isStatic;
@@ -534,6 +540,284 @@ class HashTableTest {
 
     }
 
+    @Nested
+    @Order(7)
+    @DisplayName("7. Hash spreading and diagnostics Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class HashSpreadingTest {
+
+        @ParameterizedTest
+        @Order(1)
+        @EnumSource(HashSpreading.class)
+        @DisplayName("index returns a value within the table capacity")
+        void indexIsWithinCapacity(HashSpreading spreading) {
+            var random = ThreadLocalRandom.current();
+            for (int i = 0; i < 10_000; i++) {
+                int capacity = 1 << random.nextInt(0, 20);
+                int index = spreading.index(random.nextInt(), capacity);
+
+                assertThat(index).isBetween(0, capacity - 1);
+            }
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("MODULO returns the same index as calculateIndex")
+        void moduloIsCalculateIndex() {
+            assertThat(HashSpreading.MODULO.index("madmax", 7)).isEqualTo(HashTable.calculateIndex("madmax", 7));
+            assertThat(HashSpreading.MODULO.index(-833, 10)).isEqualTo(HashTable.calculateIndex(-833, 10));
+            assertFalse(HashSpreading.MODULO.requiresPowerOfTwoCapacity());
+        }
+
+        @ParameterizedTest
+        @Order(3)
+        @EnumSource(value = HashSpreading.class, names = {"FIBONACCI", "MURMUR"})
+        @DisplayName("Masking strategies throw exception when capacity is not a power of two")
+        void maskingRequiresPowerOfTwo(HashSpreading spreading) {
+            assertTrue(spreading.requiresPowerOfTwoCapacity());
+            assertThatThrownBy(() -> spreading.index("madmax", 10)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> HashTable.withSpreading(10, spreading))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @ParameterizedTest
+        @Order(4)
+        @EnumSource(value = HashSpreading.class, names = {"FIBONACCI", "MURMUR"})
+        @DisplayName("Masking strategies spread keys that differ only in high bits")
+        void masksSpreadKeysWithPoorLowBits(HashSpreading spreading) {
+            var buckets = LongStream.range(0, 1024)
+                    .map(id -> id * 1024)
+                    .mapToObj(key -> spreading.index(key, 1024))
+                    .collect(Collectors.toSet());
+
+            assertThat(buckets).hasSizeGreaterThan(512);
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("MODULO puts keys that differ only in high bits into the same bucket")
+        void moduloDoesNotSpreadKeysWithPoorLowBits() {
+            var buckets = LongStream.range(0, 1024)
+                    .map(id -> id * 1024)
+                    .mapToObj(key -> HashSpreading.MODULO.index(key, 1024))
+                    .collect(Collectors.toSet());
+
+            assertThat(buckets).containsExactly(0);
+        }
+
+        @ParameterizedTest
+        @Order(6)
+        @EnumSource(HashSpreading.class)
+        @DisplayName("A table created withSpreading supports put, get and remove")
+        void tableWithSpreading(HashSpreading spreading) {
+            HashTable<Long, Long> table = HashTable.withSpreading(4, spreading);
+            for (long id = 0; id < 1000; id++) {
+                table.put(id * 1024, id);
+            }
+
+            assertThat(table.size()).isEqualTo(1000);
+            assertThat(table.get(833L * 1024)).isEqualTo(833L);
+            assertThat(table.remove(553L * 1024)).isEqualTo(553L);
+            assertFalse(table.containsKey(553L * 1024));
+            assertThat(Integer.bitCount(table.diagnostics().capacity())).isEqualTo(1);
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("Every strategy has a stable id that does not depend on the order of the constants")
+        void stableIds() {
+            assertThat(HashSpreading.MODULO.id()).isEqualTo(0);
+            assertThat(HashSpreading.FIBONACCI.id()).isEqualTo(1);
+            assertThat(HashSpreading.MURMUR.id()).isEqualTo(2);
+            for (var spreading : HashSpreading.values()) {
+                assertThat(HashSpreading.fromId(spreading.id())).isEqualTo(spreading);
+            }
+            assertThatThrownBy(() -> HashSpreading.fromId(833)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("diagnostics reports capacity, size, load factor, max chain length and a histogram")
+        void diagnostics() {
+            addToTable("madmax", 833);
+            addToTable("altea", 553);
+            addToTable("AaAa", 123);
+            addToTable("BBBB", 456);
+            setSize(4);
+
+            var diagnostics = hashTable.diagnostics();
+
+            assertThat(diagnostics.capacity()).isEqualTo(8);
+            assertThat(diagnostics.size()).isEqualTo(4);
+            assertThat(diagnostics.loadFactor()).isEqualTo(0.5);
+            assertThat(diagnostics.maxChainLength()).isEqualTo(expectedMaxChainLength());
+            assertThat(diagnostics.chainLengthHistogram()).hasSize(diagnostics.maxChainLength() + 1);
+            assertThat(diagnostics.chainLengthHistogram().stream().mapToInt(Integer::intValue).sum()).isEqualTo(8);
+            assertThat(diagnostics.chainLengthHistogram().get(2)).isGreaterThanOrEqualTo(1);
+        }
+
+        @Test
+        @Order(9)
+        @DisplayName("diagnostics of an empty table has all buckets of length zero")
+        void diagnosticsOfEmptyTable() {
+            var diagnostics = hashTable.diagnostics();
+
+            assertThat(diagnostics.size()).isZero();
+            assertThat(diagnostics.maxChainLength()).isZero();
+            assertThat(diagnostics.chainLengthHistogram()).containsExactly(8);
+        }
+
+        @Test
+        @Order(10)
+        @DisplayName("diagnostics with the same values are equal and print the histogram")
+        void diagnosticsHaveValueSemantics() {
+            var histogram = new ArrayList<>(List.of(5, 2, 1));
+            var diagnostics = new HashTableDiagnostics(8, 4, 0.5, 2, histogram, 0);
+            histogram.set(0, 833);
+
+            assertThat(diagnostics).isEqualTo(new HashTableDiagnostics(8, 4, 0.5, 2, List.of(5, 2, 1), 0));
+            assertThat(diagnostics.hashCode())
+                    .isEqualTo(new HashTableDiagnostics(8, 4, 0.5, 2, List.of(5, 2, 1), 0).hashCode());
+            assertThat(diagnostics.toString()).contains("[5, 2, 1]");
+            assertThatThrownBy(() -> diagnostics.chainLengthHistogram().set(0, 1))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        private int expectedMaxChainLength() {
+            int max = 0;
+            for (var head : getInternalTable(hashTable)) {
+                int length = 0;
+                if (head != null) {
+                    var current = new NodeProxy(head);
+                    length++;
+                    while (current.next() != null) {
+                        current = current.next();
+                        length++;
+                    }
+                }
+                max = Math.max(max, length);
+            }
+            return max;
+        }
+    }
+
+    @Nested
+    @Order(8)
+    @DisplayName("8. Treeified buckets Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class TreeifiedBucketsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A bucket of more than 8 colliding elements is converted into a tree")
+        void bucketIsTreeified() {
+            var table = new HashTable<ComparableCollidingKey, Integer>();
+            for (int i = 0; i < 8; i++) {
+                table.put(new ComparableCollidingKey(i), i);
+            }
+            assertThat(table.diagnostics().treeifiedBuckets()).isZero();
+
+            table.put(new ComparableCollidingKey(8), 8);
+
+            assertThat(table.diagnostics().treeifiedBuckets()).isEqualTo(1);
+            assertThat(table.diagnostics().maxChainLength()).isEqualTo(9);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("put, get and remove work with thousands of colliding comparable keys")
+        void comparableCollidingKeys() {
+            var table = new HashTable<ComparableCollidingKey, Integer>();
+            for (int i = 0; i < 10_000; i++) {
+                assertNull(table.put(new ComparableCollidingKey(i), i));
+            }
+            assertThat(table.put(new ComparableCollidingKey(833), 553)).isEqualTo(833);
+            for (int i = 0; i < 10_000; i += 2) {
+                assertThat(table.remove(new ComparableCollidingKey(i))).isEqualTo(i);
+            }
+
+            assertThat(table.size()).isEqualTo(5_000);
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(table.containsKey(new ComparableCollidingKey(i))).isEqualTo(i % 2 == 1);
+            }
+            assertThat(table.get(new ComparableCollidingKey(833))).isEqualTo(553);
+            assertTrue(table.containsValue(9_999));
+            assertFalse(table.containsValue(9_998));
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("get of a colliding comparable key takes a logarithmic number of comparisons")
+        void getIsLogarithmic() {
+            var table = new HashTable<ComparableCollidingKey, Integer>();
+            for (int i = 0; i < 10_000; i++) {
+                table.put(new ComparableCollidingKey(i), i);
+            }
+
+            ComparableCollidingKey.COMPARISONS.set(0);
+            table.get(new ComparableCollidingKey(5_555));
+            table.get(new ComparableCollidingKey(10_001));
+
+            assertThat(ComparableCollidingKey.COMPARISONS.get()).isLessThan(100);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("put, get and remove work with colliding keys that are not comparable")
+        void nonComparableCollidingKeys() {
+            var table = new HashTable<CollidingKey, Integer>();
+            for (int i = 0; i < 1_000; i++) {
+                table.put(new CollidingKey(i), i);
+            }
+            for (int i = 0; i < 1_000; i += 3) {
+                assertThat(table.remove(new CollidingKey(i))).isEqualTo(i);
+            }
+
+            assertThat(table.size()).isEqualTo(666);
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(table.get(new CollidingKey(i))).isEqualTo(i % 3 == 0 ? null : i);
+            }
+            assertThat(table.diagnostics().treeifiedBuckets()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("A tree bucket is converted back into a linked list when it gets 6 or fewer elements")
+        void bucketIsUntreeified() {
+            HashTable<ComparableCollidingKey, Integer> table = HashTable.withSpreading(64, HashSpreading.MODULO);
+            for (int i = 0; i < 9; i++) {
+                table.put(new ComparableCollidingKey(i), i);
+            }
+
+            table.remove(new ComparableCollidingKey(0));
+            table.remove(new ComparableCollidingKey(1));
+            assertThat(table.diagnostics().treeifiedBuckets()).isEqualTo(1);
+            table.remove(new ComparableCollidingKey(2));
+
+            assertThat(table.diagnostics().treeifiedBuckets()).isZero();
+            for (int i = 3; i < 9; i++) {
+                assertThat(table.get(new ComparableCollidingKey(i))).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("resizeTable keeps colliding elements in a tree bucket")
+        void resizeKeepsTree() {
+            HashTable<ComparableCollidingKey, Integer> table = HashTable.withSpreading(64, HashSpreading.MODULO);
+            for (int i = 0; i < 100; i++) {
+                table.put(new ComparableCollidingKey(i), i);
+            }
+
+            table.resizeTable(128);
+
+            assertThat(table.diagnostics().treeifiedBuckets()).isEqualTo(1);
+            for (int i = 0; i < 100; i++) {
+                assertThat(table.get(new ComparableCollidingKey(i))).isEqualTo(i);
+            }
+        }
+    }
+
     // Util methods
     @SneakyThrows
     private Object[] getInternalTable(HashTable<?, ?> hashTable) {
@@ -674,4 +958,32 @@ class HashTableTest {
             nextField.set(target, newNode);
         }
     }
-}
\ No newline at end of file
+
+    record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    record ComparableCollidingKey(int id) implements Comparable<ComparableCollidingKey> {
+        static final AtomicInteger COMPARISONS = new AtomicInteger();
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            COMPARISONS.incrementAndGet();
+            return o instanceof ComparableCollidingKey other && other.id == id;
+        }
+
+        @Override
+        public int compareTo(ComparableCollidingKey other) {
+            COMPARISONS.incrementAndGet();
+            return Integer.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A Reflection-based step by step test for a {@link IncrementalHashTable} class. PLEASE NOTE that Reflection API
+ * should not be used for testing a production code. We use it for learning purposes only!
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("IncrementalHashTable Test")
+class IncrementalHashTableTest {
+
+    private IncrementalHashTable<String, Integer> hashTable = new IncrementalHashTable<>();
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. IncrementalHashTable fields Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class IncrementalHashTableFieldsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A static nested class Node exists")
+        @SneakyThrows
+        void nodeClassExists() {
+            var nodeClass = Class.forName("com.bobocode.cs.IncrementalHashTable$Node");
+
+            assertTrue(isStatic(nodeClass.getModifiers()));
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("IncrementalHashTable has fields 'table' and 'oldTable' which are arrays of nodes")
+        @SneakyThrows
+        void tableFieldsExist() {
+            var nodeClass = Class.forName("com.bobocode.cs.IncrementalHashTable$Node");
+            var tableType = IncrementalHashTable.class.getDeclaredField("table").getType();
+            var oldTableType = IncrementalHashTable.class.getDeclaredField("oldTable").getType();
+
+            assertThat(tableType.getComponentType()).isEqualTo(nodeClass);
+            assertThat(oldTableType.getComponentType()).isEqualTo(nodeClass);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("IncrementalHashTable has an integer field 'size'")
+        @SneakyThrows
+        void sizeFieldExists() {
+            var sizeField = IncrementalHashTable.class.getDeclaredField("size");
+
+            assertThat(sizeField.getType()).isEqualTo(int.class);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. IncrementalHashTable constructors Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class IncrementalHashTableConstructorsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A default constructor initializes an array with default size 8 and no old array")
+        void defaultConstructor() {
+            assertThat(getTable(hashTable)).hasSize(8);
+            assertThat(getOldTable(hashTable)).isNull();
+            assertFalse(hashTable.isResizing());
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("An additional constructor accepts an initial array size and migration step")
+        void constructorWithCapacityAndStep() {
+            var table = new IncrementalHashTable<String, Integer>(16, 2);
+
+            assertThat(getTable(table)).hasSize(16);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("An additional constructor throws exception when arguments are not positive")
+        void constructorWithWrongArguments() {
+            assertThatThrownBy(() -> new IncrementalHashTable<String, Integer>(0, 4))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new IncrementalHashTable<String, Integer>(8, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. IncrementalHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class IncrementalHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put creates new entry and returns null, put with the same key returns the old value")
+        void put() {
+            assertNull(hashTable.put("madmax", 833));
+            assertThat(hashTable.put("madmax", 876)).isEqualTo(833);
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("get returns a corresponding value or null when key does not exist")
+        void get() {
+            hashTable.put("madmax", 833);
+            hashTable.put("AaAa", 654);
+            hashTable.put("BBBB", 721);
+
+            assertThat(hashTable.get("BBBB")).isEqualTo(721);
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertNull(hashTable.get("xxx"));
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("containsKey and containsValue check the existing entries")
+        void containsKeyAndValue() {
+            hashTable.put("madmax", 833);
+
+            assertTrue(hashTable.containsKey("madmax"));
+            assertFalse(hashTable.containsKey("altea"));
+            assertTrue(hashTable.containsValue(833));
+            assertFalse(hashTable.containsValue(553));
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("remove deletes the entry and returns a value, or returns null when key does not exist")
+        void remove() {
+            hashTable.put("AaAa", 843);
+            hashTable.put("BBBB", 434);
+
+            assertThat(hashTable.remove("AaAa")).isEqualTo(843);
+            assertNull(hashTable.remove("AaAa"));
+            assertThat(hashTable.size()).isEqualTo(1);
+            assertFalse(hashTable.isEmpty());
+        }
+    }
+
+    @Nested
+    @Order(4)
+    @DisplayName("4. Incremental resizing Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class IncrementalResizingTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put starts resizing once the number of elements exceeds 3/4 of the capacity")
+        void putStartsResizing() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            for (int i = 0; i < 6; i++) {
+                table.put(i, i);
+            }
+            assertFalse(table.isResizing());
+            assertThat(getTable(table)).hasSize(8);
+
+            table.put(6, 6);
+
+            assertTrue(table.isResizing());
+            assertThat(getTable(table)).hasSize(16);
+            assertThat(getOldTable(table)).hasSize(8);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("resizeTable creates a new array but does not move any elements")
+        void resizeTableDoesNotMoveElements() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            for (int i = 0; i < 5; i++) {
+                table.put(i, i);
+            }
+
+            table.resizeTable(16);
+
+            assertTrue(table.isResizing());
+            assertThat(getTable(table)).hasSize(16);
+            assertThat(countNodes(getTable(table))).isZero();
+            assertThat(countNodes(getOldTable(table))).isEqualTo(5);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Every operation migrates at most migration step buckets")
+        void operationMigratesBoundedNumberOfBuckets() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 2);
+            for (int i = 0; i < 6; i++) {
+                table.put(i, i);
+            }
+            table.resizeTable(32);
+
+            for (int i = 0; i < 3; i++) {
+                var bucketsBefore = countBuckets(getOldTable(table));
+                table.get(-1);
+                assertThat(bucketsBefore - countBuckets(getOldTable(table))).isLessThanOrEqualTo(2);
+                assertTrue(table.isResizing());
+            }
+            table.get(-1);
+
+            assertFalse(table.isResizing());
+            assertThat(getOldTable(table)).isNull();
+            assertThat(countNodes(getTable(table))).isEqualTo(6);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("get finds elements in both old and new arrays while resizing is in progress")
+        void getWhileResizing() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            for (int i = 0; i < 6; i++) {
+                table.put(i, i * 10);
+            }
+            table.resizeTable(16);
+
+            for (int i = 0; i < 6; i++) {
+                assertThat(table.get(i)).isEqualTo(i * 10);
+            }
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("put updates the value of a key that is not migrated yet and does not duplicate it")
+        void putExistingKeyWhileResizing() {
+            var table = new IncrementalHashTable<String, Integer>(8, 1);
+            table.put("madmax", 833);
+            table.put("altea", 553);
+            table.resizeTable(16);
+
+            var previousValue = table.put("madmax", 876);
+
+            assertThat(previousValue).isEqualTo(833);
+            assertThat(table.size()).isEqualTo(2);
+            assertThat(countKeys(getTable(table), "madmax") + countKeys(getOldTable(table), "madmax")).isEqualTo(1);
+            assertThat(table.get("madmax")).isEqualTo(876);
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("remove deletes elements from both old and new arrays while resizing is in progress")
+        void removeWhileResizing() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            for (int i = 0; i < 6; i++) {
+                table.put(i, i);
+            }
+            table.resizeTable(16);
+
+            for (int i = 0; i < 6; i++) {
+                assertThat(table.remove(i)).isEqualTo(i);
+            }
+
+            assertTrue(table.isEmpty());
+            assertFalse(table.containsKey(0));
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("containsValue finds values that are not migrated yet")
+        void containsValueWhileResizing() {
+            var table = new IncrementalHashTable<String, Integer>(8, 1);
+            table.put("madmax", 833);
+            table.resizeTable(16);
+
+            assertTrue(table.containsValue(833));
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("resizeTable completes the previous resizing before starting a new one")
+        void resizeTableWhileResizing() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            for (int i = 0; i < 5; i++) {
+                table.put(i, i);
+            }
+            table.resizeTable(16);
+
+            table.resizeTable(32);
+
+            assertThat(getOldTable(table)).hasSize(16);
+            assertThat(getTable(table)).hasSize(32);
+            assertThat(countNodes(getOldTable(table))).isEqualTo(5);
+        }
+
+        @Test
+        @Order(9)
+        @DisplayName("The table stays consistent after many random operations")
+        void randomOperations() {
+            var table = new IncrementalHashTable<Integer, Integer>(8, 1);
+            var expected = new HashMap<Integer, Integer>();
+            var random = new Random(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                var key = random.nextInt(1_000);
+                switch (random.nextInt(3)) {
+                    case 0 -> assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+                    case 1 -> assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+                    default -> assertThat(table.get(key)).isEqualTo(expected.get(key));
+                }
+            }
+
+            assertThat(table.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+        }
+    }
+
+    // Util methods
+    @SneakyThrows
+    private Object[] getTable(IncrementalHashTable<?, ?> table) {
+        var tableField = IncrementalHashTable.class.getDeclaredField("table");
+        tableField.setAccessible(true);
+        return (Object[]) tableField.get(table);
+    }
+
+    @SneakyThrows
+    private Object[] getOldTable(IncrementalHashTable<?, ?> table) {
+        var oldTableField = IncrementalHashTable.class.getDeclaredField("oldTable");
+        oldTableField.setAccessible(true);
+        return (Object[]) oldTableField.get(table);
+    }
+
+    private long countBuckets(Object[] table) {
+        return table == null ? 0 : Arrays.stream(table).filter(bucket -> bucket != null).count();
+    }
+
+    private int countNodes(Object[] table) {
+        return countKeys(table, null);
+    }
+
+    @SneakyThrows
+    private int countKeys(Object[] table, Object key) {
+        if (table == null) {
+            return 0;
+        }
+        var nodeClass = Class.forName("com.bobocode.cs.IncrementalHashTable$Node");
+        Field keyField = nodeClass.getDeclaredField("key");
+        Field nextField = nodeClass.getDeclaredField("next");
+        keyField.setAccessible(true);
+        nextField.setAccessible(true);
+        var count = 0;
+        for (var head : table) {
+            for (var current = head; current != null; current = nextField.get(current)) {
+                if (key == null || key.equals(keyField.get(current))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
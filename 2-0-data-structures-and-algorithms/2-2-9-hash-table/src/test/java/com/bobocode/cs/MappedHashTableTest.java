@@ -0,0 +1,257 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A step by step test for {@link HashTable#save(Path, Serializer, Serializer)},
+ * {@link HashTable#load(Path, Serializer, Serializer)} and a {@link MappedHashTable} class.
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("MappedHashTable Test")
+class MappedHashTableTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HashTable<String, Integer> hashTable = new HashTable<>();
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. Serializer Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class SerializerTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("Strings are serialized into UTF-8 bytes")
+        void strings() {
+            var serializer = Serializer.strings();
+
+            var bytes = serializer.serialize("привіт");
+
+            assertThat(bytes).hasSize(12);
+            assertThat(serializer.deserialize(ByteBuffer.wrap(bytes))).isEqualTo("привіт");
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("Integers and longs are serialized into 4 and 8 bytes")
+        void integersAndLongs() {
+            var integerBytes = Serializer.integers().serialize(-833);
+            var longBytes = Serializer.longs().serialize(Long.MAX_VALUE);
+
+            assertThat(integerBytes).hasSize(4);
+            assertThat(longBytes).hasSize(8);
+            assertThat(Serializer.integers().deserialize(ByteBuffer.wrap(integerBytes))).isEqualTo(-833);
+            assertThat(Serializer.longs().deserialize(ByteBuffer.wrap(longBytes))).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. Snapshot format Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class SnapshotFormatTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("save writes a header with magic, version, size, capacity and spreading")
+        @SneakyThrows
+        void header() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            var file = tempDir.resolve("table.snapshot");
+
+            hashTable.save(file, Serializer.strings(), Serializer.integers());
+
+            var bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            assertThat(bytes.getInt(0)).isEqualTo(0x48544231);
+            assertThat(bytes.getInt(4)).isEqualTo(1);
+            assertThat(bytes.getInt(8)).isEqualTo(2);
+            assertThat(bytes.getInt(12)).isEqualTo(8);
+            assertThat(bytes.getInt(16)).isEqualTo(HashSpreading.MODULO.id());
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("save writes a bucket index that points to the packed entries of every bucket")
+        @SneakyThrows
+        void bucketIndex() {
+            hashTable.put("madmax", 833);
+            var file = tempDir.resolve("table.snapshot");
+
+            hashTable.save(file, Serializer.strings(), Serializer.integers());
+
+            var bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            int entriesStart = 20 + 4 * 9;
+            int entrySize = 4 + "madmax".length() + 4 + 4;
+            int bucket = HashTable.calculateIndex("madmax", 8);
+            for (int i = 0; i <= 8; i++) {
+                int expectedOffset = i <= bucket ? entriesStart : entriesStart + entrySize;
+                assertThat(bytes.getInt(20 + 4 * i)).isEqualTo(expectedOffset);
+            }
+            assertThat(bytes.capacity()).isEqualTo(entriesStart + entrySize);
+            assertThat(bytes.getInt(entriesStart)).isEqualTo("madmax".length());
+            assertThat(bytes.getInt(entriesStart + 4 + "madmax".length())).isEqualTo(4);
+            assertThat(bytes.getInt(entriesStart + 8 + "madmax".length())).isEqualTo(833);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("load throws exception when the file is not a snapshot")
+        @SneakyThrows
+        void loadWrongFile() {
+            var file = tempDir.resolve("table.snapshot");
+            Files.writeString(file, "definitely not a snapshot");
+
+            assertThatThrownBy(() -> HashTable.load(file, Serializer.strings(), Serializer.integers()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. MappedHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class MappedHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A loaded table contains all entries of the saved table")
+        void loadedTableContainsAllEntries() {
+            for (int i = 0; i < 10_000; i++) {
+                hashTable.put("key" + i, i);
+            }
+
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                assertThat(mappedTable.size()).isEqualTo(10_000);
+                assertFalse(mappedTable.isEmpty());
+                for (int i = 0; i < 10_000; i++) {
+                    assertThat(mappedTable.get("key" + i)).isEqualTo(i);
+                }
+                assertNull(mappedTable.get("key10000"));
+            }
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("containsKey and containsValue check the existing entries")
+        void containsKeyAndValue() {
+            hashTable.put("madmax", 833);
+            hashTable.put("AaAa", 654);
+            hashTable.put("BBBB", 721);
+
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                assertTrue(mappedTable.containsKey("BBBB"));
+                assertTrue(mappedTable.containsKey("AaAa"));
+                assertFalse(mappedTable.containsKey("altea"));
+                assertTrue(mappedTable.containsValue(721));
+                assertFalse(mappedTable.containsValue(553));
+            }
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Null values are saved and loaded as null")
+        void nullValues() {
+            hashTable.put("madmax", null);
+
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                assertTrue(mappedTable.containsKey("madmax"));
+                assertNull(mappedTable.get("madmax"));
+                assertTrue(mappedTable.containsValue(null));
+            }
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("An empty table is saved and loaded")
+        void emptyTable() {
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                assertTrue(mappedTable.isEmpty());
+                assertNull(mappedTable.get("madmax"));
+            }
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("put and remove throw exception since a loaded table is read-only")
+        void readOnly() {
+            hashTable.put("madmax", 833);
+
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                assertThatThrownBy(() -> mappedTable.put("altea", 553))
+                        .isInstanceOf(UnsupportedOperationException.class);
+                assertThatThrownBy(() -> mappedTable.remove("madmax"))
+                        .isInstanceOf(UnsupportedOperationException.class);
+            }
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("toHashTable creates a mutable copy")
+        void toHashTable() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+
+            try (var mappedTable = saveAndLoad(hashTable)) {
+                var copy = mappedTable.toHashTable();
+                copy.put("leon", 886);
+
+                assertThat(copy.size()).isEqualTo(3);
+                assertThat(copy.get("madmax")).isEqualTo(833);
+                assertThat(copy.get("altea")).isEqualTo(553);
+                assertFalse(mappedTable.containsKey("leon"));
+            }
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("A table with hash spreading is loaded with the same spreading")
+        void hashSpreading() {
+            HashTable<String, Integer> spreadTable = HashTable.withSpreading(64, HashSpreading.FIBONACCI);
+            for (int i = 0; i < 1000; i++) {
+                spreadTable.put("key" + i, i);
+            }
+
+            try (var mappedTable = saveAndLoad(spreadTable)) {
+                for (int i = 0; i < 1000; i++) {
+                    assertThat(mappedTable.get("key" + i)).isEqualTo(i);
+                }
+                var copy = mappedTable.toHashTable();
+                assertThat(copy.get("key833")).isEqualTo(833);
+            }
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("close unmaps the file, and further calls throw exception")
+        void close() {
+            hashTable.put("madmax", 833);
+            var mappedTable = saveAndLoad(hashTable);
+
+            mappedTable.close();
+            mappedTable.close();
+
+            assertThatThrownBy(() -> mappedTable.get("madmax")).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> mappedTable.containsValue(833)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private MappedHashTable<String, Integer> saveAndLoad(HashTable<String, Integer> table) {
+        var file = tempDir.resolve("table.snapshot");
+        table.save(file, Serializer.strings(), Serializer.integers());
+        return HashTable.load(file, Serializer.strings(), Serializer.integers());
+    }
+}
@@ -0,0 +1,178 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A step by step test for a {@link OffHeapHashTable} class and a {@link FixedSizeCodec} of byte arrays.
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("OffHeapHashTable Test")
+class OffHeapHashTableTest {
+    private static final int VALUE_LENGTH = 8;
+
+    private OffHeapHashTable<byte[]> hashTable = new OffHeapHashTable<>(FixedSizeCodec.ofBytes(VALUE_LENGTH));
+
+    @AfterEach
+    void closeTable() {
+        hashTable.close();
+    }
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. FixedSizeCodec Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class FixedSizeCodecTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A byte array codec writes and reads arrays of a given length without moving the position")
+        void bytesCodec() {
+            var codec = FixedSizeCodec.ofBytes(4);
+            var buffer = ByteBuffer.allocateDirect(10);
+
+            codec.write(buffer, 3, new byte[]{1, 2, 3, 4});
+
+            assertThat(codec.size()).isEqualTo(4);
+            assertThat(codec.read(buffer, 3)).containsExactly(1, 2, 3, 4);
+            assertThat(buffer.position()).isEqualTo(0);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("A byte array codec rejects wrong lengths")
+        void bytesCodecWrongLength() {
+            var codec = FixedSizeCodec.ofBytes(4);
+
+            assertThatThrownBy(() -> FixedSizeCodec.ofBytes(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> codec.write(ByteBuffer.allocate(10), 0, new byte[3]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. OffHeapHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OffHeapHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A table allocates slots of a flag byte, a long key and an encoded value")
+        void slotSize() {
+            try (var table = new OffHeapHashTable<>(100, FixedSizeCodec.ofBytes(VALUE_LENGTH))) {
+                assertThat(table.offHeapBytes()).isEqualTo(100 * (1 + 8 + VALUE_LENGTH));
+            }
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("put creates new entry and returns null, put with the same key returns the old value")
+        void put() {
+            assertNull(hashTable.put(42L, value(1)));
+            assertThat(hashTable.put(42L, value(2))).isEqualTo(value(1));
+
+            assertThat(hashTable.get(42L)).isEqualTo(value(2));
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("put throws exception when key or value is null")
+        void putNulls() {
+            assertThatThrownBy(() -> hashTable.put(null, value(1))).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> hashTable.put(42L, null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("put copies the value, so changing the array afterwards does not change the table")
+        void putCopiesValue() {
+            var value = value(1);
+            hashTable.put(42L, value);
+
+            value[0] = 100;
+
+            assertThat(hashTable.get(42L)).isEqualTo(value(1));
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("containsKey and containsValue check the existing entries, values are compared by bytes")
+        void containsKeyAndValue() {
+            hashTable.put(42L, value(1));
+
+            assertTrue(hashTable.containsKey(42L));
+            assertFalse(hashTable.containsKey(43L));
+            assertTrue(hashTable.containsValue(value(1)));
+            assertFalse(hashTable.containsValue(value(2)));
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("remove deletes the entry and returns a value, or returns null when key does not exist")
+        void remove() {
+            hashTable.put(1L, value(1));
+            hashTable.put(17L, value(17));
+
+            assertThat(hashTable.remove(1L)).isEqualTo(value(1));
+            assertNull(hashTable.remove(1L));
+            assertThat(hashTable.get(17L)).isEqualTo(value(17));
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("Random puts and removes give the same result as java.util.HashMap")
+        void randomOperationsMatchHashMap() {
+            var random = new Random(42);
+            var expected = new HashMap<Long, Integer>();
+            for (int i = 0; i < 50_000; i++) {
+                long key = random.nextInt(5_000);
+                if (random.nextBoolean()) {
+                    var oldValue = expected.put(key, i);
+                    var actualOldValue = hashTable.put(key, value(i));
+                    assertThat(actualOldValue).isEqualTo(oldValue == null ? null : value(oldValue));
+                } else {
+                    var oldValue = expected.remove(key);
+                    var actualOldValue = hashTable.remove(key);
+                    assertThat(actualOldValue).isEqualTo(oldValue == null ? null : value(oldValue));
+                }
+            }
+
+            assertThat(hashTable.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(hashTable.get(key)).isEqualTo(value(value)));
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("close releases the buffer, and further calls throw exception")
+        void close() {
+            hashTable.put(42L, value(1));
+
+            hashTable.close();
+            hashTable.close();
+
+            assertThat(hashTable.offHeapBytes()).isEqualTo(0);
+            assertThatThrownBy(() -> hashTable.put(1L, value(1))).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> hashTable.get(42L)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> hashTable.remove(42L)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static byte[] value(int seed) {
+        var value = new byte[VALUE_LENGTH];
+        Arrays.fill(value, (byte) seed);
+        value[VALUE_LENGTH - 1] = (byte) (seed >>> 8);
+        return value;
+    }
+}
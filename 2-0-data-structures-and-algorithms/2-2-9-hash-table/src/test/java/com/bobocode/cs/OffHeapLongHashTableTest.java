@@ -0,0 +1,224 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A Reflection-based step by step test for a {@link OffHeapLongHashTable} class. PLEASE NOTE that Reflection API
+ * should not be used for testing a production code. We use it for learning purposes only!
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("OffHeapLongHashTable Test")
+class OffHeapLongHashTableTest {
+
+    private OffHeapLongHashTable hashTable = new OffHeapLongHashTable();
+
+    @AfterEach
+    void closeTable() {
+        hashTable.close();
+    }
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. OffHeapLongHashTable fields Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OffHeapLongHashTableFieldsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("OffHeapLongHashTable does not declare any nested node class")
+        void noNestedClasses() {
+            assertThat(OffHeapLongHashTable.class.getDeclaredClasses()).isEmpty();
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("OffHeapLongHashTable keeps entries in an array of direct ByteBuffer segments and no other arrays")
+        void segmentsFieldExists() {
+            var instanceFields = Arrays.stream(OffHeapLongHashTable.class.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .toList();
+
+            assertThat(instanceFields).extracting(Field::getType).contains(ByteBuffer[].class);
+            assertThat(instanceFields).noneMatch(field -> field.getType().isArray()
+                    && !field.getType().equals(ByteBuffer[].class));
+            assertThat(getSegments(hashTable)).hasSize(1).allMatch(ByteBuffer::isDirect);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. OffHeapLongHashTable constructors Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OffHeapLongHashTableConstructorsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A default constructor allocates 16 slots of 17 bytes")
+        void defaultConstructor() {
+            assertThat(hashTable.offHeapBytes()).isEqualTo(16 * 17);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("An additional constructor accepts an initial capacity")
+        void constructorWithCapacity() {
+            try (var table = new OffHeapLongHashTable(100)) {
+                assertThat(table.offHeapBytes()).isEqualTo(100 * 17);
+            }
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("An additional constructor throws exception when capacity is wrong")
+        void constructorWithWrongCapacity() {
+            assertThatThrownBy(() -> new OffHeapLongHashTable(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new OffHeapLongHashTable((1 << 30) + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. OffHeapLongHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OffHeapLongHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put returns true for a new key, and false when it updates the value")
+        void put() {
+            assertTrue(hashTable.put(42L, 833L));
+            assertFalse(hashTable.put(42L, 876L));
+
+            assertThat(hashTable.get(42L, -1L)).isEqualTo(876L);
+            assertThat(hashTable.size()).isEqualTo(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("get returns the default value when key does not exist")
+        void getMissingKey() {
+            hashTable.put(42L, 0L);
+
+            assertThat(hashTable.get(42L, -1L)).isEqualTo(0L);
+            assertThat(hashTable.get(43L, -1L)).isEqualTo(-1L);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("Keys with the same home index are found by linear probing")
+        void collidingKeys() {
+            hashTable.put(1L, 10L);
+            hashTable.put(17L, 170L);
+            hashTable.put(33L, 330L);
+
+            assertThat(hashTable.get(1L, -1L)).isEqualTo(10L);
+            assertThat(hashTable.get(17L, -1L)).isEqualTo(170L);
+            assertThat(hashTable.get(33L, -1L)).isEqualTo(330L);
+            assertTrue(hashTable.containsKey(33L));
+            assertFalse(hashTable.containsKey(49L));
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("remove keeps the following keys of the same cluster reachable")
+        void removeShiftsBackCluster() {
+            hashTable.put(1L, 10L);
+            hashTable.put(17L, 170L);
+            hashTable.put(33L, 330L);
+
+            assertTrue(hashTable.remove(1L));
+            assertFalse(hashTable.remove(1L));
+
+            assertThat(hashTable.get(17L, -1L)).isEqualTo(170L);
+            assertThat(hashTable.get(33L, -1L)).isEqualTo(330L);
+            assertThat(hashTable.size()).isEqualTo(2);
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("put doubles the buffer once the number of elements exceeds 3/4 of the capacity")
+        void putResizesBuffer() {
+            for (long key = 0; key < 13; key++) {
+                hashTable.put(key, key * 10);
+            }
+
+            assertThat(hashTable.offHeapBytes()).isEqualTo(32 * 17);
+            for (long key = 0; key < 13; key++) {
+                assertThat(hashTable.get(key, -1L)).isEqualTo(key * 10);
+            }
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("Random puts and removes give the same result as java.util.HashMap")
+        void randomOperationsMatchHashMap() {
+            var random = new Random(42);
+            var expected = new HashMap<Long, Long>();
+            for (int i = 0; i < 100_000; i++) {
+                long key = random.nextInt(10_000) - 5_000L;
+                if (random.nextBoolean()) {
+                    assertThat(hashTable.put(key, i)).isEqualTo(expected.put(key, (long) i) == null);
+                } else {
+                    assertThat(hashTable.remove(key)).isEqualTo(expected.remove(key) != null);
+                }
+            }
+
+            assertThat(hashTable.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(hashTable.get(key, -1L)).isEqualTo(value));
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("close releases the buffer, and further calls throw exception")
+        void close() {
+            hashTable.put(42L, 833L);
+
+            hashTable.close();
+            hashTable.close();
+
+            assertThat(hashTable.offHeapBytes()).isEqualTo(0);
+            assertThatThrownBy(() -> hashTable.put(1L, 1L)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> hashTable.get(42L, -1L)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> hashTable.containsKey(42L)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> hashTable.remove(42L)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("calculateIndex returns the same index as HashTable.calculateIndex for a boxed key")
+        void calculateIndexMatchesHashTable() {
+            var random = new Random(42);
+            for (int i = 0; i < 1_000; i++) {
+                long key = random.nextLong();
+                int capacity = 1 + random.nextInt(1 << 30);
+
+                assertThat(OffHeapLongHashTable.calculateIndex(key, capacity))
+                        .isEqualTo(HashTable.calculateIndex(Long.valueOf(key), capacity));
+            }
+        }
+    }
+
+    @SneakyThrows
+    private ByteBuffer[] getSegments(OffHeapLongHashTable table) {
+        var segmentsField = Arrays.stream(OffHeapLongHashTable.class.getDeclaredFields())
+                .filter(field -> field.getType().equals(ByteBuffer[].class))
+                .findAny()
+                .orElseThrow();
+        segmentsField.setAccessible(true);
+        return (ByteBuffer[]) segmentsField.get(table);
+    }
+}
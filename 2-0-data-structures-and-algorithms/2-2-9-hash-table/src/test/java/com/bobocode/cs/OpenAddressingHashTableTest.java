@@ -0,0 +1,408 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.ClassOrderer.OrderAnnotation;
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A Reflection-based step by step test for a {@link OpenAddressingHashTable} class. PLEASE NOTE that Reflection API
+ * should not be used for testing a production code. We use it for learning purposes only!
+ */
+@TestClassOrder(OrderAnnotation.class)
+@DisplayName("OpenAddressingHashTable Test")
+class OpenAddressingHashTableTest {
+
+    private OpenAddressingHashTable<String, Integer> hashTable = new OpenAddressingHashTable<>();
+
+    @Nested
+    @Order(1)
+    @DisplayName("1. OpenAddressingHashTable fields Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OpenAddressingHashTableFieldsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("OpenAddressingHashTable does not declare any nested node class")
+        void noNestedClasses() {
+            assertThat(OpenAddressingHashTable.class.getDeclaredClasses()).isEmpty();
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("OpenAddressingHashTable has a field 'keys' which is an array of objects")
+        @SneakyThrows
+        void keysFieldExists() {
+            var keysField = OpenAddressingHashTable.class.getDeclaredField("keys");
+
+            assertThat(keysField.getType()).isEqualTo(Object[].class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("OpenAddressingHashTable has a field 'values' which is an array of objects")
+        @SneakyThrows
+        void valuesFieldExists() {
+            var valuesField = OpenAddressingHashTable.class.getDeclaredField("values");
+
+            assertThat(valuesField.getType()).isEqualTo(Object[].class);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("OpenAddressingHashTable has an integer field 'size'")
+        @SneakyThrows
+        void sizeFieldExists() {
+            var sizeField = OpenAddressingHashTable.class.getDeclaredField("size");
+
+            assertThat(sizeField.getType()).isEqualTo(int.class);
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @DisplayName("2. OpenAddressingHashTable constructors Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OpenAddressingHashTableConstructorsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("A default constructor initializes arrays with default size 8")
+        void defaultConstructor() {
+            var table = new OpenAddressingHashTable<String, Integer>();
+
+            assertThat(getKeys(table)).hasSize(8);
+            assertThat(getValues(table)).hasSize(8);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("An additional constructor accepts an initial array size")
+        void constructorWithTableCapacity() {
+            var table = new OpenAddressingHashTable<String, Integer>(16);
+
+            assertThat(getKeys(table)).hasSize(16);
+            assertThat(getValues(table)).hasSize(16);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("An additional constructor throws exception when capacity is negative")
+        void constructorWithTableCapacityWhenArgumentIsNegative() {
+            assertThatThrownBy(() -> new OpenAddressingHashTable<String, Integer>(-2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("An additional constructor throws exception when load factor is out of range (0, 1)")
+        void constructorWithWrongLoadFactor() {
+            assertThatThrownBy(() -> new OpenAddressingHashTable<String, Integer>(8, 0f))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new OpenAddressingHashTable<String, Integer>(8, 1f))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @DisplayName("3. OpenAddressingHashTable methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OpenAddressingHashTableMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("put creates new entry by the home index and returns null when the table is empty")
+        void putWhenTableIsEmpty() {
+            var previousValue = hashTable.put("madmax", 833);
+
+            var index = HashTable.calculateIndex("madmax", getKeys(hashTable).length);
+
+            assertNull(previousValue);
+            assertThat(getKeys(hashTable)[index]).isEqualTo("madmax");
+            assertThat(getValues(hashTable)[index]).isEqualTo(833);
+            assertEquals(1, getSize());
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("put stores a colliding key in the next free cell")
+        void putTwoElementsWithTheSameHashCode() {
+            hashTable.put("AaAa", 123);
+            hashTable.put("BBBB", 456);
+
+            var keys = getKeys(hashTable);
+            var homeIndex = HashTable.calculateIndex("AaAa", keys.length);
+
+            assertThat(keys[homeIndex]).isEqualTo("AaAa");
+            assertThat(keys[(homeIndex + 1) % keys.length]).isEqualTo("BBBB");
+            assertThat(getValues(hashTable)[(homeIndex + 1) % keys.length]).isEqualTo(456);
+            assertEquals(2, getSize());
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("put wraps around the end of the array when the last cell is occupied")
+        void putWrapsAround() {
+            var table = new OpenAddressingHashTable<Integer, String>();
+            var capacity = getKeys(table).length;
+            var lastIndexKeys = IntStream.iterate(0, i -> i + 1)
+                    .filter(i -> HashTable.calculateIndex(i, capacity) == capacity - 1)
+                    .limit(2)
+                    .boxed()
+                    .toList();
+
+            table.put(lastIndexKeys.get(0), "first");
+            table.put(lastIndexKeys.get(1), "second");
+
+            assertThat(getKeys(table)[capacity - 1]).isEqualTo(lastIndexKeys.get(0));
+            assertThat(getKeys(table)[0]).isEqualTo(lastIndexKeys.get(1));
+            assertThat(table.get(lastIndexKeys.get(1))).isEqualTo("second");
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("put updates the value and returns the previous one when key is the same")
+        void putElementWithTheSameKey() {
+            hashTable.put("madmax", 833);
+
+            var previousValue = hashTable.put("madmax", 876);
+
+            assertThat(previousValue).isEqualTo(833);
+            assertThat(hashTable.get("madmax")).isEqualTo(876);
+            assertEquals(1, getSize());
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("put throws exception when key is null")
+        void putNullKey() {
+            assertThatThrownBy(() -> hashTable.put(null, 1)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @Order(6)
+        @DisplayName("get returns null when given key does not exists")
+        void getElementWhenKeyDoesNotExists() {
+            hashTable.put("madmax", 833);
+
+            assertNull(hashTable.get("xxx"));
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("get returns a corresponding value when there are other keys with the same index")
+        void getWhenOtherKeyHaveTheSameIndex() {
+            hashTable.put("madmax", 833);
+            hashTable.put("AaAa", 654);
+            hashTable.put("BBBB", 721);
+
+            assertThat(hashTable.get("BBBB")).isEqualTo(721);
+            assertThat(hashTable.get("AaAa")).isEqualTo(654);
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+        }
+
+        @Test
+        @Order(8)
+        @DisplayName("containsKey returns true if element exists and false otherwise")
+        void containsKey() {
+            hashTable.put("madmax", 833);
+
+            assertTrue(hashTable.containsKey("madmax"));
+            assertFalse(hashTable.containsKey("altea"));
+        }
+
+        @Test
+        @Order(9)
+        @DisplayName("containsValue returns true if value exists and false otherwise")
+        void containsValue() {
+            hashTable.put("madmax", 833);
+            hashTable.put("bobby", 833);
+
+            assertTrue(hashTable.containsValue(833));
+            assertFalse(hashTable.containsValue(666));
+        }
+
+        @Test
+        @Order(10)
+        @DisplayName("size and isEmpty reflect the number of entries")
+        void sizeAndIsEmpty() {
+            assertTrue(hashTable.isEmpty());
+
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+
+            assertFalse(hashTable.isEmpty());
+            assertThat(hashTable.size()).isEqualTo(2);
+        }
+
+        @Test
+        @Order(11)
+        @DisplayName("remove deletes the entry, decreases table size and returns a value")
+        void remove() {
+            hashTable.put("madmax", 833);
+
+            var result = hashTable.remove("madmax");
+
+            assertThat(result).isEqualTo(833);
+            assertThat(getKeys(hashTable)).containsOnlyNulls();
+            assertThat(getValues(hashTable)).containsOnlyNulls();
+            assertEquals(0, getSize());
+        }
+
+        @Test
+        @Order(12)
+        @DisplayName("remove returns null when key does not exists")
+        void removeWhenKeyDoesNotExists() {
+            hashTable.put("madmax", 833);
+
+            assertNull(hashTable.remove("altea"));
+            assertEquals(1, getSize());
+        }
+
+        @Test
+        @Order(13)
+        @DisplayName("remove shifts back the following keys of the same cluster")
+        void removeShiftsClusterBack() {
+            hashTable.put("AaAa", 843);
+            hashTable.put("BBBB", 434);
+            hashTable.put("AaBB", 587);
+            var keys = getKeys(hashTable);
+            var homeIndex = HashTable.calculateIndex("AaAa", keys.length);
+
+            var removedValue = hashTable.remove("AaAa");
+
+            keys = getKeys(hashTable);
+            assertThat(removedValue).isEqualTo(843);
+            assertThat(keys[homeIndex]).isEqualTo("BBBB");
+            assertThat(keys[(homeIndex + 1) % keys.length]).isEqualTo("AaBB");
+            assertThat(keys[(homeIndex + 2) % keys.length]).isNull();
+            assertThat(hashTable.get("AaBB")).isEqualTo(587);
+            assertEquals(2, getSize());
+        }
+
+        @Test
+        @Order(14)
+        @DisplayName("remove keeps all other keys reachable after many random operations")
+        void removeKeepsOtherKeysReachable() {
+            var table = new OpenAddressingHashTable<Integer, Integer>(8, 0.9f);
+            var expected = new HashMap<Integer, Integer>();
+            var random = new Random(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                var key = random.nextInt(500);
+                if (random.nextBoolean()) {
+                    assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+                } else {
+                    assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+                }
+            }
+
+            assertThat(table.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+        }
+    }
+
+    @Nested
+    @Order(4)
+    @DisplayName("4. Helper methods Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class OpenAddressingHashTableHelperMethodsTest {
+
+        @Test
+        @Order(1)
+        @DisplayName("resizeTable creates new arrays and puts there all elements")
+        void resizeTable() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.put("AaAa", 123);
+            hashTable.put("BBBB", 456);
+
+            hashTable.resizeTable(16);
+
+            assertThat(getKeys(hashTable)).hasSize(16);
+            assertThat(getValues(hashTable)).hasSize(16);
+            assertThat(hashTable.get("madmax")).isEqualTo(833);
+            assertThat(hashTable.get("altea")).isEqualTo(553);
+            assertThat(hashTable.get("AaAa")).isEqualTo(123);
+            assertThat(hashTable.get("BBBB")).isEqualTo(456);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("resizeTable throws exception when new capacity cannot hold all elements")
+        void resizeTableWhenCapacityIsTooSmall() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+
+            assertThatThrownBy(() -> hashTable.resizeTable(2)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("put resizes the table once the load factor is exceeded")
+        void putResizesTable() {
+            var table = new OpenAddressingHashTable<Integer, Integer>(8, 0.5f);
+
+            for (int i = 0; i < 5; i++) {
+                table.put(i, i);
+            }
+
+            assertThat(getKeys(table).length).isGreaterThan(8);
+            for (int i = 0; i < 5; i++) {
+                assertThat(table.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("toString returns a string that represents underlying arrays")
+        void toStringTest() {
+            hashTable.put("madmax", 833);
+            hashTable.put("altea", 553);
+            hashTable.put("johnny", 439);
+            hashTable.put("leon", 886);
+            var keys = getKeys(hashTable);
+            var values = getValues(hashTable);
+            var expected = new StringBuilder();
+            for (int i = 0; i < keys.length; i++) {
+                expected.append(i).append(": ");
+                if (keys[i] != null) {
+                    expected.append(keys[i]).append("=").append(values[i]);
+                }
+                expected.append("\n");
+            }
+
+            assertThat(hashTable.toString()).isEqualTo(expected.toString());
+        }
+    }
+
+    // Util methods
+    @SneakyThrows
+    private Object[] getKeys(OpenAddressingHashTable<?, ?> table) {
+        var keysField = OpenAddressingHashTable.class.getDeclaredField("keys");
+        keysField.setAccessible(true);
+        return (Object[]) keysField.get(table);
+    }
+
+    @SneakyThrows
+    private Object[] getValues(OpenAddressingHashTable<?, ?> table) {
+        var valuesField = OpenAddressingHashTable.class.getDeclaredField("values");
+        valuesField.setAccessible(true);
+        return (Object[]) valuesField.get(table);
+    }
+
+    @SneakyThrows
+    private int getSize() {
+        var sizeField = OpenAddressingHashTable.class.getDeclaredField("size");
+        sizeField.setAccessible(true);
+        return sizeField.getInt(hashTable);
+    }
+}
@@ -1,7 +1,9 @@
 package com.bobocode.cs;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +25,57 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Inserts all elements starting from the specified position, and shifts the rest of the list only once.
+     *
+     * @param index    an index of the first inserted element
+     * @param elements elements to add
+     * @throws IndexOutOfBoundsException if index is negative or greater than size
+     */
+    void addAll(int index, T... elements);
+
+    /**
+     * Removes all elements with indexes from fromIndex (inclusive) to toIndex (exclusive), and shifts the rest of
+     * the list only once.
+     *
+     * @param fromIndex an index of the first removed element
+     * @param toIndex   an index after the last removed element
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    void removeRange(int fromIndex, int toIndex);
+
+    /**
+     * Returns a view of the portion of this list from fromIndex (inclusive) to toIndex (exclusive). The returned list
+     * is backed by this list, so changes in the returned list are reflected in this list, and vice versa. If this list
+     * is structurally modified (elements are added or removed) not through the returned list, the behaviour of
+     * the returned list is undefined.
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is greater than size,
+     *                                   or fromIndex is greater than toIndex
+     */
+    List<T> subList(int fromIndex, int toIndex);
+
+    /**
+     * Returns a sequential {@link Stream} with the elements of this list. It is based on {@link #spliterator()}.
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} with the elements of this list. It is based on {@link #spliterator()}, so
+     * the work is split across the threads only if the spliterator can split itself.
+     *
+     * @return a parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
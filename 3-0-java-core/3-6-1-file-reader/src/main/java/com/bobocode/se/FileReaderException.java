@@ -0,0 +1,11 @@
+package com.bobocode.se;
+
+public class FileReaderException extends RuntimeException {
+    public FileReaderException(String message) {
+        super(message);
+    }
+
+    public FileReaderException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
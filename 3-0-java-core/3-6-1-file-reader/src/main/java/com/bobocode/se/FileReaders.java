@@ -2,8 +2,27 @@ package com.bobocode.se;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 /**
  * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * <p>
+ * A whole file in a {@link String} is fine for small files, but a multi-gigabyte file does not fit into the heap (and
+ * a {@link String} cannot be longer than 2^31 - 1 characters anyway). That's why {@link FileReaders} also provides a
+ * streaming API that keeps in memory only a small part of a file at a time: {@link #lines(Path)},
+ * {@link #forEachChunk(Path, int, Consumer)} and {@link #forEachMappedChunk(Path, int, Consumer)}. All files are read
+ * as UTF-8.
+ * <p>
+ * Methods {@link #parallelLines(Path, int)} and {@link #parallelReduce(Path, int, Object, Function, BinaryOperator)}
+ * read a file using several threads. A file is split into byte ranges, and every range boundary is moved forward to
+ * the byte that follows the next {@code '\n'}, so every range holds only whole lines. (In UTF-8 byte {@code '\n'}
+ * never appears inside a multi-byte character, so a range is also decoded independently of other ranges.) Then
+ * the ranges are read and decoded in parallel on a {@link java.util.concurrent.ForkJoinPool}.
  */
 public class FileReaders {
 
@@ -16,4 +35,86 @@ public class FileReaders {
     public static String readWholeFile(String fileName) {
         throw new ExerciseNotCompletedException(); //todo
     }
+
+    /**
+     * Returns a lazy {@link Stream} of file lines. The lines are read from the file only when the stream is consumed,
+     * so it works for files of any size. The file stays open until the stream is closed, so it should be used in
+     * try-with-resources.
+     *
+     * @param path a path to a text file
+     * @return a stream of lines that closes the file when it is closed
+     * @throws FileReaderException if the file cannot be opened
+     */
+    public static Stream<String> lines(Path path) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Reads a file using a {@link java.nio.channels.FileChannel} and passes its content to the consumer chunk by chunk,
+     * where every chunk has at most chunkSize characters. The file is decoded with a
+     * {@link java.nio.charset.CharsetDecoder}, so a character which bytes are split between two reads is not broken.
+     * <p>
+     * The same {@link CharBuffer} is reused for all chunks, so the consumer should not keep a reference to it.
+     *
+     * @param path      a path to a text file
+     * @param chunkSize the max number of characters in a chunk
+     * @param consumer  a function that accepts every chunk
+     * @throws IllegalArgumentException if chunkSize is less than 2 (a character outside the BMP takes two chars)
+     * @throws FileReaderException      if the file cannot be read, or it is not valid UTF-8
+     */
+    public static void forEachChunk(Path path, int chunkSize, Consumer<CharBuffer> consumer) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Works the same way as {@link #forEachChunk(Path, int, Consumer)}, but instead of copying bytes from the file into
+     * a buffer, it memory-maps the file and decodes UTF-8 right from a {@link java.nio.MappedByteBuffer}. A single
+     * mapping cannot be larger than 2 GB, so a bigger file is mapped region by region.
+     *
+     * @param path      a path to a text file
+     * @param chunkSize the max number of characters in a chunk
+     * @param consumer  a function that accepts every chunk
+     * @throws IllegalArgumentException if chunkSize is less than 2 (a character outside the BMP takes two chars)
+     * @throws FileReaderException      if the file cannot be read, or it is not valid UTF-8
+     */
+    public static void forEachMappedChunk(Path path, int chunkSize, Consumer<CharBuffer> consumer) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a {@link Stream} of file lines in the same order as {@link #lines(Path)}, but the lines are read and
+     * decoded by parallelism threads in advance. To keep memory usage bounded, only a few ranges per thread are
+     * decoded ahead of the range that is consumed. The threads are stopped and the file is closed when the stream is
+     * closed, so it should be used in try-with-resources.
+     *
+     * @param path        a path to a text file
+     * @param parallelism the number of threads
+     * @return an ordered stream of lines
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws FileReaderException      if the file cannot be read, or it is not valid UTF-8
+     */
+    public static Stream<String> parallelLines(Path path, int parallelism) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Reads a file using parallelism threads and reduces it range by range. Every range is decoded into a
+     * {@link CharBuffer} of whole lines (with their line separators) and passed to the chunkMapper. The results are
+     * combined using the combiner in the order of ranges in the file, so the combiner does not need to be commutative,
+     * but it must be associative. For an empty file, it returns the identity.
+     *
+     * @param path        a path to a text file
+     * @param parallelism the number of threads
+     * @param identity    the result for an empty file, it must be an identity for the combiner
+     * @param chunkMapper a function that computes a result of one range
+     * @param combiner    a function that combines results of two neighbour ranges
+     * @param <R>         result type
+     * @return the combined result of all ranges
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws FileReaderException      if the file cannot be read, or it is not valid UTF-8
+     */
+    public static <R> R parallelReduce(Path path, int parallelism, R identity, Function<CharBuffer, R> chunkMapper,
+                                       BinaryOperator<R> combiner) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
 }
@@ -0,0 +1,81 @@
+package com.bobocode.se;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This demo compares reading a text file into one {@link String} (the way {@link FileReaders#readWholeFile(String)}
+ * works) with the streaming API of {@link FileReaders}: {@link FileReaders#lines(Path)},
+ * {@link FileReaders#forEachChunk(Path, int, java.util.function.Consumer)} and
+ * {@link FileReaders#forEachMappedChunk(Path, int, java.util.function.Consumer)}. For every size from 1 MB up to the
+ * size passed as the first argument in megabytes (4096 by default), it writes a temporary file of mixed Latin and
+ * Cyrillic text, and prints the time and the throughput of every way to count its characters.
+ * <p>
+ * Run it once you've implemented {@link FileReaders}, e.g. with {@code -Xmx2g}. A whole-file read needs the heap of
+ * several times the file size, so it fails with {@link OutOfMemoryError} on big files, while the streaming methods
+ * use the same small amount of memory for any size. The memory-mapped mode skips copying bytes from the kernel into
+ * a buffer, so it is usually the fastest one once the file is in the page cache.
+ */
+public class FileReadersBenchmark {
+    static final int CHUNK_SIZE = 1 << 16;
+    static final String LINE = "The quick brown fox jumps over the lazy dog. Швидка бура лисиця стрибає через пса.\n";
+
+    public static void main(String[] args) throws IOException {
+        long maxMegabytes = args.length > 0 ? Long.parseLong(args[0]) : 4096;
+        for (long megabytes = 1; megabytes <= maxMegabytes; megabytes *= 4) {
+            var file = createFile(megabytes << 20);
+            try {
+                System.out.printf("%,d MB:%n", megabytes);
+                measure("  whole file", megabytes, () -> Files.readString(file).length());
+                measure("  lines", megabytes, () -> {
+                    try (var lines = FileReaders.lines(file)) {
+                        return lines.mapToLong(line -> line.length() + 1).sum();
+                    }
+                });
+                measure("  chunks", megabytes, () -> {
+                    var count = new AtomicLong();
+                    FileReaders.forEachChunk(file, CHUNK_SIZE, chunk -> count.addAndGet(chunk.remaining()));
+                    return count.get();
+                });
+                measure("  mapped chunks", megabytes, () -> {
+                    var count = new AtomicLong();
+                    FileReaders.forEachMappedChunk(file, CHUNK_SIZE, chunk -> count.addAndGet(chunk.remaining()));
+                    return count.get();
+                });
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    static Path createFile(long size) throws IOException {
+        var file = Files.createTempFile("file-readers", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            long lineSize = LINE.getBytes(StandardCharsets.UTF_8).length;
+            for (long written = 0; written < size; written += lineSize) {
+                writer.write(LINE);
+            }
+        }
+        return file;
+    }
+
+    static void measure(String name, long megabytes, CharCounter counter) {
+        long start = System.nanoTime();
+        try {
+            long chars = counter.count();
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.printf("%-16s %,8d ms %,8d MB/s (%,d chars)%n", name, millis, megabytes * 1000 / millis, chars);
+        } catch (OutOfMemoryError | IOException e) {
+            System.out.printf("%-16s failed: %s%n", name, e);
+        }
+    }
+
+    @FunctionalInterface
+    interface CharCounter {
+        long count() throws IOException;
+    }
+}
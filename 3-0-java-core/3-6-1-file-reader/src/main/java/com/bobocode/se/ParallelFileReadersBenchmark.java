@@ -0,0 +1,65 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This demo measures the throughput of {@link FileReaders#parallelReduce(Path, int, Object,
+ * java.util.function.Function, java.util.function.BinaryOperator)} and {@link FileReaders#parallelLines(Path, int)}
+ * at 1, 2, 4, 8, 16 and 32 threads. It writes a temporary file of 1 GB (or the number of megabytes passed as the first
+ * argument), reads it once to put it into the page cache, and then counts its lines using both methods, printing the
+ * throughput and the speedup over one thread.
+ * <p>
+ * Run it once you've implemented the parallel methods of {@link FileReaders}. Decoding UTF-8 takes most of the time,
+ * so parallelReduce scales almost linearly up to the number of cores (as long as the disk keeps up, which is true for
+ * NVMe or the page cache). parallelLines scales worse, since all lines are consumed by a single thread in the file
+ * order.
+ */
+public class ParallelFileReadersBenchmark {
+    static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 1024;
+        var file = FileReadersBenchmark.createFile(megabytes << 20);
+        try {
+            countLinesWithReduce(file, Runtime.getRuntime().availableProcessors());
+            long reduceBaseline = 0;
+            long linesBaseline = 0;
+            for (int threads : THREADS) {
+                long start = System.nanoTime();
+                long lines = countLinesWithReduce(file, threads);
+                long reduceMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+                start = System.nanoTime();
+                try (var stream = FileReaders.parallelLines(file, threads)) {
+                    lines = stream.count();
+                }
+                long linesMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+                if (threads == 1) {
+                    reduceBaseline = reduceMillis;
+                    linesBaseline = linesMillis;
+                }
+                System.out.printf("%2d threads: parallelReduce %,6d MB/s (x%.1f), parallelLines %,6d MB/s (x%.1f), "
+                                + "%,d lines%n", threads, megabytes * 1000 / reduceMillis,
+                        reduceBaseline / (double) reduceMillis, megabytes * 1000 / linesMillis,
+                        linesBaseline / (double) linesMillis, lines);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static long countLinesWithReduce(Path file, int threads) {
+        return FileReaders.parallelReduce(file, threads, 0L, chunk -> {
+            long lines = 0;
+            for (int i = 0; i < chunk.length(); i++) {
+                if (chunk.get(i) == '\n') {
+                    lines++;
+                }
+            }
+            return lines;
+        }, Long::sum);
+    }
+}
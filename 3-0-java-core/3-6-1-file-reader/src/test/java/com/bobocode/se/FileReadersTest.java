@@ -1,11 +1,28 @@
 package com.bobocode.se;
 
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class FileReadersTest {
 
+    private static final String MULTI_BYTE_TEXT = "Привіт, світ! 🌍 Hello, world!\n".repeat(1000);
+    private static final int BIG_FILE_REPEATS = 100;
+
+    @TempDir
+    Path tempDir;
+
     @Test
     void testReadWholeFileOnEmptyFile() {
         String fileContent = FileReaders.readWholeFile("empty.txt");
@@ -31,4 +48,163 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testLinesOnFileWithEmptyLines() {
+        try (var lines = FileReaders.lines(resourcePath("lines.txt"))) {
+            assertThat(lines).containsExactly("Hey!", "", "What's up?", "", "Hi!");
+        }
+    }
+
+    @Test
+    void testLinesOnEmptyFile() {
+        try (var lines = FileReaders.lines(resourcePath("empty.txt"))) {
+            assertThat(lines).isEmpty();
+        }
+    }
+
+    @Test
+    void testLinesOnNonExistingFile() {
+        assertThatThrownBy(() -> FileReaders.lines(tempDir.resolve("blahblah.txt")))
+                .isInstanceOf(FileReaderException.class);
+    }
+
+    @Test
+    void testForEachChunkReadsWholeFile() {
+        var chunks = new ArrayList<String>();
+
+        FileReaders.forEachChunk(resourcePath("simple.txt"), 4, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(chunks).allMatch(chunk -> chunk.length() <= 4);
+        assertEquals("Hello!\n" + "It's a test file.", String.join("", chunks));
+    }
+
+    @Test
+    @SneakyThrows
+    void testForEachChunkDoesNotBreakMultiByteCharacters() {
+        var file = Files.writeString(tempDir.resolve("multi-byte.txt"), MULTI_BYTE_TEXT);
+        var content = new StringBuilder();
+
+        FileReaders.forEachChunk(file, 7, content::append);
+
+        assertEquals(MULTI_BYTE_TEXT, content.toString());
+    }
+
+    @Test
+    void testForEachChunkThrowsExceptionWhenChunkSizeIsTooSmall() {
+        assertThatThrownBy(() -> FileReaders.forEachChunk(resourcePath("simple.txt"), 1, chunk -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testForEachMappedChunkReadsWholeFile() {
+        var chunks = new ArrayList<String>();
+
+        FileReaders.forEachMappedChunk(resourcePath("lines.txt"), 5, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(chunks).allMatch(chunk -> chunk.length() <= 5);
+        assertEquals("Hey!\n\nWhat's up?\n\nHi!", String.join("", chunks));
+    }
+
+    @Test
+    @SneakyThrows
+    void testForEachMappedChunkDoesNotBreakMultiByteCharacters() {
+        var file = Files.writeString(tempDir.resolve("multi-byte.txt"), MULTI_BYTE_TEXT);
+        var content = new StringBuilder();
+
+        FileReaders.forEachMappedChunk(file, 1000, content::append);
+
+        assertEquals(MULTI_BYTE_TEXT, content.toString());
+    }
+
+    @Test
+    void testForEachMappedChunkOnEmptyFile() {
+        var chunks = new ArrayList<String>();
+
+        FileReaders.forEachMappedChunk(resourcePath("empty.txt"), 16, chunk -> chunks.add(chunk.toString()));
+
+        assertThat(String.join("", chunks)).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void testForEachChunkThrowsExceptionOnMalformedInput() {
+        var file = Files.write(tempDir.resolve("broken.txt"), new byte[]{'H', 'i', (byte) 0xC3});
+
+        assertThatThrownBy(() -> FileReaders.forEachChunk(file, 16, chunk -> {
+        })).isInstanceOf(FileReaderException.class);
+        assertThatThrownBy(() -> FileReaders.forEachMappedChunk(file, 16, chunk -> {
+        })).isInstanceOf(FileReaderException.class);
+    }
+
+    @Test
+    void testParallelLinesOnFileWithEmptyLines() {
+        try (var lines = FileReaders.parallelLines(resourcePath("lines.txt"), 4)) {
+            assertThat(lines).containsExactly("Hey!", "", "What's up?", "", "Hi!");
+        }
+    }
+
+    @Test
+    void testParallelLinesReturnsLinesInOrder() {
+        var file = createBigFile();
+
+        try (var parallelLines = FileReaders.parallelLines(file, 4); var lines = FileReaders.lines(file)) {
+            assertThat(parallelLines.toList()).isEqualTo(lines.toList());
+        }
+    }
+
+    @Test
+    void testParallelLinesOnEmptyFile() {
+        try (var lines = FileReaders.parallelLines(resourcePath("empty.txt"), 4)) {
+            assertThat(lines).isEmpty();
+        }
+    }
+
+    @Test
+    void testParallelReduceSplitsFileByLines() {
+        var file = createBigFile();
+
+        var chunks = FileReaders.parallelReduce(file, 4, List.<String>of(), chunk -> List.of(chunk.toString()),
+                (a, b) -> Stream.concat(a.stream(), b.stream()).toList());
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allMatch(chunk -> chunk.endsWith("\n"));
+        assertEquals(MULTI_BYTE_TEXT.repeat(BIG_FILE_REPEATS), String.join("", chunks));
+    }
+
+    @Test
+    void testParallelReduceCountsLines() {
+        var file = createBigFile();
+
+        long lineCount = FileReaders.parallelReduce(file, 3, 0L,
+                chunk -> chunk.chars().filter(c -> c == '\n').count(), Long::sum);
+
+        assertThat(lineCount).isEqualTo(1000L * BIG_FILE_REPEATS);
+    }
+
+    @Test
+    void testParallelReduceOnEmptyFile() {
+        long charCount = FileReaders.parallelReduce(resourcePath("empty.txt"), 4, 0L,
+                chunk -> (long) chunk.length(), Long::sum);
+
+        assertThat(charCount).isZero();
+    }
+
+    @Test
+    void testParallelReadingThrowsExceptionWhenParallelismIsNotPositive() {
+        assertThatThrownBy(() -> FileReaders.parallelLines(resourcePath("simple.txt"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FileReaders.parallelReduce(resourcePath("simple.txt"), 0, 0, chunk -> 1, Integer::sum))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SneakyThrows
+    private Path createBigFile() {
+        return Files.writeString(tempDir.resolve("big.txt"), MULTI_BYTE_TEXT.repeat(BIG_FILE_REPEATS));
+    }
+
+    @SneakyThrows
+    private Path resourcePath(String fileName) {
+        return Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource(fileName)).toURI());
+    }
 }
@@ -0,0 +1,98 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.nio.file.Path;
+
+/**
+ * {@link CharacterHistogram} is a counting engine that calculates how many times every Unicode code point appears in
+ * a UTF-8 text file. It is built for files of many gigabytes, so it works with bytes instead of a {@link String} or
+ * a stream of {@link Character} objects:
+ * <ul>
+ *     <li>a file is read using a {@link java.nio.channels.FileChannel} into a large direct
+ *     {@link java.nio.ByteBuffer}</li>
+ *     <li>UTF-8 is decoded on the fly, byte by byte, into an int code point</li>
+ *     <li>the counters of all code points of the Basic Multilingual Plane (U+0000 - U+FFFF) are stored in
+ *     a {@code long[65536]} table, so counting is just an array increment</li>
+ *     <li>code points outside the BMP (like emoji) are rare, so they are counted in a sparse map</li>
+ * </ul>
+ * The hot loop does not allocate any objects.
+ * <p>
+ * To use several cores, a file is split into byte ranges. Every range boundary is moved forward to the start of the
+ * next character (a byte that is not {@code 10xxxxxx}), so a character is never split between ranges. Every thread
+ * counts its own range into its own {@link CharacterHistogram}, so no synchronization is needed, and the histograms are
+ * merged at the end using {@link #merge(CharacterHistogram)}.
+ * <p>
+ * A malformed UTF-8 sequence is counted as the replacement character U+FFFD.
+ */
+public class CharacterHistogram {
+
+    /**
+     * Counts all code points of a UTF-8 file using a given number of threads.
+     *
+     * @param path        a path to a text file
+     * @param parallelism the number of threads
+     * @return a new histogram of the file
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws FileStatsException       if the file cannot be read
+     */
+    public static CharacterHistogram count(Path path, int parallelism) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Counts code points of a byte range of a UTF-8 file using a given number of threads. Both from and to are supposed
+     * to be character boundaries, otherwise the bytes of a split character are counted as U+FFFD. It is used to count
+     * only the bytes appended to a file since it was counted last time.
+     *
+     * @param path        a path to a text file
+     * @param from        the offset of the first byte to count
+     * @param to          the offset after the last byte to count
+     * @param parallelism the number of threads
+     * @return a new histogram of the range
+     * @throws IllegalArgumentException if parallelism is not positive, or from and to are not a range of the file
+     * @throws FileStatsException       if the file cannot be read
+     */
+    public static CharacterHistogram count(Path path, long from, long to, int parallelism) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a number of occurrences of the code point.
+     *
+     * @param codePoint a Unicode code point
+     * @return a number of occurrences, or zero if there is no such code point
+     */
+    public long getCount(int codePoint) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a number of all counted code points.
+     *
+     * @return a sum of all counters
+     */
+    public long getTotalCount() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a code point that appeared most often, ignoring whitespace characters. If there are several such code
+     * points, it returns the smallest one.
+     *
+     * @return the most frequent code point that is not a whitespace, or -1 if there is no such code point
+     */
+    public int getMostFrequentCodePoint() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Adds all counters of another histogram to this histogram.
+     *
+     * @param other a histogram to add
+     * @return this histogram
+     */
+    public CharacterHistogram merge(CharacterHistogram other) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
@@ -0,0 +1,74 @@
+package com.bobocode.se;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This demo compares counting characters of a big file using {@link CharacterHistogram} with the straightforward
+ * Stream API approach: {@code Files.lines}, a stream of {@link Character} objects, and
+ * {@code Collectors.groupingBy}. It writes a temporary file of mixed Latin, Cyrillic and emoji text of 512 MB (or
+ * the number of megabytes passed as the first argument), and prints the throughput of the stream approach, and of
+ * {@link CharacterHistogram} at 1, 2, 4 and so on up to the number of available cores, in GB/s and GB/s per core.
+ * <p>
+ * Run it once you've implemented {@link CharacterHistogram}. The stream approach creates a {@link String} for every
+ * line and boxes every character (only the first 128 {@link Character} values are cached), so it spends most of its
+ * time allocating and collecting garbage. {@link CharacterHistogram} does not allocate anything per character, so it
+ * is several times faster on one core, and it scales with the number of cores.
+ */
+public class CharacterHistogramBenchmark {
+    static final String LINE = "The quick brown fox jumps over the lazy dog. Швидка бура лисиця стрибає. 🦊🐶\n";
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 512;
+        var file = createFile(megabytes << 20);
+        try {
+            CharacterHistogram.count(file, 1);
+            double gigabytes = megabytes / 1024.0;
+
+            long start = System.nanoTime();
+            var counts = countWithStream(file);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("groupingBy stream:         %.2f GB/s, %.2f GB/s per core ('a' = %d)%n",
+                    gigabytes / seconds, gigabytes / seconds, counts.get('a'));
+
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                start = System.nanoTime();
+                var histogram = CharacterHistogram.count(file, threads);
+                seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("CharacterHistogram x%-2d:   %.2f GB/s, %.2f GB/s per core ('a' = %d)%n", threads,
+                        gigabytes / seconds, gigabytes / seconds / threads, histogram.getCount('a'));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static Map<Character, Long> countWithStream(Path file) {
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.flatMapToInt(String::chars)
+                    .mapToObj(c -> (char) c)
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Path createFile(long size) throws IOException {
+        var file = Files.createTempFile("character-histogram", ".txt");
+        long lineSize = LINE.getBytes(StandardCharsets.UTF_8).length;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (long written = 0; written < size; written += lineSize) {
+                writer.write(LINE);
+            }
+        }
+        return file;
+    }
+}
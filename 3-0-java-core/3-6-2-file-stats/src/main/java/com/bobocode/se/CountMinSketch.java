@@ -0,0 +1,69 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link CountMinSketch} is a probabilistic data structure that estimates how many times every token appeared in a
+ * stream using a fixed amount of memory, no matter how many different tokens there are.
+ * <p>
+ * It is a table of {@code depth} rows and {@code width} columns of counters, and every row has its own hash function.
+ * Adding a token increments one counter in every row: the one in the column given by the row's hash of the token. An
+ * estimate of a token count is the minimum of its counters. Other tokens can only increase a counter when they get
+ * the same column, so the estimate is <strong>never less</strong> than the real count.
+ * <p>
+ * Error bounds: for {@code width = ceil(e / epsilon)} and {@code depth = ceil(ln(1 / delta))}, the estimate exceeds
+ * the real count by at most {@code epsilon * N} (where N is the total count of all tokens) with probability at least
+ * {@code 1 - delta}. E.g. epsilon 0.001 and delta 0.01 give a table of 2719 x 5 longs (about 106 KB), and an
+ * estimate is off by at most 0.1% of all tokens with probability 99%. The error is relative to N, not to the count of
+ * the token, so the estimates are good for frequent tokens and useless for rare ones.
+ */
+public class CountMinSketch {
+
+    /**
+     * Creates an empty sketch of the size that gives the required error bounds.
+     *
+     * @param epsilon the max error relative to the total count, from 0 to 1 exclusive
+     * @param delta   the probability of exceeding the max error, from 0 to 1 exclusive
+     * @throws IllegalArgumentException if epsilon or delta is not between 0 and 1
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Adds one occurrence of the token.
+     *
+     * @param token a token
+     */
+    public void add(String token) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns an estimated number of occurrences of the token. It is never less than the real number.
+     *
+     * @param token a token
+     * @return an estimated count
+     */
+    public long estimateCount(String token) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the number of all added tokens (N in the error bounds).
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the size of the counters table in bytes.
+     *
+     * @return {@code width * depth * 8}
+     */
+    public long getSizeInBytes() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
@@ -2,9 +2,28 @@ package com.bobocode.se;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * {@link #from(String)} is supposed to be implemented using Stream API, which is fine for small files. For big files,
+ * use {@link #from(Path, int)}, which counts characters using {@link CharacterHistogram}.
+ * <p>
+ * Stats created from a path remember the offset of the counted part of the file, so when the file grows (like a log
+ * file), {@link #update(FileStats, Path)} counts only the appended bytes instead of reading the whole file again.
+ * Stats are also <strong>mergeable</strong>: the stats of two texts merged using {@link #merge(FileStats, FileStats)}
+ * are the same as the stats of their concatenation. That's how {@link #fromDirectory(Path, int)} works: it counts
+ * every file separately in parallel, and then merges the results.
+ * <p>
+ * The counters are {@code long}s, so they don't overflow on terabytes of text, and the merged stats of many files
+ * can't overflow either. The {@code char}-based methods work with the Basic Multilingual Plane only: code points
+ * outside it (like emoji) are counted as a whole, never as two surrogate chars, and they are available only via
+ * {@link #getCodePointCount(int)}.
+ * <p>
+ * The same statistic for words instead of characters is provided by {@link TokenStats}.
  */
 public class FileStats {
     /**
@@ -18,17 +37,99 @@ public class FileStats {
     }
 
     /**
-     * Returns a number of occurrences of the particular character.
+     * Creates a new immutable {@link FileStats} objects using a {@link CharacterHistogram} of a UTF-8 text file, which
+     * is counted using a given number of threads. Like {@link #update(FileStats, Path)}, it does not count an
+     * incomplete UTF-8 character at the end of the file.
+     *
+     * @param path        a path to a text file
+     * @param parallelism the number of threads
+     * @return new FileStats object created from text file
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws FileStatsException       if the file cannot be read
+     */
+    public static FileStats from(Path path, int parallelism) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Creates new stats that count the characters of both given stats. The result cannot be updated using
+     * {@link #update(FileStats, Path)}, since it does not belong to a single file.
+     *
+     * @param first  stats of the first text
+     * @param second stats of the second text
+     * @return new FileStats object that holds the sum of both stats
+     */
+    public static FileStats merge(FileStats first, FileStats second) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Creates new stats of a file that has grown since the previous stats were created, reading only the bytes from
+     * {@link #getOffset()} to the end of the file. If the file ends with an incomplete UTF-8 character (e.g. it is
+     * being written right now), that character is not counted, and the offset stays before it, so it is counted by the
+     * next update. If the file is smaller than the offset, it was truncated or replaced, so it is counted from scratch.
+     *
+     * @param previous stats created from the same file using {@link #from(Path, int)} or this method
+     * @param path     a path to a text file
+     * @return new FileStats object of the whole file
+     * @throws IllegalArgumentException if the previous stats do not belong to a single file
+     * @throws FileStatsException       if the file cannot be read
+     */
+    public static FileStats update(FileStats previous, Path path) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Creates stats of all regular files of a directory and its subdirectories. The files are counted in parallel using
+     * a given number of threads, and their stats are merged.
+     *
+     * @param directory   a path to a directory
+     * @param parallelism the number of threads
+     * @return new FileStats object that holds the sum of stats of all files
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws FileStatsException       if the directory or some file cannot be read
+     */
+    public static FileStats fromDirectory(Path directory, int parallelism) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the number of bytes of the file that are already counted. {@link #update(FileStats, Path)} starts reading
+     * from this offset.
+     *
+     * @return an offset in the file, or -1 if the stats do not belong to a single file
+     */
+    public long getOffset() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character. A count that does not fit into an {@code int} is
+     * clamped to {@link Integer#MAX_VALUE}, use {@link #getCodePointCount(int)} to get the exact value.
      *
      * @param character a specific character
-     * @return a number that shows how many times this character appeared in a text file
+     * @return a number that shows how many times this character appeared in a text file, but not more than
+     * {@link Integer#MAX_VALUE}
      */
     public int getCharCount(char character) {
         throw new ExerciseNotCompletedException(); //todo
     }
 
     /**
-     * Returns a character that appeared most often in the text.
+     * Returns the exact number of occurrences of any Unicode code point, including the ones outside the Basic
+     * Multilingual Plane. Whitespace code points are ignored, so their count is zero.
+     *
+     * @param codePoint a Unicode code point
+     * @return a number that shows how many times this code point appeared in a text file
+     */
+    public long getCodePointCount(int codePoint) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a character that appeared most often in the text. Only characters of the Basic Multilingual Plane are
+     * considered, since a code point outside it does not fit into a {@code char}. So if an emoji is the most frequent
+     * code point, the most frequent BMP character is returned anyway.
      *
      * @return the most frequently appeared character
      */
@@ -36,6 +137,21 @@ public class FileStats {
         throw new ExerciseNotCompletedException(); //todo
     }
 
+    /**
+     * Returns k characters that appeared most often in the text, from the most frequent one. Characters with the same
+     * count are ordered by their value. It goes through all counters keeping the best k characters in a min-heap of
+     * size k (e.g. {@link java.util.PriorityQueue}), so it takes O(n log k) time instead of sorting all characters.
+     * If the text has fewer than k different characters, it returns all of them. Like
+     * {@link #getMostPopularCharacter()}, it considers only characters of the Basic Multilingual Plane.
+     *
+     * @param k the number of characters
+     * @return the list of most frequent characters
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public List<Character> topK(int k) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
     /**
      * Returns {@code true} if this character has appeared in the text, and {@code false} otherwise
      *
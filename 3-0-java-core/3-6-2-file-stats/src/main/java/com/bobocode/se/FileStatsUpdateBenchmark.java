@@ -0,0 +1,47 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This demo compares two ways to refresh {@link FileStats} of a growing log file: counting the whole file again using
+ * {@link FileStats#from(Path, int)}, and counting only the appended bytes using {@link FileStats#update(FileStats,
+ * Path)}. It writes a temporary file of 512 MB (or the number of megabytes passed as the first argument), and then
+ * appends one megabyte ten times, printing the time of both ways after every append.
+ * <p>
+ * Run it once you've implemented {@link FileStats} and {@link CharacterHistogram}. A full recount takes time
+ * proportional to the file size, while an update takes time proportional to the appended part, so it stays about
+ * the same no matter how big the file is.
+ */
+public class FileStatsUpdateBenchmark {
+    static final int APPENDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 512;
+        var file = CharacterHistogramBenchmark.createFile(megabytes << 20);
+        var line = CharacterHistogramBenchmark.LINE;
+        var appendedMegabyte = line.repeat((1 << 20) / line.getBytes(StandardCharsets.UTF_8).length);
+        try {
+            var stats = FileStats.from(file, 1);
+            for (int i = 1; i <= APPENDS; i++) {
+                Files.writeString(file, appendedMegabyte, StandardOpenOption.APPEND);
+
+                long start = System.nanoTime();
+                var recounted = FileStats.from(file, 1);
+                long recountMillis = (System.nanoTime() - start) / 1_000_000;
+
+                start = System.nanoTime();
+                stats = FileStats.update(stats, file);
+                long updateMicros = (System.nanoTime() - start) / 1_000;
+
+                System.out.printf("Append #%d: recount %,d ms, update %,d us ('a' = %d / %d)%n", i, recountMillis,
+                        updateMicros, recounted.getCharCount('a'), stats.getCharCount('a'));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+/**
+ * {@link HyperLogLog} is a probabilistic data structure that estimates the number of distinct tokens in a stream using
+ * a few kilobytes of memory, instead of keeping a set of all tokens.
+ * <p>
+ * The idea is that in a stream of random 64-bit hashes, a hash that starts with {@code r - 1} zero bits followed by a
+ * one appears once per about 2^r distinct values. So the max number of leading zeros is an estimate of log2 of the
+ * number of distinct values. A single estimate is very rough, so the first {@code precision} bits of a hash select one
+ * of {@code m = 2^precision} registers, every register keeps the max rank of its hashes, and the estimate is
+ * {@code alpha * m^2 / sum(2^-register)}, the harmonic mean of the register estimates. For small cardinalities, when
+ * many registers are still zero, it uses linear counting {@code m * ln(m / zeroRegisters)} instead.
+ * <p>
+ * Error bounds: the standard error of the estimate is about {@code 1.04 / sqrt(m)}. E.g. precision 14 gives 16384
+ * one-byte registers (16 KB) and the standard error of 0.81%, so an estimate is within 2.4% of the real number with
+ * probability 99.7%, for any number of distinct tokens.
+ */
+public class HyperLogLog {
+
+    /**
+     * Creates an empty estimator with {@code 2^precision} registers.
+     *
+     * @param precision the number of hash bits that select a register, from 4 to 18
+     * @throws IllegalArgumentException if precision is out of range
+     */
+    public HyperLogLog(int precision) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Adds a token. Adding the same token again does not change the estimate.
+     *
+     * @param token a token
+     */
+    public void add(String token) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns an estimated number of distinct added tokens.
+     *
+     * @return an estimated cardinality
+     */
+    public long estimate() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the size of the registers in bytes.
+     *
+     * @return {@code 2^precision}
+     */
+    public long getSizeInBytes() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
@@ -0,0 +1,123 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@link TokenStats} provides the same kind of statistic as {@link FileStats}, but for words (tokens) instead of
+ * characters. A token is a maximal sequence of letters and digits ({@link Character#isLetterOrDigit(char)}) converted
+ * to lower case, so "Don't stop" consists of tokens "don", "t" and "stop".
+ * <p>
+ * Unlike characters, the number of different tokens is not limited, so the exact counting using a map of all tokens
+ * can take gigabytes of memory for a big corpus. That's why there are two modes:
+ * <ul>
+ *     <li>{@link #exact(Path)} keeps a map of all tokens and returns exact answers</li>
+ *     <li>{@link #approximate(Path, CountMinSketch, HyperLogLog, int)} takes a fixed amount of memory no matter how
+ *     big the file is: token counts are estimated by a {@link CountMinSketch}, the number of distinct tokens is
+ *     estimated by a {@link HyperLogLog}, and only k tokens with the highest estimated counts are kept as candidates
+ *     for {@link #topK(int)}</li>
+ * </ul>
+ * The error bounds of the approximate mode are the bounds of the sketches, so its answers are probabilistic. A count
+ * is never underestimated, and with probability at least {@code 1 - delta} it is overestimated by at most
+ * {@code epsilon * N}. So a heavy hitter, whose count is much higher than {@code epsilon * N} and than the counts of
+ * the tokens outside the top k, ends up among the candidates with high probability, and then the top tokens are the
+ * same as in the exact mode. It is not guaranteed though: a token whose count is within the sketch error of the k-th
+ * one, or one that collides with frequent tokens in every row of the sketch, may be missing or reported instead of a
+ * more frequent token. Candidates are chosen while the file is read, so the result may also depend on the order of
+ * tokens, e.g. a token that gets frequent only at the end of the file competes with estimates of the whole file.
+ */
+public class TokenStats {
+
+    /**
+     * Counts all tokens of a UTF-8 text file exactly, keeping every distinct token in a map.
+     *
+     * @param path a path to a text file
+     * @return new TokenStats object with exact counts
+     * @throws FileStatsException if the file cannot be read
+     */
+    public static TokenStats exact(Path path) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Counts tokens of a UTF-8 text file approximately using given empty sketches. Every token is added to both
+     * sketches, and then its new estimated count is compared with the candidates:
+     * <ul>
+     *     <li>the candidates are kept in a min-heap of size k ordered by their estimates, and in a map from a token to
+     *     its heap entry</li>
+     *     <li>if the token is already a candidate, its estimate has grown, so its entry is removed from the heap,
+     *     updated and inserted again. {@link java.util.PriorityQueue#remove(Object)} takes O(k) time, which is fine
+     *     for a small k</li>
+     *     <li>otherwise, it becomes a candidate if the heap has fewer than k entries, or its estimate is higher than
+     *     the lowest one. Then the lowest candidate is evicted from the heap and from the map in O(log k) time</li>
+     * </ul>
+     * At the end, the counts of the candidates are estimated once again, since a candidate's estimate may have grown
+     * after its last occurrence because of collisions.
+     *
+     * @param path          a path to a text file
+     * @param countSketch   an empty sketch that estimates token counts
+     * @param distinctCount an empty estimator of the number of distinct tokens
+     * @param k             the number of tracked top tokens
+     * @return new TokenStats object with estimated counts
+     * @throws IllegalArgumentException if k is not positive
+     * @throws FileStatsException       if the file cannot be read
+     */
+    public static TokenStats approximate(Path path, CountMinSketch countSketch, HyperLogLog distinctCount, int k) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a number of occurrences of the token. In the approximate mode, it is an estimate that is never less
+     * than the real count.
+     *
+     * @param token a token in lower case
+     * @return a number that shows how many times this token appeared in a text file
+     */
+    public long getCount(String token) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the number of all tokens in the text, which is always exact.
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the number of distinct tokens in the text. In the approximate mode, it is an estimate of
+     * {@link HyperLogLog}.
+     *
+     * @return the number of distinct tokens
+     */
+    public long getDistinctCount() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns k tokens that appeared most often in the text, from the most frequent one. Tokens with the same count are
+     * ordered alphabetically. In the exact mode, it keeps the best k tokens of the map in a min-heap of size k. In the
+     * approximate mode, it sorts the tracked candidates by their estimated counts.
+     *
+     * @param k the number of tokens
+     * @return the list of most frequent tokens
+     * @throws IllegalArgumentException if k is not positive, or it is greater than the number of tracked tokens in the
+     *                                  approximate mode
+     */
+    public List<String> topK(int k) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Checks whether the counts are exact.
+     *
+     * @return {@code true} for stats created by {@link #exact(Path)}
+     */
+    public boolean isExact() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
@@ -0,0 +1,74 @@
+package com.bobocode.se;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * This demo compares memory and time of the exact and approximate modes of {@link TokenStats}. It writes a temporary
+ * corpus of ten million tokens (or the number of millions passed as the first argument), where token frequencies
+ * follow a Zipf-like distribution over a vocabulary of two million words, like in a natural text. Then it prints the
+ * heap used by the stats of both modes, their top ten tokens, and the number of distinct tokens.
+ * <p>
+ * Run it once you've implemented {@link TokenStats}, {@link CountMinSketch} and {@link HyperLogLog}, e.g. with
+ * {@code -Xmx4g}. The exact map takes about a hundred bytes per distinct token (about 100 MB for a million of them),
+ * and it keeps growing with the vocabulary. The sketches take about 120 KB no matter how big the corpus is, the top
+ * tokens are the same, and the distinct count is off by less than one percent.
+ */
+public class TokenStatsBenchmark {
+    static final int VOCABULARY = 2_000_000;
+    static final int TOP = 10;
+
+    public static void main(String[] args) throws IOException {
+        long tokens = (args.length > 0 ? Long.parseLong(args[0]) : 10) * 1_000_000;
+        var file = createCorpus(tokens);
+        try {
+            long usedBefore = usedHeap();
+            long start = System.nanoTime();
+            var exact = TokenStats.exact(file);
+            System.out.printf("Exact: %,d ms, %,d KB of heap%n", (System.nanoTime() - start) / 1_000_000,
+                    (usedHeap() - usedBefore) >> 10);
+            print(exact);
+            exact = null;
+
+            usedBefore = usedHeap();
+            start = System.nanoTime();
+            var approximate = TokenStats.approximate(file, new CountMinSketch(0.001, 0.01), new HyperLogLog(14), TOP);
+            System.out.printf("Approximate: %,d ms, %,d KB of heap%n", (System.nanoTime() - start) / 1_000_000,
+                    (usedHeap() - usedBefore) >> 10);
+            print(approximate);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void print(TokenStats stats) {
+        System.out.printf("  distinct tokens: %,d, top %d: %s%n", stats.getDistinctCount(), TOP, stats.topK(TOP));
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Writes tokens of rank {@code VOCABULARY ^ u} for a uniform random u, which gives a frequency that is roughly
+     * inversely proportional to the rank, so a few tokens are very frequent, and most tokens are rare.
+     */
+    static Path createCorpus(long tokens) throws IOException {
+        var file = Files.createTempFile("corpus", ".txt");
+        var random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long i = 1; i <= tokens; i++) {
+                long rank = (long) Math.pow(VOCABULARY, random.nextDouble());
+                writer.write("word" + rank);
+                writer.write(i % 16 == 0 ? '\n' : ' ');
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,150 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CharacterHistogramTest {
+
+    private static final String MULTI_BYTE_TEXT = "Hello, світ! 你好 🌍🌍 naïve €5\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @Order(1)
+    void countAsciiCharacters() {
+        var histogram = CharacterHistogram.count(writeFile("abracadabra"), 1);
+
+        assertThat(histogram.getCount('a')).isEqualTo(5);
+        assertThat(histogram.getCount('b')).isEqualTo(2);
+        assertThat(histogram.getCount('z')).isZero();
+        assertThat(histogram.getTotalCount()).isEqualTo(11);
+    }
+
+    @Test
+    @Order(2)
+    void countMultiByteCharacters() {
+        var histogram = CharacterHistogram.count(writeFile(MULTI_BYTE_TEXT), 1);
+
+        assertThat(histogram.getCount('с')).isEqualTo(1);
+        assertThat(histogram.getCount('你')).isEqualTo(1);
+        assertThat(histogram.getCount('€')).isEqualTo(1);
+        assertThat(histogram.getCount("🌍".codePointAt(0))).isEqualTo(2);
+        assertThat(histogram.getTotalCount()).isEqualTo(MULTI_BYTE_TEXT.codePointCount(0, MULTI_BYTE_TEXT.length()));
+    }
+
+    @Test
+    @Order(3)
+    void countManyNonBmpCodePoints() {
+        var text = new StringBuilder();
+        for (int codePoint = 0x1F600; codePoint < 0x1F650; codePoint++) {
+            text.appendCodePoint(codePoint).appendCodePoint(codePoint);
+        }
+
+        var histogram = CharacterHistogram.count(writeFile(text.toString()), 1);
+
+        for (int codePoint = 0x1F600; codePoint < 0x1F650; codePoint++) {
+            assertThat(histogram.getCount(codePoint)).isEqualTo(2);
+        }
+        assertThat(histogram.getCount(0x1F650)).isZero();
+    }
+
+    @Test
+    @Order(4)
+    void parallelCountIsTheSameAsExpected() {
+        var text = MULTI_BYTE_TEXT.repeat(100_000);
+        var file = writeFile(text);
+        var expected = text.codePoints().boxed()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        var histogram = CharacterHistogram.count(file, 4);
+
+        expected.forEach((codePoint, count) -> assertThat(histogram.getCount(codePoint)).isEqualTo(count));
+        assertThat(histogram.getTotalCount()).isEqualTo(text.codePointCount(0, text.length()));
+    }
+
+    @Test
+    @Order(5)
+    @SneakyThrows
+    void malformedBytesAreCountedAsReplacementCharacter() {
+        var bytes = new byte[]{'a', (byte) 0xFF, (byte) 0xC3, 'b', (byte) 0xE2};
+        var file = Files.write(tempDir.resolve("broken.txt"), bytes);
+
+        var histogram = CharacterHistogram.count(file, 1);
+
+        assertThat(histogram.getCount('a')).isEqualTo(1);
+        assertThat(histogram.getCount('b')).isEqualTo(1);
+        assertThat(histogram.getCount(0xFFFD)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    void getMostFrequentCodePointIgnoresWhitespaces() {
+        var histogram = CharacterHistogram.count(writeFile("a  b  b  \n\n\n"), 1);
+
+        assertThat(histogram.getMostFrequentCodePoint()).isEqualTo('b');
+        assertThat(CharacterHistogram.count(writeFile(" \n"), 1).getMostFrequentCodePoint()).isEqualTo(-1);
+    }
+
+    @Test
+    @Order(7)
+    void mergeAddsCounters() {
+        var histogram = CharacterHistogram.count(writeFile("aab🌍"), 1);
+        var other = CharacterHistogram.count(writeFile("bc🌍🌍"), 1);
+
+        histogram.merge(other);
+
+        assertThat(histogram.getCount('a')).isEqualTo(2);
+        assertThat(histogram.getCount('b')).isEqualTo(2);
+        assertThat(histogram.getCount('c')).isEqualTo(1);
+        assertThat(histogram.getCount("🌍".codePointAt(0))).isEqualTo(3);
+        assertThat(histogram.getTotalCount()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(8)
+    void countThrowsExceptionWhenParallelismIsNotPositive() {
+        var file = writeFile("abc");
+
+        assertThatThrownBy(() -> CharacterHistogram.count(file, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(9)
+    void countNonExistingFile() {
+        assertThatThrownBy(() -> CharacterHistogram.count(tempDir.resolve("blahblah.txt"), 1))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(10)
+    @SneakyThrows
+    void createFileStatsFromPath() {
+        var path = Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("sotl.txt")).toURI());
+
+        FileStats fileStats = FileStats.from(path, 4);
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(2345);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('e');
+        assertThat(fileStats.containsCharacter(' ')).isFalse();
+    }
+
+    @SneakyThrows
+    private Path writeFile(String text) {
+        return Files.writeString(Files.createTempFile(tempDir, "text", ".txt"), text, StandardCharsets.UTF_8);
+    }
+}
@@ -1,15 +1,25 @@
 package com.bobocode.se;
 
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import static org.assertj.core.api.Assertions.*;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class FileStatsTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     @Order(1)
     void createFileStatsFromExistingFile() {
@@ -66,4 +76,144 @@ public class FileStatsTest {
         assertThat(springArticleContainsExistingCharacter).isTrue();
         assertThat(springArticleContainsWhitespace).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void mergeAddsCharacterCounts() {
+        FileStats lambdaArticleFileStats = FileStats.from("sotl.txt");
+        FileStats springCloudArticleFileStats = FileStats.from("scosb.txt");
+
+        FileStats mergedFileStats = FileStats.merge(lambdaArticleFileStats, springCloudArticleFileStats);
+
+        assertThat(mergedFileStats.getCharCount('a')).isEqualTo(
+                lambdaArticleFileStats.getCharCount('a') + springCloudArticleFileStats.getCharCount('a'));
+        assertThat(mergedFileStats.getCharCount('b')).isEqualTo(
+                lambdaArticleFileStats.getCharCount('b') + springCloudArticleFileStats.getCharCount('b'));
+        assertThat(mergedFileStats.containsCharacter(' ')).isFalse();
+        assertThat(mergedFileStats.getOffset()).isEqualTo(-1);
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void updateReadsOnlyAppendedBytes() {
+        Path file = Files.writeString(tempDir.resolve("log.txt"), "aaa");
+        FileStats fileStats = FileStats.from(file, 1);
+        Files.writeString(file, "zzz");
+        Files.writeString(file, "bbbb", StandardOpenOption.APPEND);
+
+        FileStats updatedFileStats = FileStats.update(fileStats, file);
+
+        assertThat(updatedFileStats.getCharCount('a')).isEqualTo(3);
+        assertThat(updatedFileStats.getCharCount('z')).isZero();
+        assertThat(updatedFileStats.getCharCount('b')).isEqualTo(4);
+        assertThat(updatedFileStats.getOffset()).isEqualTo(7);
+        assertThat(fileStats.getCharCount('b')).isZero();
+    }
+
+    @Test
+    @Order(8)
+    @SneakyThrows
+    void updateCountsCharacterThatWasIncomplete() {
+        byte[] bytes = "є".getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(tempDir.resolve("log.txt"), new byte[]{'a', bytes[0]});
+        FileStats fileStats = FileStats.from(file, 1);
+        Files.write(file, new byte[]{bytes[1]}, StandardOpenOption.APPEND);
+
+        FileStats updatedFileStats = FileStats.update(fileStats, file);
+
+        assertThat(fileStats.getOffset()).isEqualTo(1);
+        assertThat(fileStats.containsCharacter('є')).isFalse();
+        assertThat(updatedFileStats.getCharCount('є')).isEqualTo(1);
+        assertThat(updatedFileStats.getCharCount('\uFFFD')).isZero();
+        assertThat(updatedFileStats.getOffset()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(9)
+    @SneakyThrows
+    void updateCountsTruncatedFileFromScratch() {
+        Path file = Files.writeString(tempDir.resolve("log.txt"), "aaaa");
+        FileStats fileStats = FileStats.from(file, 1);
+        Files.writeString(file, "bb");
+
+        FileStats updatedFileStats = FileStats.update(fileStats, file);
+
+        assertThat(updatedFileStats.getCharCount('a')).isZero();
+        assertThat(updatedFileStats.getCharCount('b')).isEqualTo(2);
+    }
+
+    @Test
+    @Order(10)
+    void updateThrowsExceptionForMergedStats() {
+        FileStats mergedFileStats = FileStats.merge(FileStats.from("sotl.txt"), FileStats.from("scosb.txt"));
+
+        assertThatThrownBy(() -> FileStats.update(mergedFileStats, tempDir))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(11)
+    @SneakyThrows
+    void createFileStatsFromDirectory() {
+        Files.writeString(tempDir.resolve("first.txt"), "abc");
+        Files.writeString(tempDir.resolve("second.txt"), "bcd");
+        Files.createDirectory(tempDir.resolve("nested"));
+        Files.writeString(tempDir.resolve("nested").resolve("third.txt"), "c d e");
+
+        FileStats fileStats = FileStats.fromDirectory(tempDir, 2);
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('b')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('c')).isEqualTo(3);
+        assertThat(fileStats.getCharCount('d')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('e')).isEqualTo(1);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('c');
+    }
+
+    @Test
+    @Order(12)
+    void createFileStatsFromNonExistingDirectory() {
+        assertThatThrownBy(() -> FileStats.fromDirectory(tempDir.resolve("blahblah"), 2))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(13)
+    @SneakyThrows
+    void topK() {
+        var file = tempDir.resolve("text.txt");
+        Files.writeString(file, "abracadabra dada");
+
+        FileStats fileStats = FileStats.from(file, 1);
+
+        assertThat(fileStats.topK(3)).containsExactly('a', 'd', 'b');
+        assertThat(fileStats.topK(10)).containsExactly('a', 'd', 'b', 'r', 'c');
+        assertThat(FileStats.from("sotl.txt").topK(1)).containsExactly('e');
+    }
+
+    @Test
+    @Order(14)
+    void topKThrowsExceptionWhenKIsNotPositive() {
+        FileStats fileStats = FileStats.from("sotl.txt");
+
+        assertThatThrownBy(() -> fileStats.topK(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(15)
+    @SneakyThrows
+    void codePointsOutsideBmpAreCountedAsWhole() {
+        var file = tempDir.resolve("text.txt");
+        Files.writeString(file, "\uD83E\uDD8A\uD83E\uDD8A\uD83E\uDD8A ab a");
+
+        FileStats fileStats = FileStats.from(file, 1);
+
+        assertThat(fileStats.getCodePointCount(0x1F98A)).isEqualTo(3);
+        assertThat(fileStats.getCodePointCount('a')).isEqualTo(2);
+        assertThat(fileStats.getCodePointCount(' ')).isZero();
+        assertThat(fileStats.getCharCount('\uD83E')).isZero();
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+        assertThat(fileStats.topK(5)).containsExactly('a', 'b');
+    }
+}
@@ -0,0 +1,151 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TokenStatsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @Order(1)
+    void exactCountsLowerCaseTokens() {
+        var stats = TokenStats.exact(writeFile("Don't stop, DON'T!\nстоп stop-stop 42"));
+
+        assertThat(stats.isExact()).isTrue();
+        assertThat(stats.getCount("don")).isEqualTo(2);
+        assertThat(stats.getCount("t")).isEqualTo(2);
+        assertThat(stats.getCount("stop")).isEqualTo(3);
+        assertThat(stats.getCount("стоп")).isEqualTo(1);
+        assertThat(stats.getCount("42")).isEqualTo(1);
+        assertThat(stats.getCount("go")).isZero();
+        assertThat(stats.getTotalCount()).isEqualTo(9);
+        assertThat(stats.getDistinctCount()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(2)
+    void exactTopK() {
+        var stats = TokenStats.exact(writeFile("b a c b a b d"));
+
+        assertThat(stats.topK(2)).containsExactly("b", "a");
+        assertThat(stats.topK(10)).containsExactly("b", "a", "c", "d");
+        assertThatThrownBy(() -> stats.topK(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(3)
+    void countMinSketchNeverUnderestimates() {
+        var sketch = new CountMinSketch(0.01, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            for (int j = 0; j <= i % 10; j++) {
+                sketch.add("token" + i);
+            }
+        }
+
+        assertThat(sketch.getTotalCount()).isEqualTo(5500);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimateCount("token" + i)).isGreaterThanOrEqualTo(i % 10 + 1);
+        }
+    }
+
+    @Test
+    @Order(4)
+    void countMinSketchErrorIsWithinBounds() {
+        double epsilon = 0.001;
+        var sketch = new CountMinSketch(epsilon, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("token" + i);
+        }
+
+        long maxError = (long) (epsilon * sketch.getTotalCount());
+        long tokensOutOfBounds = IntStream.range(0, 100_000)
+                .filter(i -> sketch.estimateCount("token" + i) - 1 > maxError)
+                .count();
+        assertThat(tokensOutOfBounds).isLessThanOrEqualTo(1000);
+        assertThat(sketch.getSizeInBytes()).isEqualTo(2719 * 5 * 8);
+    }
+
+    @Test
+    @Order(5)
+    void countMinSketchThrowsExceptionForWrongParameters() {
+        assertThatThrownBy(() -> new CountMinSketch(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(0.01, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(6)
+    void hyperLogLogEstimatesDistinctCount() {
+        for (int distinctCount : new int[]{10, 1000, 100_000}) {
+            var hyperLogLog = new HyperLogLog(12);
+            for (int i = 0; i < distinctCount; i++) {
+                hyperLogLog.add("token" + i);
+                hyperLogLog.add("token" + i);
+            }
+
+            assertThat(hyperLogLog.estimate()).isCloseTo(distinctCount, withinPercentage(5));
+        }
+    }
+
+    @Test
+    @Order(7)
+    void hyperLogLogThrowsExceptionForWrongPrecision() {
+        assertThat(new HyperLogLog(14).getSizeInBytes()).isEqualTo(16384);
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(19)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(8)
+    void approximateFindsSameTopTokensAsExact() {
+        var file = writeFile(IntStream.range(0, 20_000)
+                .mapToObj(i -> i % 4 == 0 ? "the" : i % 5 == 0 ? "lambda" : i % 7 == 0 ? "stream" : "word" + i)
+                .collect(Collectors.joining(" ")));
+        var exact = TokenStats.exact(file);
+
+        var approximate = TokenStats.approximate(file, new CountMinSketch(0.001, 0.01), new HyperLogLog(14), 10);
+
+        assertThat(approximate.isExact()).isFalse();
+        assertThat(approximate.topK(3)).containsExactlyElementsOf(exact.topK(3));
+        assertThat(approximate.getTotalCount()).isEqualTo(exact.getTotalCount());
+        assertThat(approximate.getCount("the")).isBetween(exact.getCount("the"),
+                exact.getCount("the") + (long) (0.001 * exact.getTotalCount()));
+        assertThat(approximate.getDistinctCount()).isCloseTo(exact.getDistinctCount(), withinPercentage(3));
+    }
+
+    @Test
+    @Order(9)
+    void approximateTopKThrowsExceptionWhenKIsGreaterThanTracked() {
+        var stats = TokenStats.approximate(writeFile("b a c b a b d"), new CountMinSketch(0.01, 0.01),
+                new HyperLogLog(10), 2);
+
+        assertThat(stats.topK(2)).containsExactly("b", "a");
+        assertThatThrownBy(() -> stats.topK(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(10)
+    void tokenStatsOfNonExistingFile() {
+        assertThatThrownBy(() -> TokenStats.exact(tempDir.resolve("blahblah.txt")))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @SneakyThrows
+    private Path writeFile(String text) {
+        return Files.writeString(Files.createTempFile(tempDir, "text", ".txt"), text, StandardCharsets.UTF_8);
+    }
+}
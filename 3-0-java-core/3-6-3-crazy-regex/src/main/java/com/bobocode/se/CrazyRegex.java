@@ -10,10 +10,32 @@ import java.util.regex.Pattern;
  * throws {@link ExerciseNotCompletedException}
  * <p>
  * TODO: remove exception and implement each method of this class using {@link Pattern}
+ * <p>
+ * The methods are supposed to be called very often (e.g. for every line of a log), so instead of
+ * {@link Pattern#compile(String)} they get patterns from a {@link PatternRegistry}. This way every regex is compiled
+ * only once, and every call of a method returns the same {@link Pattern} instance. The replace methods use
+ * {@link PatternRegistry#matcher(Pattern, CharSequence)} as well, so they do not create a new matcher on every call.
+ * All instances created via the default constructor share the same registry.
  *
  * @author Andriy Paliychuk
  */
 public class CrazyRegex {
+    private static final PatternRegistry DEFAULT_REGISTRY = new PatternRegistry();
+
+    private final PatternRegistry registry;
+
+    public CrazyRegex() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates an instance that gets patterns from a given registry.
+     *
+     * @param registry a registry of compiled patterns
+     */
+    public CrazyRegex(PatternRegistry registry) {
+        this.registry = registry;
+    }
 
     /**
      * A Pattern that that finds all words "Curiosity" in text
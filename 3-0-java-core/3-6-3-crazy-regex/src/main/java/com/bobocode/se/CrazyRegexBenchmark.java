@@ -0,0 +1,87 @@
+package com.bobocode.se;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This demo compares three ways to scrub a log file line by line using {@link CrazyRegex} patterns of emails, phone
+ * numbers and dates: compiling a pattern on every call (what {@link Pattern#compile(String)} inside every method
+ * does), getting a cached pattern and creating a new {@link Matcher} for every line, and reusing a matcher of this
+ * thread via {@link PatternRegistry#matcher(Pattern, CharSequence)}. It writes a temporary log of 256 MB (or the
+ * number of megabytes passed as the first argument, e.g. 1024 for a 1 GB log), and prints the time and the number of
+ * matches of every way in two rounds, since the first one also warms up the JIT.
+ * <p>
+ * Run it once you've implemented {@link CrazyRegex} and {@link PatternRegistry}. Compiling a pattern parses the regex
+ * and builds its node tree, work that cached patterns do only once, so expect the per-call compile to be the slowest,
+ * and the more so the shorter the lines and the more complex the regexes. A short-lived matcher is cheap to allocate,
+ * so reusing matchers may not be noticeably faster in a single thread, but it removes an allocation of the matcher and
+ * its group arrays per line, which matters when many threads scrub logs at the same time.
+ */
+public class CrazyRegexBenchmark {
+    static final int ROUNDS = 2;
+    static final String[] LINES = {
+            "2015-05-30 12:00:01 INFO user terek.koval@gmail.com logged in from (412)555-1212",
+            "2015-05-30 12:00:02 WARN retrying request to https://www.google.com, attempt 2 of 5",
+            "2015-05-30 12:00:03 INFO sent a confirmation to johnsmith@yahoo.com and 646.555.1234",
+            "2015-05-30 12:00:04 DEBUG cache hit ratio is 0.97, no action required"
+    };
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 256;
+        var file = createLog(megabytes << 20);
+        var crazyRegex = new CrazyRegex();
+        var registry = new PatternRegistry();
+        var patterns = List.of(crazyRegex.findAllEmails(), crazyRegex.findAllPatternsForPhoneNumbers(),
+                crazyRegex.findDates());
+        try {
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.printf("Round %d%n", round);
+                scrub("Compile on every call", file, patterns, (pattern, line) -> Pattern.compile(pattern.pattern(),
+                        pattern.flags()).matcher(line));
+                scrub("Cached patterns", file, patterns, Pattern::matcher);
+                scrub("Cached patterns and matchers", file, patterns, registry::matcher);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static void scrub(String name, Path file, List<Pattern> patterns,
+                      BiFunction<Pattern, String, Matcher> matcherFactory) throws IOException {
+        long start = System.nanoTime();
+        long matches = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (var pattern : patterns) {
+                    var matcher = matcherFactory.apply(pattern, line);
+                    while (matcher.find()) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        System.out.printf("  %s: %,d ms (%,d matches)%n", name, (System.nanoTime() - start) / 1_000_000, matches);
+    }
+
+    static Path createLog(long size) throws IOException {
+        var file = Files.createTempFile("crazy-regex", ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long written = 0, i = 0; written < size; i++) {
+                var line = LINES[(int) (i % LINES.length)];
+                writer.write(line);
+                writer.newLine();
+                written += line.length() + 1;
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,66 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {@link MultiPatternScanner} finds matches of several patterns in a single pass over the input, instead of running
+ * {@link java.util.regex.Matcher#find()} of every pattern separately, which scans the input once per pattern.
+ * <p>
+ * All patterns are combined into one alternation where every pattern is wrapped into a named group, e.g. emails and
+ * dates become {@code (?<emails>[\w.]+@...)|(?<dates>\d{4}-\d{2}-\d{2})}. When the combined pattern finds a match,
+ * the only group that participated in it tells which pattern matched the span. To keep every pattern working the same
+ * way inside the alternation:
+ * <ul>
+ *     <li>its flags are turned into an inline group, e.g. {@code (?i:...)} for {@link Pattern#CASE_INSENSITIVE}</li>
+ *     <li>its numbered back references are shifted by the number of groups before it, including the named groups
+ *     that wrap the patterns, e.g. {@code \1} of the second pattern becomes {@code \4} if the first pattern has one
+ *     capturing group</li>
+ * </ul>
+ * The result is the same as running every pattern separately only when their matches do not overlap. At every
+ * position, the alternation tries the patterns in the given order, and a match hides the matches of other patterns
+ * that start inside it. E.g. if numbers go before phone numbers, "412-555-1234" is reported as three numbers. So
+ * more specific patterns are supposed to go first.
+ * <p>
+ * Please note that {@link Pattern} is a backtracking engine, so the alternation tries the patterns one by one at
+ * every position of the input, and a single pass does about the same work as running the patterns separately. The
+ * scanner gives one ordered list of labelled spans instead of a list per pattern, while a real speed-up would require
+ * an automaton that checks all patterns at once for every character.
+ */
+public class MultiPatternScanner {
+
+    /**
+     * Creates a scanner of given named patterns. The iteration order of the map is the priority of the patterns.
+     *
+     * @param patterns patterns by their names, every name must start with a letter and contain only letters and
+     *                 digits, like the name of a group
+     * @throws IllegalArgumentException if there are no patterns, some name is not a valid group name, or some pattern
+     *                                  has flags that cannot be inlined ({@link Pattern#LITERAL} or
+     *                                  {@link Pattern#CANON_EQ})
+     */
+    public MultiPatternScanner(Map<String, Pattern> patterns) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Finds all matches of the patterns in a single pass over the input.
+     *
+     * @param input a text to scan
+     * @return matches in the order of their positions
+     */
+    public List<ScanMatch> scan(CharSequence input) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the combined pattern.
+     *
+     * @return an alternation of all patterns wrapped into named groups
+     */
+    public Pattern getCombinedPattern() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
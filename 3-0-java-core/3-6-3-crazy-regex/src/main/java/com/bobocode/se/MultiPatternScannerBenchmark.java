@@ -0,0 +1,75 @@
+package com.bobocode.se;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * This demo compares the throughput of two ways to find matches of several {@link CrazyRegex} patterns (emails, phone
+ * numbers, links, zip codes, dates and abbreviations) in a log file: looping over the individual patterns for every
+ * line, and scanning every line once using a {@link MultiPatternScanner}. It writes a temporary log of 256 MB (or the
+ * number of megabytes passed as the first argument) using {@link CrazyRegexBenchmark#createLog(long)}, and prints the
+ * time, the throughput and the number of matches of both ways in two rounds, since the first one also warms up the
+ * JIT.
+ * <p>
+ * Run it once you've implemented {@link CrazyRegex} and {@link MultiPatternScanner}. The demo assumes that the
+ * matches of these patterns do not overlap in the log, so both ways should find the same number of matches. If they
+ * overlapped, the scanner would hide the matches that start inside an earlier one, and find fewer. Don't expect the
+ * scanner to be much faster: {@link Pattern} is a backtracking engine, so at every position the alternation still
+ * tries the patterns one by one, and it does the same work as looping over them, plus the groups. The lines are short
+ * and stay in the CPU cache, so reading every line once does not save much either.
+ */
+public class MultiPatternScannerBenchmark {
+    static final int ROUNDS = 2;
+
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 256;
+        var file = CrazyRegexBenchmark.createLog(megabytes << 20);
+        var crazyRegex = new CrazyRegex();
+        var patterns = new LinkedHashMap<String, Pattern>();
+        patterns.put("emails", crazyRegex.findAllEmails());
+        patterns.put("phones", crazyRegex.findAllPatternsForPhoneNumbers());
+        patterns.put("links", crazyRegex.findOnlyLinksInNote());
+        patterns.put("zipCodes", crazyRegex.findZipCodes());
+        patterns.put("dates", crazyRegex.findDates());
+        patterns.put("abbreviations", crazyRegex.findAbbreviation());
+        var scanner = new MultiPatternScanner(patterns);
+        try {
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.printf("Round %d%n", round);
+                run("Individual patterns", file, megabytes, line -> {
+                    int matches = 0;
+                    for (var pattern : patterns.values()) {
+                        var matcher = pattern.matcher(line);
+                        while (matcher.find()) {
+                            matches++;
+                        }
+                    }
+                    return matches;
+                });
+                run("MultiPatternScanner", file, megabytes, line -> scanner.scan(line).size());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static void run(String name, Path file, long megabytes, ToIntFunction<String> countMatches) throws IOException {
+        long start = System.nanoTime();
+        long matches = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                matches += countMatches.applyAsInt(line);
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("  %s: %,d ms, %,.1f MB/s (%,d matches)%n", name, millis, megabytes * 1000.0 / millis,
+                matches);
+    }
+}
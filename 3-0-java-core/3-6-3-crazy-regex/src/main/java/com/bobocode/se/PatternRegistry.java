@@ -0,0 +1,68 @@
+package com.bobocode.se;
+
+import com.bobocode.util.ExerciseNotCompletedException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PatternRegistry} is a thread-safe cache of compiled patterns. Compiling a regex into a {@link Pattern} takes
+ * much more time than matching a short string, so a code that calls {@link Pattern#compile(String)} for every line of a
+ * log spends most of the time compiling the same regex again and again.
+ * <p>
+ * A {@link Pattern} is immutable and can be safely shared between threads, so the registry compiles every regex only
+ * once and then returns the same instance to all callers (e.g. using {@link java.util.concurrent.ConcurrentHashMap}).
+ * A {@link Matcher} is not thread-safe, but it can be reused for a new input via {@link Matcher#reset(CharSequence)}
+ * without allocating a new one, so the registry also keeps one matcher per pattern for every thread (e.g. using
+ * {@link ThreadLocal}).
+ */
+public class PatternRegistry {
+
+    /**
+     * Returns a pattern compiled from a given regex. The regex is compiled only on the first call, and all further
+     * calls from any thread return the same instance.
+     *
+     * @param regex a regular expression
+     * @return a shared compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    public Pattern compile(String regex) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a pattern compiled from a given regex with given flags (e.g. {@link Pattern#CASE_INSENSITIVE}). The same
+     * regex with different flags is a different pattern.
+     *
+     * @param regex a regular expression
+     * @param flags match flags
+     * @return a shared compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    public Pattern compile(String regex, int flags) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns a matcher of a given pattern that is reset onto a given input. Every thread gets its own matcher of the
+     * pattern, and the same thread gets the same matcher on every call. So the matcher must not be passed to other
+     * threads, and it must not be used after the next call with the same pattern in the same thread, since that call
+     * resets it onto another input.
+     *
+     * @param pattern a pattern
+     * @param input   a text to match
+     * @return a reusable matcher of this thread
+     */
+    public Matcher matcher(Pattern pattern, CharSequence input) {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+
+    /**
+     * Returns the number of compiled patterns.
+     *
+     * @return the number of distinct regex and flags pairs
+     */
+    public int size() {
+        throw new ExerciseNotCompletedException(); //todo
+    }
+}
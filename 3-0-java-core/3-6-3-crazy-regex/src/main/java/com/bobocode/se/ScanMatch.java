@@ -0,0 +1,12 @@
+package com.bobocode.se;
+
+/**
+ * {@link ScanMatch} is a span of the input matched by one of the patterns of a {@link MultiPatternScanner}.
+ *
+ * @param name  the name of the pattern that matched the span
+ * @param start the index of the first character of the span
+ * @param end   the index after the last character of the span
+ * @param value the matched text
+ */
+public record ScanMatch(String name, int start, int end, String value) {
+}
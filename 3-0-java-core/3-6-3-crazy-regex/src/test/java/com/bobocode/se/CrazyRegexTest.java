@@ -223,6 +223,20 @@ public class CrazyRegexTest {
         );
     }
 
+    @Test
+    @Order(25)
+    void patternsAreCompiledOnce() {
+        var registry = new PatternRegistry();
+        var crazyRegexWithRegistry = new CrazyRegex(registry);
+
+        Pattern emails = crazyRegexWithRegistry.findAllEmails();
+        Pattern dates = crazyRegexWithRegistry.findDates();
+
+        assertThat(crazyRegexWithRegistry.findAllEmails()).isSameAs(emails);
+        assertThat(new CrazyRegex(registry).findDates()).isSameAs(dates);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
     private String regexChecker(Pattern pattern, String str2WorkWith) {
         Matcher matcher = pattern.matcher(str2WorkWith);
         StringBuilder stringBuilder = new StringBuilder();
@@ -0,0 +1,141 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A test class for {@link MultiPatternScanner}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MultiPatternScannerTest {
+
+    private final CrazyRegex crazyRegex = new CrazyRegex();
+
+    @Test
+    @Order(1)
+    void scanReportsPatternOfEverySpan() {
+        var scanner = new MultiPatternScanner(patterns(
+                "emails", crazyRegex.findAllEmails(),
+                "phones", crazyRegex.findAllPatternsForPhoneNumbers(),
+                "dates", crazyRegex.findDates()));
+
+        var matches = scanner.scan("2015-05-30 terek@koval.net called (412)555-1212");
+
+        assertThat(matches).containsExactly(
+                new ScanMatch("dates", 0, 10, "2015-05-30"),
+                new ScanMatch("emails", 11, 26, "terek@koval.net"),
+                new ScanMatch("phones", 34, 47, "(412)555-1212"));
+    }
+
+    @Test
+    @Order(2)
+    void scanFindsSameMatchesAsIndividualPatterns() {
+        var patterns = patterns(
+                "emails", crazyRegex.findAllEmails(),
+                "phones", crazyRegex.findAllPatternsForPhoneNumbers(),
+                "links", crazyRegex.findOnlyLinksInNote(),
+                "zipCodes", crazyRegex.findZipCodes(),
+                "abbreviations", crazyRegex.findAbbreviation());
+        var text = readWholeFile("note.txt");
+
+        var expected = new ArrayList<ScanMatch>();
+        patterns.forEach((name, pattern) -> {
+            var matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                expected.add(new ScanMatch(name, matcher.start(), matcher.end(), matcher.group()));
+            }
+        });
+        expected.sort(Comparator.comparingInt(ScanMatch::start));
+
+        assertThat(new MultiPatternScanner(patterns).scan(text)).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(3)
+    void earlierPatternWinsWhenMatchesOverlap() {
+        var numbersFirst = new MultiPatternScanner(patterns(
+                "numbers", crazyRegex.findAllNumbers(),
+                "phones", crazyRegex.findSimplePhoneNumber()));
+        var phonesFirst = new MultiPatternScanner(patterns(
+                "phones", crazyRegex.findSimplePhoneNumber(),
+                "numbers", crazyRegex.findAllNumbers()));
+
+        assertThat(numbersFirst.scan("412-555-1234")).extracting(ScanMatch::name)
+                .containsExactly("numbers", "numbers", "numbers");
+        assertThat(phonesFirst.scan("412-555-1234 and 30")).containsExactly(
+                new ScanMatch("phones", 0, 12, "412-555-1234"),
+                new ScanMatch("numbers", 17, 19, "30"));
+    }
+
+    @Test
+    @Order(4)
+    void backReferencesAreShifted() {
+        var emails = crazyRegex.findAllEmails();
+        var names = Pattern.compile("(\\w+), (\\w+)");
+        var duplicates = Pattern.compile("\\b(\\w+)\\s\\1\\b");
+        var scanner = new MultiPatternScanner(patterns("emails", emails, "names", names, "duplicates", duplicates));
+
+        var matches = scanner.scan("Tarasenko, Nazar wrote to terek@koval.net why why [\\1]");
+
+        assertThat(matches).extracting(ScanMatch::value)
+                .containsExactly("Tarasenko, Nazar", "terek@koval.net", "why why");
+        int groupsBefore = 1 + groupCount(emails) + 1 + groupCount(names) + 1;
+        assertThat(scanner.getCombinedPattern().pattern())
+                .contains("\\b(\\w+)\\s\\" + (groupsBefore + 1) + "\\b");
+    }
+
+    @Test
+    @Order(5)
+    void flagsAreInlined() {
+        var scanner = new MultiPatternScanner(patterns(
+                "curiosity", Pattern.compile("curiosity", Pattern.CASE_INSENSITIVE),
+                "rover", Pattern.compile("rover")));
+
+        assertThat(scanner.scan("Curiosity rover ROVER CURIOSITY")).extracting(ScanMatch::value)
+                .containsExactly("Curiosity", "rover", "CURIOSITY");
+    }
+
+    @Test
+    @Order(6)
+    void constructorThrowsExceptionForWrongPatterns() {
+        assertThatThrownBy(() -> new MultiPatternScanner(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MultiPatternScanner(Map.of("zip-codes", Pattern.compile("\\d{5}"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MultiPatternScanner(Map.of("braces", Pattern.compile("{", Pattern.LITERAL))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, Pattern> patterns(Object... namesAndPatterns) {
+        var patterns = new LinkedHashMap<String, Pattern>();
+        for (int i = 0; i < namesAndPatterns.length; i += 2) {
+            patterns.put((String) namesAndPatterns[i], (Pattern) namesAndPatterns[i + 1]);
+        }
+        return patterns;
+    }
+
+    private int groupCount(Pattern pattern) {
+        return pattern.matcher("").groupCount();
+    }
+
+    @SneakyThrows
+    private String readWholeFile(String fileName) {
+        Path filePath = Path.of(CrazyRegex.class.getClassLoader().getResource(fileName).toURI());
+        return String.join("\n", Files.readAllLines(filePath));
+    }
+}
@@ -0,0 +1,124 @@
+package com.bobocode.se;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A test class for {@link PatternRegistry}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PatternRegistryTest {
+
+    private final PatternRegistry registry = new PatternRegistry();
+
+    @Test
+    @Order(1)
+    void compileReturnsSameInstanceForSameRegex() {
+        Pattern pattern = registry.compile("\\d+");
+
+        assertThat(registry.compile("\\d+")).isSameAs(pattern);
+        assertThat(pattern.pattern()).isEqualTo("\\d+");
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void compileReturnsDifferentInstancesForDifferentFlags() {
+        Pattern pattern = registry.compile("curiosity");
+        Pattern caseInsensitivePattern = registry.compile("curiosity", Pattern.CASE_INSENSITIVE);
+
+        assertThat(caseInsensitivePattern).isNotSameAs(pattern);
+        assertThat(caseInsensitivePattern.flags()).isEqualTo(Pattern.CASE_INSENSITIVE);
+        assertThat(registry.compile("curiosity", 0)).isSameAs(pattern);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    void compileThrowsExceptionForWrongRegex() {
+        assertThatThrownBy(() -> registry.compile("(\\d+")).isInstanceOf(PatternSyntaxException.class);
+    }
+
+    @Test
+    @Order(4)
+    void matcherIsReusedAndResetOntoNewInput() {
+        Pattern pattern = registry.compile("\\d+");
+
+        Matcher matcher = registry.matcher(pattern, "abc 412 def 555");
+        assertThat(matcher.find()).isTrue();
+        assertThat(matcher.group()).isEqualTo("412");
+
+        Matcher sameMatcher = registry.matcher(pattern, "1971-11-23");
+        assertThat(sameMatcher).isSameAs(matcher);
+        assertThat(sameMatcher.find()).isTrue();
+        assertThat(sameMatcher.group()).isEqualTo("1971");
+    }
+
+    @Test
+    @Order(5)
+    void differentPatternsHaveDifferentMatchers() {
+        Matcher numbers = registry.matcher(registry.compile("\\d+"), "412 abc");
+        Matcher words = registry.matcher(registry.compile("[a-z]+"), "412 abc");
+
+        assertThat(numbers).isNotSameAs(words);
+        assertThat(numbers.find()).isTrue();
+        assertThat(words.find()).isTrue();
+        assertThat(numbers.group()).isEqualTo("412");
+        assertThat(words.group()).isEqualTo("abc");
+    }
+
+    @Test
+    @Order(6)
+    @SneakyThrows
+    void everyThreadGetsItsOwnMatcher() {
+        Pattern pattern = registry.compile("\\d+");
+        Matcher matcher = registry.matcher(pattern, "412");
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Matcher otherThreadMatcher = executor.submit(() -> registry.matcher(pattern, "555")).get();
+            assertThat(otherThreadMatcher).isNotSameAs(matcher);
+            assertThat(executor.submit(() -> registry.matcher(pattern, "646")).get()).isSameAs(otherThreadMatcher);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Order(7)
+    @SneakyThrows
+    void concurrentCallsCompileRegexOnce() {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<Future<Pattern>>();
+            for (int i = 0; i < 1000; i++) {
+                Callable<Pattern> compile = () -> registry.compile("[\\w.]+@[\\w.]+\\.(com|net|edu)");
+                futures.add(executor.submit(compile));
+            }
+
+            var patterns = new HashSet<Pattern>();
+            for (var future : futures) {
+                patterns.add(future.get());
+            }
+            assertThat(patterns).hasSize(1);
+            assertThat(registry.size()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}